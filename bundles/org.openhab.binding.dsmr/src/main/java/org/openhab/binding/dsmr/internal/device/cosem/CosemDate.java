@@ -13,18 +13,15 @@
 package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.temporal.ChronoField;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.library.types.DateTimeType;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * CosemDate represents a datetime value and will try to autodetect the format
@@ -41,45 +38,15 @@ class CosemDate extends CosemValueDescriptor<DateTimeType> {
      */
     public static final String INVALID_METER_VALUE = "632525252525W";
 
-    private final Logger logger = LoggerFactory.getLogger(CosemDate.class);
+    /**
+     * Layout of the DSMR V2 format, 'd' marks a digit
+     */
+    private static final String DSMR_V2_LAYOUT = "dd-dd-dd dd:dd:dd";
 
     public CosemDate(String ohChannelId) {
         super(ohChannelId);
     }
 
-    /**
-     * This enum contains the known date formats for the DSMR-specification
-     */
-    private enum CosemDateFormat {
-        /*
-         * Ignore DST setting for general format. We use local time that is already DST
-         */
-        COSEM_DATE_GENERAL("(\\d{12})([S,W]?)", "yyMMddHHmmss"),
-        COSEM_DATE_DSMR_V2("(\\d{2}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})", "yy-MM-dd HH:mm:ss");
-
-        /**
-         * Cached compiled pattern
-         */
-        private final Pattern pattern;
-
-        /**
-         * Cached java date formatter
-         */
-        private final DateTimeFormatter formatter;
-
-        /**
-         * Constructs a new CosemDateFormat
-         *
-         * @param regex String containing the regular expression to check the value against (the date format
-         *            should at least contain 1 regex group
-         * @param javaDateFormat String containing the datetime format to use for parsing
-         */
-        private CosemDateFormat(String regex, String javaDateFormat) {
-            pattern = Pattern.compile(regex);
-            formatter = DateTimeFormatter.ofPattern(javaDateFormat);
-        }
-    }
-
     /**
      * Parses a String value to an openHAB DateTimeType
      * <p>
@@ -92,6 +59,7 @@ class CosemDate extends CosemValueDescriptor<DateTimeType> {
      * <li>'S'. Specifies a summer time (DST = 1) datetime
      * <li>'W'. Specifies a winter time (DST = 0) datetime
      * </ul>
+     * The DSMR V2 format yy-MM-dd HH:mm:ss is also supported.
      *
      * @param cosemValue the value to parse
      * @return {@link DateTimeType} representing the value the cosem value
@@ -99,26 +67,90 @@ class CosemDate extends CosemValueDescriptor<DateTimeType> {
      */
     @Override
     protected DateTimeType getStateValue(String cosemValue) throws ParseException {
-        for (CosemDateFormat cosemDateFormat : CosemDateFormat.values()) {
-            logger.trace("Trying pattern: {}", cosemDateFormat.pattern);
-
-            Matcher m = cosemDateFormat.pattern.matcher(cosemValue);
-
-            if (m.matches()) {
-                logger.trace("{} matches pattern: {}", cosemValue, cosemDateFormat.pattern);
-
-                try {
-                    LocalDateTime localDateTime = LocalDateTime.parse(m.group(1), cosemDateFormat.formatter);
-                    return new DateTimeType(ZonedDateTime.of(localDateTime, ZoneId.systemDefault()));
-                } catch (DateTimeParseException e) {
-                    if (INVALID_METER_VALUE.equals(cosemValue)) {
-                        throw new ParseException(
-                                "Cosem value: '" + cosemValue + "' might indicate something is wrong with the meter.",
-                                0);
-                    }
-                }
+        try {
+            if (isGeneralFormat(cosemValue)) {
+                // Ignore DST setting for general format. We use local time that is already DST
+                return toDateTimeType(cosemValue, 0, 2, 4, 6, 8, 10);
+            } else if (isDsmrV2Format(cosemValue)) {
+                return toDateTimeType(cosemValue, 0, 3, 6, 9, 12, 15);
+            }
+        } catch (DateTimeException e) {
+            if (INVALID_METER_VALUE.equals(cosemValue)) {
+                throw new ParseException(
+                        "Cosem value: '" + cosemValue + "' might indicate something is wrong with the meter.", 0);
             }
         }
         throw new ParseException("Cosem value: '" + cosemValue + "' is not a known CosemDate string", 0);
     }
+
+    /**
+     * @return true if the value is in the format yyMMddHHmmss optionally followed by a DST indicator
+     */
+    private static boolean isGeneralFormat(String value) {
+        final int length = value.length();
+
+        if (length == 13) {
+            final char dst = value.charAt(12);
+
+            if (dst != 'S' && dst != 'W' && dst != ',') {
+                return false;
+            }
+        } else if (length != 12) {
+            return false;
+        }
+        for (int i = 0; i < 12; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the value is in the format yy-MM-dd HH:mm:ss
+     */
+    private static boolean isDsmrV2Format(String value) {
+        if (value.length() != DSMR_V2_LAYOUT.length()) {
+            return false;
+        }
+        for (int i = 0; i < DSMR_V2_LAYOUT.length(); i++) {
+            final char layout = DSMR_V2_LAYOUT.charAt(i);
+
+            if (layout == 'd' ? !isDigit(value.charAt(i)) : value.charAt(i) != layout) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int twoDigits(String value, int index) {
+        return (value.charAt(index) - '0') * 10 + value.charAt(index + 1) - '0';
+    }
+
+    /**
+     * Creates the date time from the 2 digit fields at the given positions. Like the smart resolving of
+     * {@link java.time.format.DateTimeFormatter} a day beyond the end of the month is set to the last day of the
+     * month and 24:00:00 is the start of the next day.
+     */
+    private static DateTimeType toDateTimeType(String value, int year, int month, int day, int hour, int minute,
+            int second) {
+        final int dayOfMonth = ChronoField.DAY_OF_MONTH.checkValidIntValue(twoDigits(value, day));
+        final int hourOfDay = twoDigits(value, hour);
+        final int minuteOfHour = twoDigits(value, minute);
+        final int secondOfMinute = twoDigits(value, second);
+        LocalDate date = LocalDate.of(2000 + twoDigits(value, year), twoDigits(value, month), 1);
+
+        date = date.withDayOfMonth(Math.min(dayOfMonth, date.lengthOfMonth()));
+        final LocalDateTime localDateTime;
+        if (hourOfDay == 24 && minuteOfHour == 0 && secondOfMinute == 0) {
+            localDateTime = date.plusDays(1).atStartOfDay();
+        } else {
+            localDateTime = date.atTime(hourOfDay, minuteOfHour, secondOfMinute);
+        }
+        return new DateTimeType(ZonedDateTime.of(localDateTime, ZoneId.systemDefault()));
+    }
 }
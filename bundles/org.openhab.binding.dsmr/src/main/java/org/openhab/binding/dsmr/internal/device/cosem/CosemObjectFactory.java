@@ -14,9 +14,10 @@ package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,41 +34,85 @@ public class CosemObjectFactory {
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
-     * Lookup cache for fixed OBIS Identifiers
+     * Marks an OBIS Identifier that can't be in the lookup tables because a group is out of range.
      */
-    private final Map<OBISIdentifier, CosemObjectType> obisLookupTableFixed = new HashMap<>();
+    private static final long NO_KEY = -1;
 
     /**
-     * Lookup cache for fixed OBIS Identifiers that has the same id for different data types
+     * Largest group value that fits in a lookup key.
      */
-    private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
+    private static final int MAX_KEY_GROUP = 0x7FFE;
+
+    /**
+     * Sorted lookup keys of fixed OBIS Identifiers, the types are at the same index in {@link #fixedTypes}.
+     */
+    private final long[] fixedKeys;
+    private final CosemObjectType[] fixedTypes;
+
+    /**
+     * Sorted lookup keys of fixed OBIS Identifiers that has the same id for different data types, the types are at
+     * the same index in {@link #multipleFixedTypes}.
+     */
+    private final long[] multipleFixedKeys;
+    private final CosemObjectType[][] multipleFixedTypes;
 
     /**
      * Creates a new CosemObjectFactory
      */
     public CosemObjectFactory() {
         /*
-         * Fill lookup tables. There are 3 entities:
-         * - obisLookupTableFixed. This lookup table contains all CosemObjectType with a fixed OBISIdentifier
-         * (i.e. groupA != null && groupB != null && groupC != null).
-         * - obisLookupTableDynamic. This lookup table contains all CosemObjectType with a wildcard OBISIdentifier
-         * (i.e. groupA == null || groupB == null || groupC == null). This lookuptable will be filled
-         * dynamically with unique wildcard OBISIdentifiers when values are received and matches a particular real
-         * device (if the device is changed, this lookupTable must be cleared by removing the corresponding DSMRDevice
-         * Thing from the configuration.)
-         * - obisWildCardCosemTypeList. This is the list of all wild card Cosem Object types. Multiple Cosem Object
-         * Types can have the same wild card OBISIdentifer.
+         * Fill lookup tables. There are 2 tables:
+         * - fixed. This lookup table contains all CosemObjectType with a unique OBISIdentifier.
+         * - multiple fixed. This lookup table contains the CosemObjectTypes that share an OBISIdentifier. The values
+         * decide which of the types applies.
          *
-         * To facilitate autodiscovery the list has all supported CosemObjectTypes. To improve performance once the
-         * correct OBISIdentifier is discovered for a certain OBISMsgType this is added to the obisLookupTableDynamic.
+         * The tables are looked up with a key packed from the reduced OBISIdentifier (groups A, C, D and E), so that
+         * looking up a received Cosem Object does not need to create reduced OBISIdentifier instances.
          */
+        final Map<Long, CosemObjectType> fixed = new TreeMap<>();
+        final Map<Long, List<CosemObjectType>> multipleFixed = new TreeMap<>();
+
         for (CosemObjectType msgType : CosemObjectType.values()) {
+            final long key = lookupKey(msgType.obisId, true);
+
             if (msgType.obisId.isConflict()) {
-                obisLookupTableMultipleFixed.computeIfAbsent(msgType.obisId, r -> new ArrayList<>()).add(msgType);
+                multipleFixed.computeIfAbsent(key, r -> new ArrayList<>()).add(msgType);
             } else {
-                obisLookupTableFixed.put(msgType.obisId, msgType);
+                fixed.put(key, msgType);
             }
         }
+        fixedKeys = fixed.keySet().stream().mapToLong(Long::longValue).toArray();
+        fixedTypes = fixed.values().toArray(new CosemObjectType[0]);
+        multipleFixedKeys = multipleFixed.keySet().stream().mapToLong(Long::longValue).toArray();
+        multipleFixedTypes = multipleFixed.values().stream().map(l -> l.toArray(new CosemObjectType[0]))
+                .toArray(CosemObjectType[][]::new);
+    }
+
+    /**
+     * Packs the groups A, C, D and optionally E of the OBISIdentifier in a lookup key.
+     *
+     * @param obisId the OBISIdentifier
+     * @param withGroupE if false the key is calculated as if group E is not applicable
+     * @return the lookup key or {@link #NO_KEY} if a group is out of range
+     */
+    private static long lookupKey(OBISIdentifier obisId, boolean withGroupE) {
+        final Integer groupE = withGroupE ? obisId.getGroupE() : null;
+        final int e = groupE == null ? -1 : groupE.intValue();
+
+        if (!inKeyRange(obisId.getGroupA()) || !inKeyRange(obisId.getGroupC()) || !inKeyRange(obisId.getGroupD())
+                || !inKeyRange(e)) {
+            return NO_KEY;
+        }
+        return ((long) (obisId.getGroupA() + 1) << 48) | ((long) (obisId.getGroupC() + 1) << 32)
+                | ((long) (obisId.getGroupD() + 1) << 16) | (e + 1);
+    }
+
+    private static boolean inKeyRange(int group) {
+        return group >= -1 && group <= MAX_KEY_GROUP;
+    }
+
+    private static int indexOf(long[] keys, long key) {
+        return key == NO_KEY ? -1 : Arrays.binarySearch(keys, key);
     }
 
     /**
@@ -79,14 +124,10 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
+        final OBISIdentifier obisId;
 
         try {
             obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
         } catch (final ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
@@ -94,26 +135,27 @@ public class CosemObjectFactory {
 
         logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
 
-        CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
-        if (objectType != null) {
-            logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+        final long reducedKey = lookupKey(obisId, true);
+        int index = indexOf(fixedKeys, reducedKey);
+        if (index >= 0) {
+            logger.trace("Found obisId {} in the fixed lookup table", obisId);
+            return getCosemObjectInternal(fixedTypes[index], obisId, cosemStringValues);
         }
 
-        List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
-        if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
+        index = indexOf(multipleFixedKeys, reducedKey);
+        if (index >= 0) {
+            for (CosemObjectType cosemObjectType : multipleFixedTypes[index]) {
                 CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
                 if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
+                    logger.trace("Found obisId {} in the fixed lookup table", obisId);
                     return cosemObject;
                 }
             }
         }
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
-        if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+        index = indexOf(fixedKeys, lookupKey(obisId, false));
+        if (index >= 0) {
+            return getCosemObjectInternal(fixedTypes[index], obisId, cosemStringValues);
         }
 
         logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
@@ -12,9 +12,8 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -53,23 +52,15 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     public static final CosemQuantity<Power> KILO_VA = new CosemQuantity<>(MetricPrefix.KILO(Units.VOLT_AMPERE));
 
     /**
-     * Pattern to convert a cosem value to a value that can be parsed by {@link QuantityType}.
-     * The specification states that the delimiter between the value and the unit is a '*'-character.
-     * We have seen on the Kaifa 0025 meter that both '*' and the '_' character are used.
-     *
-     * On the Kampstrup 162JxC in some CosemValues the separator is missing
-     *
-     * The above quirks are supported
-     *
-     * We also support unit that do not follow the exact case.
+     * Unit of this CosemValue
      */
-    private static final Pattern COSEM_VALUE_WITH_UNIT_PATTERN = Pattern.compile("^([\\d\\.]+)[\\*_]?(.+)$",
-            Pattern.CASE_INSENSITIVE);
+    private final Unit<Q> unit;
 
     /**
-     * Unit of this CosemValue
+     * Symbols of the unit of this CosemValue, as sent by most meters
      */
-    private final Unit<Q> unit;
+    private final String unitSymbol;
+    private final String asciiUnitSymbol;
 
     /**
      * Creates a new {@link CosemDouble}.
@@ -89,6 +80,8 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     public CosemQuantity(Unit<Q> unit, String channelId) {
         super(channelId);
         this.unit = unit;
+        this.unitSymbol = unit.toString();
+        this.asciiUnitSymbol = unitSymbol.replace("m³", "m3");
     }
 
     /**
@@ -101,6 +94,10 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     @Override
     protected QuantityType<Q> getStateValue(String cosemValue) throws ParseException {
         try {
+            final QuantityType<Q> direct = parseWithOwnUnit(cosemValue);
+            if (direct != null) {
+                return direct;
+            }
             final QuantityType<Q> it = new QuantityType<>(prepare(cosemValue));
             final @Nullable QuantityType<Q> qt = it.toUnit(unit);
 
@@ -113,6 +110,26 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
         }
     }
 
+    /**
+     * Most meters send the value in exactly the unit of this CosemQuantity. In that case the value is created
+     * directly, without parsing and converting the unit.
+     *
+     * @param cosemValue the value to parse
+     * @return the value or null if the value doesn't have exactly the unit of this CosemQuantity
+     */
+    private @Nullable QuantityType<Q> parseWithOwnUnit(String cosemValue) {
+        final int numberEnd = numberEnd(cosemValue);
+
+        if (numberEnd == 0 || numberEnd >= cosemValue.length() - 1 || !isSeparator(cosemValue.charAt(numberEnd))) {
+            return null;
+        }
+        final int unitStart = numberEnd + 1;
+        final boolean ownUnit = cosemValue.length() - unitStart == unitSymbol.length()
+                && (cosemValue.startsWith(unitSymbol, unitStart) || cosemValue.startsWith(asciiUnitSymbol, unitStart));
+
+        return ownUnit ? new QuantityType<>(new BigDecimal(cosemValue.substring(0, numberEnd)), unit) : null;
+    }
+
     /**
      * Check if COSEM value has a unit, check and parse the value. We assume here numbers (float or integers)
      * The specification states that the delimiter between the value and the unit is a '*'-character.
@@ -125,16 +142,53 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
      * We also support unit that do not follow the exact case.
      */
     private String prepare(String cosemValue) {
-        final Matcher matcher = COSEM_VALUE_WITH_UNIT_PATTERN.matcher(cosemValue.replace("m3", "m³"));
-        if (!matcher.find()) {
+        final String value = cosemValue.replace("m3", "m³");
+        final int length = value.length();
+        int numberEnd = numberEnd(value);
+
+        if (numberEnd == 0 || length < 2) {
             return cosemValue;
         }
+        if (numberEnd == length) {
+            // The unit needs at least one character, which is taken from the number
+            numberEnd--;
+        }
+        final int unitStart = isSeparator(value.charAt(numberEnd)) && numberEnd < length - 1 ? numberEnd + 1
+                : numberEnd;
 
-        try {
-            Integer.parseInt(matcher.group(2));
+        if (isInteger(value, unitStart)) {
             return cosemValue;
+        }
+        return value.substring(0, numberEnd) + ' ' + value.substring(unitStart);
+    }
+
+    /**
+     * @return the index of the first character that is not part of the number at the start of the value
+     */
+    private static int numberEnd(String value) {
+        int i = 0;
+
+        while (i < value.length()) {
+            final char c = value.charAt(i);
+
+            if ((c < '0' || c > '9') && c != '.') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '*' || c == '_';
+    }
+
+    private static boolean isInteger(String value, int start) {
+        try {
+            Integer.parseInt(value, start, value.length(), 10);
+            return true;
         } catch (final NumberFormatException e) {
-            return matcher.group(1) + ' ' + matcher.group(2);
+            return false;
         }
     }
 }
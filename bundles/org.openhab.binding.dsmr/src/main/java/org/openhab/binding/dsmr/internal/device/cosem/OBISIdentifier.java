@@ -14,8 +14,6 @@ package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,16 +26,6 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class OBISIdentifier {
-    /**
-     * String representing a-channel:c.d.e.f OBIS ID
-     */
-    private static final String OBISID_REGEX = "((\\d+)\\-)?((\\d+):)?((\\d+)\\.)(\\d+)(\\.(\\d+))?(.(\\d+))?";
-
-    /**
-     * OBIS ID pattern
-     */
-    private static final Pattern OBIS_ID_PATTERN = Pattern.compile(OBISID_REGEX);
-
     /**
      * Value to return when an invalid int was read.
      */
@@ -92,40 +80,86 @@ public class OBISIdentifier {
      * @throws ParseException if obisIDString is not a valid OBIS Identifier
      */
     public OBISIdentifier(final String obisIDString) throws ParseException {
-        final Matcher m = OBIS_ID_PATTERN.matcher(obisIDString);
-
-        if (m.matches()) {
-            // Optional value A
-            this.groupA = safeInt(m.group(2));
-
-            // Optional value B
-            this.channel = safeInteger(m.group(4));
+        // Scans a-b:c.d.e*f, where a, b, e and f are optional and the character before f can be any character
+        final int length = obisIDString.length();
+        int pos = 0;
+        int end;
+
+        // Optional value A
+        end = skipDigits(obisIDString, pos);
+        if (end > pos && end < length && obisIDString.charAt(end) == '-') {
+            this.groupA = safeInt(obisIDString, pos, end);
+            pos = end + 1;
+        } else {
+            this.groupA = INVALID_INT_READ;
+        }
 
-            // Required value C & D
-            this.groupC = safeInt(m.group(6));
-            this.groupD = safeInt(m.group(7));
+        // Optional value B
+        end = skipDigits(obisIDString, pos);
+        if (end > pos && end < length && obisIDString.charAt(end) == ':') {
+            this.channel = safeInteger(obisIDString, pos, end);
+            pos = end + 1;
+        } else {
+            this.channel = null;
+        }
 
-            // Optional value E
-            this.groupE = safeInteger(m.group(9));
+        // Required value C & D
+        end = skipDigits(obisIDString, pos);
+        if (end == pos || end >= length || obisIDString.charAt(end) != '.') {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
+        }
+        this.groupC = safeInt(obisIDString, pos, end);
+        pos = end + 1;
+        end = skipDigits(obisIDString, pos);
+        if (end == pos) {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
+        }
+        this.groupD = safeInt(obisIDString, pos, end);
+        pos = end;
+
+        // Optional value E
+        end = pos < length && obisIDString.charAt(pos) == '.' ? skipDigits(obisIDString, pos + 1) : pos;
+        if (end > pos + 1) {
+            this.groupE = safeInteger(obisIDString, pos + 1, end);
+            pos = end;
+        } else {
+            this.groupE = null;
+        }
 
-            // Optional value F
-            this.groupF = safeInteger(m.group(11));
+        // Optional value F
+        end = pos < length ? skipDigits(obisIDString, pos + 1) : pos;
+        if (end > pos + 1) {
+            this.groupF = safeInteger(obisIDString, pos + 1, end);
+            pos = end;
         } else {
+            this.groupF = null;
+        }
+
+        if (pos != length) {
             throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
         }
     }
 
-    private static int safeInt(final @Nullable String value) {
+    private static int skipDigits(final String value, final int start) {
+        int pos = start;
+
+        while (pos < value.length() && value.charAt(pos) >= '0' && value.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int safeInt(final String value, final int start, final int end) {
         try {
-            return value == null ? INVALID_INT_READ : Integer.parseInt(value);
+            return Integer.parseInt(value, start, end, 10);
         } catch (final NumberFormatException e) {
             return INVALID_INT_READ;
         }
     }
 
-    private static @Nullable Integer safeInteger(final @Nullable String value) {
+    private static @Nullable Integer safeInteger(final String value, final int start, final int end) {
         try {
-            return value == null ? null : Integer.valueOf(value);
+            return Integer.parseInt(value, start, end, 10);
         } catch (final NumberFormatException e) {
             return null;
         }
@@ -19,7 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
@@ -34,6 +33,10 @@ import org.slf4j.LoggerFactory;
  *
  * Data can be parsed in chunks. If a full P1 telegram is received, listeners are notified
  *
+ * The telegram is framed and CRC checked byte by byte. The identifier and values of each Cosem object are collected
+ * as text and decoded without regular expressions as soon as the object is complete. The values end up in
+ * String based openHAB states anyway, so decoding them directly from the received bytes would not save allocations.
+ *
  * @author M. Volaart - Initial contribution
  * @author Hilbrand Bouwkamp - Removed asynchronous call and some clean up
  */
@@ -61,9 +64,9 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Length of the CRC-code, 4 hexadecimal characters
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -115,9 +118,10 @@ public class P1TelegramParser implements TelegramParser {
     private final CosemObjectFactory factory;
 
     /**
-     * Received Cosem Objects in the P1Telegram that is currently received
+     * Received Cosem Objects in the P1Telegram that is currently received. Objects are decoded as soon as they are
+     * complete.
      */
-    private final List<Entry<String, String>> cosemObjects = new ArrayList<>();
+    private final List<CosemObject> cosemObjects = new ArrayList<>();
 
     /**
      * List of Cosem Object values that are not known to this binding.
@@ -280,8 +284,9 @@ public class P1TelegramParser implements TelegramParser {
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        final int crcP1Telegram = parseCRC();
+
+        if (crcP1Telegram >= 0) {
             final int calculatedCRC = crc.getCurrentCRCCode();
 
             if (logger.isDebugEnabled()) {
@@ -305,15 +310,34 @@ public class P1TelegramParser implements TelegramParser {
         return telegramState;
     }
 
+    /**
+     * @return the received CRC value or -1 if it is not a 4 character hexadecimal value
+     */
+    private int parseCRC() {
+        if (crcValue.length() != CRC_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+
+        for (int i = 0; i < CRC_LENGTH; i++) {
+            final int digit = Character.digit(crcValue.charAt(i), 16);
+
+            if (digit < 0 || Character.isLowerCase(crcValue.charAt(i))) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
     private void processTelegram() {
         telegramState.ifPresentOrElse(error -> telegramListener.onError(error, ""),
                 () -> telegramListener.telegramReceived(constructTelegram()));
     }
 
     private P1Telegram constructTelegram() {
-        final List<CosemObject> cosemObjectsCopy = new ArrayList<>();
+        final List<CosemObject> cosemObjectsCopy = new ArrayList<>(cosemObjects);
 
-        cosemObjects.stream().forEach(e -> addCosemObject(cosemObjectsCopy, e));
         if (lenientMode) {
             return new P1Telegram(cosemObjectsCopy, rawData.toString(),
                     unknownCosemObjects.isEmpty() ? Collections.emptyList() : new ArrayList<>(unknownCosemObjects));
@@ -322,9 +346,7 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
-    private void addCosemObject(final List<CosemObject> objects, final Entry<String, String> cosemEntry) {
-        final String obisIdString = cosemEntry.getKey();
-        final String obisValueString = cosemEntry.getValue();
+    private void addCosemObject(final String obisIdString, final String obisValueString) {
         final CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
 
         if (cosemObject == null) {
@@ -333,7 +355,7 @@ public class P1TelegramParser implements TelegramParser {
             }
         } else {
             logger.trace("Adding {} to list of Cosem Objects", cosemObject);
-            objects.add(cosemObject);
+            cosemObjects.add(cosemObject);
         }
     }
 
@@ -425,7 +447,7 @@ public class P1TelegramParser implements TelegramParser {
         final String obisIdString = obisId.toString();
 
         if (!obisIdString.isEmpty()) {
-            cosemObjects.add(new SimpleEntry<>(obisIdString, obisValue.toString()));
+            addCosemObject(obisIdString, obisValue.toString());
         }
         clearObisData();
     }
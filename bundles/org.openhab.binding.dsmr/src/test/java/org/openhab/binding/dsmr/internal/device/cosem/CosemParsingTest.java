@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.cosem;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.Units;
+
+/**
+ * Test class for the regex free parsing of OBIS identifiers and Cosem values.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class CosemParsingTest {
+
+    @Test
+    public void testOBISIdentifier() throws ParseException {
+        assertEquals("0-1:24.2.1", new OBISIdentifier("0-1:24.2.1").toString());
+        assertEquals("-1-1.8.1", new OBISIdentifier("1.8.1").toString());
+        assertEquals("-1-1.8", new OBISIdentifier("1.8").toString());
+        assertEquals("1-0:1.8.1*255", new OBISIdentifier("1-0:1.8.1.255").toString());
+        assertEquals("1-0:1.8*255", new OBISIdentifier("1-0:1.8*255").toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "1", "1.", "1.8.", "a.b", "1-2-3.4", "1.2.3.4.5" })
+    public void testInvalidOBISIdentifier(String obisId) {
+        assertThrows(ParseException.class, () -> new OBISIdentifier(obisId));
+    }
+
+    @Test
+    public void testCosemObjectLookup() {
+        final CosemObjectFactory factory = new CosemObjectFactory();
+        final CosemObject cosemObject = factory.getCosemObject("1-0:1.8.1", "(001234.567*kWh)");
+
+        assertNotNull(cosemObject);
+        assertEquals(CosemObjectType.EMETER_DELIVERY_TARIFF1, cosemObject.getType());
+        final QuantityType<?> value = (QuantityType<?>) cosemObject.getCosemValues().get("");
+        assertNotNull(value);
+        assertEquals(Units.KILOWATT_HOUR, value.getUnit());
+        assertEquals(0, new BigDecimal("1234.567").compareTo(value.toBigDecimal()));
+        assertNull(factory.getCosemObject("1-0:99.99.99", "(1)"));
+    }
+
+    @Test
+    public void testCosemDate() throws ParseException {
+        final LocalDateTime expected = LocalDateTime.of(2017, 1, 27, 21, 35, 22);
+
+        assertEquals(expected, toLocalDateTime(CosemDate.INSTANCE.getStateValue("170127213522W")));
+        assertEquals(expected, toLocalDateTime(CosemDate.INSTANCE.getStateValue("170127213522")));
+        assertEquals(expected, toLocalDateTime(CosemDate.INSTANCE.getStateValue("17-01-27 21:35:22")));
+        assertThrows(ParseException.class, () -> CosemDate.INSTANCE.getStateValue(CosemDate.INVALID_METER_VALUE));
+        assertThrows(ParseException.class, () -> CosemDate.INSTANCE.getStateValue("17012721352"));
+    }
+
+    private static LocalDateTime toLocalDateTime(DateTimeType dateTime) {
+        return dateTime.getZonedDateTime().toLocalDateTime();
+    }
+}
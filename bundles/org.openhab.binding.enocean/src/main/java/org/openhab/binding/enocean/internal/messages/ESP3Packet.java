@@ -76,10 +76,9 @@ public class ESP3Packet {
     private byte calcCRC8(byte[] data, int offset, int length) {
         byte output = 0;
         for (int i = offset; i < offset + length; i++) {
-            int index = (output ^ data[i]) & 0xff;
-            output = crc8Table[index];
+            output = updateCRC8(output, data[i]);
         }
-        return (byte) (output & 0xff);
+        return output;
     }
 
     public byte[] serialize() throws EnOceanException {
@@ -115,9 +114,15 @@ public class ESP3Packet {
     public static boolean checkCRC8(byte[] data, int length, byte crc8) {
         byte output = 0;
         for (int i = 0; i < length; i++) {
-            int index = (output ^ data[i]) & 0xff;
-            output = crc8Table[index];
+            output = updateCRC8(output, data[i]);
         }
         return output == crc8;
     }
+
+    /**
+     * Adds one byte to a running CRC8 checksum, which starts with 0.
+     */
+    public static byte updateCRC8(byte crc8, byte data) {
+        return crc8Table[(crc8 ^ data) & 0xff];
+    }
 }
@@ -13,9 +13,7 @@
 package org.openhab.binding.enocean.internal.transceiver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -56,30 +54,12 @@ public class EnOceanESP2Transceiver extends EnOceanTransceiver {
     byte packetType = -1;
 
     @Override
-    protected void processMessage(byte firstByte) {
-        byte[] readingBuffer = new byte[ENOCEAN_MAX_DATA];
-        int bytesRead = -1;
+    protected void processMessage(byte[] buffer, int length) {
         byte byteBuffer;
 
         try {
-            readingBuffer[0] = firstByte;
-            InputStream localInputStream = inputStream;
-            if (localInputStream == null) {
-                throw new IOException("could not read from inputstream, it was null");
-            }
-            bytesRead = localInputStream.read(readingBuffer, 1, localInputStream.available());
-            if (bytesRead == -1) {
-                throw new IOException("could not read from inputstream");
-            }
-
-            Future<?> localReadingTask = readingTask;
-            if (localReadingTask == null || localReadingTask.isCancelled()) {
-                return;
-            }
-
-            bytesRead++;
-            for (int p = 0; p < bytesRead; p++) {
-                byteBuffer = readingBuffer[p];
+            for (int p = 0; p < length; p++) {
+                byteBuffer = buffer[p];
 
                 switch (state) {
                     case WaitingForFirstSyncByte:
@@ -13,15 +13,14 @@
 package org.openhab.binding.enocean.internal.transceiver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.enocean.internal.EnOceanException;
 import org.openhab.binding.enocean.internal.messages.BasePacket;
+import org.openhab.binding.enocean.internal.messages.BasePacket.ESPPacketType;
 import org.openhab.binding.enocean.internal.messages.ESP3Packet;
 import org.openhab.binding.enocean.internal.messages.ESP3PacketFactory;
 import org.openhab.binding.enocean.internal.messages.Response;
@@ -40,163 +39,158 @@ public class EnOceanESP3Transceiver extends EnOceanTransceiver {
         super(path, errorListener, scheduler, serialPortManager);
     }
 
+    // EnOcean transceivers don't send larger packets, a header with a larger length is a false match of the sync byte
+    private static final int MAX_PACKET_LENGTH = 1024;
+
     enum ReadingState {
         WaitingForSyncByte,
         ReadingHeader,
         ReadingData
     }
 
+    byte[] headerBuffer = new byte[ESP3Packet.ESP3_HEADER_LENGTH];
     byte[] dataBuffer = new byte[ENOCEAN_MAX_DATA];
     ReadingState state = ReadingState.WaitingForSyncByte;
     int currentPosition = 0;
     int dataLength = -1;
     int optionalLength = -1;
     byte packetType = -1;
+    // CRC8 of the header or data bytes received so far
+    byte crc8 = 0;
 
     @Override
-    protected void processMessage(byte firstByte) {
-        byte[] readingBuffer = new byte[ENOCEAN_MAX_DATA];
-        int bytesRead = -1;
-        byte byteBuffer;
-
-        try {
-            readingBuffer[0] = firstByte;
-            InputStream localInPutStream = this.inputStream;
-            if (localInPutStream == null) {
-                throw new IOException("could not read from inputstream");
-            }
-            bytesRead = localInPutStream.read(readingBuffer, 1, localInPutStream.available());
-            if (bytesRead == -1) {
-                throw new IOException("could not read from inputstream");
-            }
+    protected void processMessage(byte[] buffer, int length) {
+        for (int p = 0; p < length; p++) {
+            byte byteBuffer = buffer[p];
+
+            switch (state) {
+                case WaitingForSyncByte:
+                    if (byteBuffer == ESP3Packet.ESP3_SYNC_BYTE) {
+                        state = ReadingState.ReadingHeader;
+                        logger.trace("Received Sync Byte");
+                    }
+                    break;
+                case ReadingHeader:
+                    if (currentPosition < ESP3Packet.ESP3_HEADER_LENGTH) {
+                        headerBuffer[currentPosition++] = byteBuffer;
+                        crc8 = ESP3Packet.updateCRC8(crc8, byteBuffer);
+                    } else if (crc8 == byteBuffer && isValidPacketLength(
+                            ((headerBuffer[0] & 0xFF) << 8) | (headerBuffer[1] & 0xFF), headerBuffer[2] & 0xFF)) {
+                        state = ReadingState.ReadingData;
+
+                        dataLength = ((headerBuffer[0] & 0xFF) << 8) | (headerBuffer[1] & 0xFF);
+                        optionalLength = headerBuffer[2] & 0xFF;
+                        packetType = headerBuffer[3];
+                        currentPosition = 0;
+                        crc8 = 0;
+
+                        if (packetType == 3) {
+                            logger.trace("Received sub_msg");
+                        }
 
-            Future<?> localReadingTask = readingTask;
-            if (localReadingTask == null || localReadingTask.isCancelled()) {
-                return;
+                        logger.trace(">> Received header, data length {} optional length {} packet type {}",
+                                dataLength, optionalLength, packetType);
+                    } else {
+                        logger.trace("CrC8 header check not successful");
+                        // the sync byte was part of the data, look for the next sync byte in the header
+                        byte[] received = Arrays.copyOf(headerBuffer, ESP3Packet.ESP3_HEADER_LENGTH + 1);
+                        received[ESP3Packet.ESP3_HEADER_LENGTH] = byteBuffer;
+                        resynchronize(received);
+                    }
+                    break;
+                case ReadingData:
+                    if (currentPosition < dataLength + optionalLength) {
+                        dataBuffer[currentPosition++] = byteBuffer;
+                        crc8 = ESP3Packet.updateCRC8(crc8, byteBuffer);
+                    } else if (crc8 == byteBuffer) {
+                        handlePacket();
+                        reset();
+                    } else {
+                        logger.trace("ESP3Packet malformed: {}",
+                                HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
+                        // the header might have been a false match within the data of another packet, so look for
+                        // the next sync byte in all bytes received after the sync byte
+                        int dataEnd = ESP3Packet.ESP3_HEADER_LENGTH + 1 + dataLength + optionalLength;
+                        byte[] received = new byte[dataEnd + 1];
+                        System.arraycopy(headerBuffer, 0, received, 0, ESP3Packet.ESP3_HEADER_LENGTH);
+                        received[ESP3Packet.ESP3_HEADER_LENGTH] = headerCRC8();
+                        System.arraycopy(dataBuffer, 0, received, ESP3Packet.ESP3_HEADER_LENGTH + 1,
+                                dataLength + optionalLength);
+                        received[dataEnd] = byteBuffer;
+                        resynchronize(received);
+                    }
+                    break;
             }
+        }
+    }
 
-            bytesRead++;
-            for (int p = 0; p < bytesRead; p++) {
-                byteBuffer = readingBuffer[p];
+    private boolean isValidPacketLength(int dataLength, int optionalLength) {
+        int packetLength = dataLength + optionalLength;
+        return packetLength > 0 && packetLength <= MAX_PACKET_LENGTH;
+    }
 
-                switch (state) {
-                    case WaitingForSyncByte:
-                        if (byteBuffer == ESP3Packet.ESP3_SYNC_BYTE) {
-                            state = ReadingState.ReadingHeader;
-                            logger.trace("Received Sync Byte");
-                        }
-                        break;
-                    case ReadingHeader:
-                        if (currentPosition == ESP3Packet.ESP3_HEADER_LENGTH) {
-                            if (ESP3Packet.checkCRC8(dataBuffer, ESP3Packet.ESP3_HEADER_LENGTH, byteBuffer)
-                                    && ((dataBuffer[0] & 0xFF) << 8) + (dataBuffer[1] & 0xFF)
-                                            + (dataBuffer[2] & 0xFF) > 0) {
-                                state = ReadingState.ReadingData;
-
-                                dataLength = ((dataBuffer[0] & 0xFF << 8) | (dataBuffer[1] & 0xFF));
-                                optionalLength = dataBuffer[2] & 0xFF;
-                                packetType = dataBuffer[3];
-                                currentPosition = 0;
-
-                                if (packetType == 3) {
-                                    logger.trace("Received sub_msg");
-                                }
-
-                                logger.trace(">> Received header, data length {} optional length {} packet type {}",
-                                        dataLength, optionalLength, packetType);
-                            } else {
-                                // check if we find a sync byte in current buffer
-                                int copyFrom = -1;
-                                for (int i = 0; i < ESP3Packet.ESP3_HEADER_LENGTH; i++) {
-                                    if (dataBuffer[i] == ESP3Packet.ESP3_SYNC_BYTE) {
-                                        copyFrom = i + 1;
-                                        break;
-                                    }
-                                }
-
-                                if (copyFrom != -1) {
-                                    System.arraycopy(dataBuffer, copyFrom, dataBuffer, 0,
-                                            ESP3Packet.ESP3_HEADER_LENGTH - copyFrom);
-                                    state = ReadingState.ReadingHeader;
-                                    currentPosition = ESP3Packet.ESP3_HEADER_LENGTH - copyFrom;
-                                    dataBuffer[currentPosition++] = byteBuffer;
-                                } else {
-                                    currentPosition = 0;
-                                    state = byteBuffer == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
-                                            : ReadingState.WaitingForSyncByte;
-                                }
-                                logger.trace("CrC8 header check not successful");
-                            }
-                        } else {
-                            dataBuffer[currentPosition++] = byteBuffer;
-                        }
-                        break;
-                    case ReadingData:
-                        if (currentPosition == dataLength + optionalLength) {
-                            if (ESP3Packet.checkCRC8(dataBuffer, dataLength + optionalLength, byteBuffer)) {
-                                state = ReadingState.WaitingForSyncByte;
-                                BasePacket packet = ESP3PacketFactory.buildPacket(dataLength, optionalLength,
-                                        packetType, dataBuffer);
-
-                                if (packet != null) {
-                                    switch (packet.getPacketType()) {
-                                        case COMMON_COMMAND:
-                                            logger.debug("Common command: {}",
-                                                    HexUtils.bytesToHex(packet.getPayload()));
-                                            break;
-                                        case EVENT:
-                                        case RADIO_ERP1:
-                                            informListeners(packet);
-                                            break;
-                                        case RADIO_ERP2:
-                                            break;
-                                        case RADIO_MESSAGE:
-                                            break;
-                                        case RADIO_SUB_TEL:
-                                            break;
-                                        case REMOTE_MAN_COMMAND:
-                                            break;
-                                        case RESPONSE: {
-                                            Response response = (Response) packet;
-                                            logger.debug("{} with code {} payload {} received",
-                                                    packet.getPacketType().name(), response.getResponseType().name(),
-                                                    HexUtils.bytesToHex(packet.getPayload())); // Responses do not have
-                                                                                               // optional data
-                                            handleResponse(response);
-                                        }
-                                            break;
-                                        case SMART_ACK_COMMAND:
-                                            break;
-                                        default:
-                                            break;
-                                    }
-                                } else {
-                                    logger.trace("Unknown ESP3Packet: {}", HexUtils
-                                            .bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
-                                }
-                            } else {
-                                state = byteBuffer == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
-                                        : ReadingState.WaitingForSyncByte;
-                                logger.trace("ESP3Packet malformed: {}",
-                                        HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
-                            }
-
-                            currentPosition = 0;
-                            dataLength = optionalLength = packetType = -1;
-                        } else {
-                            dataBuffer[currentPosition++] = byteBuffer;
-                        }
-                        break;
-                }
-            }
-        } catch (IOException ioexception) {
-            logger.trace("Unable to process message", ioexception);
-            TransceiverErrorListener localListener = errorListener;
-            if (localListener != null) {
-                localListener.errorOccured(ioexception);
+    private void reset() {
+        state = ReadingState.WaitingForSyncByte;
+        currentPosition = 0;
+        crc8 = 0;
+        dataLength = optionalLength = packetType = -1;
+    }
+
+    private byte headerCRC8() {
+        byte headerCrc8 = 0;
+        for (byte b : headerBuffer) {
+            headerCrc8 = ESP3Packet.updateCRC8(headerCrc8, b);
+        }
+        return headerCrc8;
+    }
+
+    /**
+     * Processes the bytes received after an invalid sync byte again.
+     */
+    private void resynchronize(byte[] received) {
+        reset();
+        processMessage(received, received.length);
+    }
+
+    private void handlePacket() {
+        BasePacket packet = ESPPacketType.hasValue(packetType)
+                ? ESP3PacketFactory.buildPacket(dataLength, optionalLength, packetType, dataBuffer)
+                : null;
+        if (packet == null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Unknown ESP3Packet: {}",
+                        HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
             }
             return;
         }
+
+        switch (packet.getPacketType()) {
+            case COMMON_COMMAND:
+                logger.debug("Common command: {}", HexUtils.bytesToHex(packet.getPayload()));
+                break;
+            case EVENT:
+            case RADIO_ERP1:
+                informListeners(packet);
+                break;
+            case RESPONSE: {
+                Response response = (Response) packet;
+                // Responses do not have optional data
+                logger.debug("{} with code {} payload {} received", packet.getPacketType().name(),
+                        response.getResponseType().name(), HexUtils.bytesToHex(packet.getPayload()));
+                try {
+                    handleResponse(response);
+                } catch (IOException ioexception) {
+                    logger.trace("Unable to process message", ioexception);
+                    TransceiverErrorListener localListener = errorListener;
+                    if (localListener != null) {
+                        localListener.errorOccured(ioexception);
+                    }
+                }
+            }
+                break;
+            default:
+                break;
+        }
     }
 
     @Override
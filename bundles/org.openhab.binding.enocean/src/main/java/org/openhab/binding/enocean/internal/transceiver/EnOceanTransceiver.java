@@ -15,11 +15,14 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -56,6 +59,7 @@ import org.slf4j.LoggerFactory;
 public abstract class EnOceanTransceiver implements SerialPortEventListener {
 
     public static final int ENOCEAN_MAX_DATA = 65790;
+    private static final int READ_BUFFER_SIZE = 1024;
 
     // Thread management
     protected @Nullable Future<?> readingTask = null;
@@ -156,9 +160,10 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     @Nullable
     Request currentRequest = null;
 
-    protected Map<Long, HashSet<PacketListener>> listeners;
-    protected HashSet<EventListener> eventListeners;
-    protected @Nullable TeachInListener teachInListener;
+    // copy-on-write index of the packet listeners by sender id, so the receiving thread does not need to lock
+    private volatile Map<Long, Set<PacketListener>> listeners = Map.of();
+    protected Set<EventListener> eventListeners = new CopyOnWriteArraySet<>();
+    protected volatile @Nullable TeachInListener teachInListener;
 
     protected @Nullable InputStream inputStream;
     protected @Nullable OutputStream outputStream;
@@ -171,8 +176,6 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             @Nullable SerialPortManager serialPortManager) {
         requestQueue = new RequestQueue(scheduler);
 
-        listeners = new HashMap<>();
-        eventListeners = new HashSet<>();
         teachInListener = null;
 
         this.errorListener = errorListener;
@@ -259,7 +262,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             this.readingTask = null;
         }
 
-        listeners.clear();
+        listeners = Map.of();
         eventListeners.clear();
         teachInListener = null;
         errorListener = null;
@@ -296,18 +299,28 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     }
 
     private void receivePackets() {
-        byte[] buffer = new byte[1];
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
 
         Future<?> readingTask = this.readingTask;
         while (readingTask != null && !readingTask.isCancelled()) {
-            int bytesRead = read(buffer, 1);
+            int bytesRead = read(buffer, buffer.length);
             if (bytesRead > 0) {
-                processMessage(buffer[0]);
+                processMessage(buffer, bytesRead);
+            } else if (bytesRead < 0 && !readingTask.isCancelled()) {
+                logger.trace("Unable to process message, end of input stream reached");
+                TransceiverErrorListener localListener = errorListener;
+                if (localListener != null) {
+                    localListener.errorOccured(new IOException("could not read from inputstream"));
+                }
+                return;
             }
         }
     }
 
-    protected abstract void processMessage(byte firstByte);
+    /**
+     * Processes the bytes read from the input stream. The buffer is reused for the next read.
+     */
+    protected abstract void processMessage(byte[] buffer, int length);
 
     protected int read(byte[] buffer, int length) {
         InputStream localInputStream = inputStream;
@@ -338,10 +351,12 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             if (packet.getPacketType() == ESPPacketType.RADIO_ERP1) {
                 ERP1Message msg = (ERP1Message) packet;
                 byte[] senderId = msg.getSenderId();
-                byte[] d = Helper.concatAll(msg.getPayload(), msg.getOptionalPayload());
 
-                logger.debug("{} with RORG {} for {} payload {} received", packet.getPacketType().name(),
-                        msg.getRORG().name(), HexUtils.bytesToHex(msg.getSenderId()), HexUtils.bytesToHex(d));
+                if (logger.isDebugEnabled()) {
+                    byte[] d = Helper.concatAll(msg.getPayload(), msg.getOptionalPayload());
+                    logger.debug("{} with RORG {} for {} payload {} received", packet.getPacketType().name(),
+                            msg.getRORG().name(), HexUtils.bytesToHex(msg.getSenderId()), HexUtils.bytesToHex(d));
+                }
 
                 if (msg.getRORG() != RORG.Unknown) {
                     if (senderId.length > 0) {
@@ -365,12 +380,13 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                             return;
                         }
 
-                        long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                        synchronized (this) {
-                            HashSet<PacketListener> pl = listeners.get(s);
-                            if (pl != null) {
-                                pl.forEach(l -> l.packetReceived(msg));
-                            }
+                        long s = 0;
+                        for (byte b : senderId) {
+                            s = (s << 8) | (b & 0xFF);
+                        }
+                        Set<PacketListener> pl = listeners.get(s);
+                        if (pl != null) {
+                            pl.forEach(l -> l.packetReceived(msg));
                         }
                     }
                 } else {
@@ -400,9 +416,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     }
                 }
 
-                synchronized (this) {
-                    eventListeners.forEach(l -> l.eventReceived(event));
-                }
+                eventListeners.forEach(l -> l.eventReceived(event));
             }
         } catch (Exception e) {
             logger.error("Exception in informListeners", e);
@@ -448,26 +462,42 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     protected abstract byte[] serializePacket(BasePacket packet) throws EnOceanException;
 
     public synchronized void addPacketListener(PacketListener listener, long senderIdToListenTo) {
-        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>()).add(listener)) {
+        Set<PacketListener> pl = listeners.get(senderIdToListenTo);
+        if (pl == null || !pl.contains(listener)) {
+            Set<PacketListener> newPl = pl == null ? new HashSet<>() : new HashSet<>(pl);
+            newPl.add(listener);
+            updateListeners(senderIdToListenTo, newPl);
             logger.debug("Listener added: {}", senderIdToListenTo);
         }
     }
 
     public synchronized void removePacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> pl = listeners.get(senderIdToListenTo);
-        if (pl != null) {
-            pl.remove(listener);
-            if (pl.isEmpty()) {
-                listeners.remove(senderIdToListenTo);
-            }
+        Set<PacketListener> pl = listeners.get(senderIdToListenTo);
+        if (pl != null && pl.contains(listener)) {
+            Set<PacketListener> newPl = new HashSet<>(pl);
+            newPl.remove(listener);
+            updateListeners(senderIdToListenTo, newPl);
+        }
+    }
+
+    /**
+     * Replaces the listener index with a copy containing the given listeners for the sender id.
+     */
+    private void updateListeners(long senderId, Set<PacketListener> senderListeners) {
+        Map<Long, Set<PacketListener>> newListeners = new HashMap<>(listeners);
+        if (senderListeners.isEmpty()) {
+            newListeners.remove(senderId);
+        } else {
+            newListeners.put(senderId, Collections.unmodifiableSet(senderListeners));
         }
+        listeners = Collections.unmodifiableMap(newListeners);
     }
 
-    public synchronized void addEventMessageListener(EventListener listener) {
+    public void addEventMessageListener(EventListener listener) {
         eventListeners.add(listener);
     }
 
-    public synchronized void removeEventMessageListener(EventListener listener) {
+    public void removeEventMessageListener(EventListener listener) {
         eventListeners.remove(listener);
     }
 
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.transceiver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.enocean.internal.EnOceanException;
+import org.openhab.binding.enocean.internal.messages.BasePacket;
+import org.openhab.binding.enocean.internal.messages.BasePacket.ESPPacketType;
+import org.openhab.binding.enocean.internal.messages.ERP1Message;
+import org.openhab.binding.enocean.internal.messages.ESP3Packet;
+
+/**
+ * Tests the framing of received ESP3 packets by {@link EnOceanESP3Transceiver}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class EnOceanESP3TransceiverTest {
+
+    // RPS telegram of sender 002E55BA, the sender id contains the sync byte
+    private static final byte[] RPS_FRAME = bytes(0x55, 0x00, 0x07, 0x07, 0x01, 0x7A, 0xF6, 0x30, 0x00, 0x2E, 0x55,
+            0xBA, 0x20, 0x01, 0xFF, 0xFF, 0xFF, 0xFF, 0x2D, 0x00, 0x34);
+    private static final byte[] RPS_DATA = Arrays.copyOfRange(RPS_FRAME, 6, 13);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<BasePacket> packets = new ArrayList<>();
+    private @NonNullByDefault({}) EnOceanESP3Transceiver transceiver;
+
+    @BeforeEach
+    public void setUp() {
+        transceiver = new EnOceanESP3Transceiver("", e -> fail(e), scheduler, null) {
+            @Override
+            protected void informListeners(BasePacket packet) {
+                packets.add(packet);
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testFrame() {
+        receive(RPS_FRAME);
+
+        assertRpsPackets(1);
+        assertArrayEquals(Arrays.copyOfRange(RPS_FRAME, 13, 20), packets.get(0).getOptionalPayload());
+    }
+
+    @Test
+    public void testFrameSplitAcrossReads() {
+        for (int chunkSize = 1; chunkSize < RPS_FRAME.length; chunkSize++) {
+            for (int offset = 0; offset < RPS_FRAME.length; offset += chunkSize) {
+                receive(Arrays.copyOfRange(RPS_FRAME, offset, Math.min(offset + chunkSize, RPS_FRAME.length)));
+            }
+        }
+
+        assertRpsPackets(RPS_FRAME.length - 1);
+    }
+
+    @Test
+    public void testFalseSyncByteBeforeFrame() {
+        // a sync byte within noise, its header fails the CRC check
+        receive(concat(bytes(0x12, 0x55, 0x00, 0x07, 0x55, 0x01, 0x00), RPS_FRAME, RPS_FRAME));
+
+        assertRpsPackets(2);
+    }
+
+    @Test
+    public void testHeaderCrcErrorFollowedByValidFrame() {
+        byte[] corrupted = RPS_FRAME.clone();
+        corrupted[5] ^= 0x01;
+        receive(concat(corrupted, RPS_FRAME));
+
+        assertRpsPackets(1);
+    }
+
+    @Test
+    public void testDataCrcErrorFollowedByValidFrame() {
+        byte[] corrupted = RPS_FRAME.clone();
+        corrupted[RPS_FRAME.length - 1] ^= 0x01;
+        receive(concat(corrupted, RPS_FRAME));
+
+        assertRpsPackets(1);
+    }
+
+    @Test
+    public void testCorruptedDataFollowedByValidFrame() {
+        byte[] corrupted = RPS_FRAME.clone();
+        corrupted[7] ^= 0x01;
+        receive(concat(corrupted, RPS_FRAME));
+
+        assertRpsPackets(1);
+    }
+
+    @Test
+    public void testDataLengthAbove255() throws EnOceanException {
+        byte[] data = new byte[300];
+        data[0] = (byte) 0xD2;
+        for (int i = 1; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        byte[] frame = new ESP3Packet(new ERP1Message(data.length, 0, data)).serialize();
+        assertEquals(0x01, frame[1]);
+        assertEquals(0x2C, frame[2]);
+
+        receive(concat(frame, RPS_FRAME));
+
+        assertEquals(2, packets.size());
+        assertArrayEquals(data, packets.get(0).getPayload());
+        assertArrayEquals(RPS_DATA, packets.get(1).getPayload());
+    }
+
+    @Test
+    public void testPacketLengthAboveMaximum() {
+        // a valid header announcing 1025 bytes must not swallow the following frames
+        receive(concat(header(1025, 0, 1), RPS_FRAME));
+
+        assertRpsPackets(1);
+    }
+
+    @Test
+    public void testEmptyPacket() {
+        receive(concat(header(0, 0, 1), RPS_FRAME));
+
+        assertRpsPackets(1);
+    }
+
+    private void receive(byte[] data) {
+        transceiver.processMessage(data, data.length);
+    }
+
+    private void assertRpsPackets(int count) {
+        assertEquals(count, packets.size());
+        for (BasePacket packet : packets) {
+            assertEquals(ESPPacketType.RADIO_ERP1, packet.getPacketType());
+            assertArrayEquals(RPS_DATA, packet.getPayload());
+        }
+    }
+
+    private static byte[] header(int dataLength, int optionalLength, int packetType) {
+        byte[] header = bytes(0x55, dataLength >> 8, dataLength, optionalLength, packetType, 0);
+        byte crc8 = 0;
+        for (int i = 1; i < header.length - 1; i++) {
+            crc8 = ESP3Packet.updateCRC8(crc8, header[i]);
+        }
+        header[header.length - 1] = crc8;
+        return header;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        byte[] result = new byte[Arrays.stream(parts).mapToInt(p -> p.length).sum()];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+}
@@ -25,6 +25,7 @@ public class HomematicBindingConstants {
 
     public static final String BINDING_ID = "homematic";
     public static final String GATEWAY_POOL_NAME = "homematicGateway";
+    public static final String VALUE_LOADER_POOL_NAME = "homematicValueLoader";
     public static final ThingTypeUID THING_TYPE_BRIDGE = new ThingTypeUID(BINDING_ID, "bridge");
     public static final String CONFIG_DESCRIPTION_URI_CHANNEL = "channel-type:homematic:config";
 
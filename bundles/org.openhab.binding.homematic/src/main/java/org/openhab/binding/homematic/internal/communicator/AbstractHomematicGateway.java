@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.homematic.internal.communicator;
 
-import static org.openhab.binding.homematic.internal.HomematicBindingConstants.GATEWAY_POOL_NAME;
+import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*;
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,6 +27,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -76,6 +80,7 @@ import org.openhab.binding.homematic.internal.model.HmInterface;
 import org.openhab.binding.homematic.internal.model.HmParamsetType;
 import org.openhab.binding.homematic.internal.model.HmRssiInfo;
 import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,11 +111,14 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private final Map<String, HmDevice> devices = Collections.synchronizedMap(new HashMap<>());
     private final Map<HmInterface, TransferMode> availableInterfaces = new TreeMap<>();
     private static List<VirtualDatapointHandler> virtualDatapointHandlers = new ArrayList<>();
-    private boolean cancelLoadAllMetadata;
+    private volatile boolean cancelLoadAllMetadata;
     private boolean initialized;
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final ExecutorService valueLoader = ThreadPoolManager.getPool(VALUE_LOADER_POOL_NAME);
+    private ParamsetDescriptionCache paramsetDescriptionCache;
+    private final Object deviceLoadedLock = new Object();
 
     static {
         // loads all virtual datapoints
@@ -188,6 +196,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             sb.setLength(sb.length() - 2);
         }
         logger.debug("Used Homematic transfer modes: {}", sb.toString());
+
+        paramsetDescriptionCache = new ParamsetDescriptionCache(
+                Path.of(OpenHAB.getUserDataFolder(), "homematic", id + "-paramsets.bin"), gatewayInfo.getFirmware());
+        paramsetDescriptionCache.load();
+
         startClients();
         startServers();
         registerCallbacks();
@@ -373,12 +386,13 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     @Override
     public void loadAllDeviceMetadata() throws IOException {
         cancelLoadAllMetadata = false;
-        // load all device descriptions
+        // load all device descriptions, this is the list of devices the cached paramset descriptions are validated with
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
 
-        // loading datapoints for all channels
+        // loading datapoints for all channels, only new device types and firmwares are queried from the gateway
+        Set<String> usedChannelKeys = new HashSet<>();
         Set<String> loadedDevices = new HashSet<>();
-        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new HashMap<>();
+        List<Future<?>> pendingDevices = new ArrayList<>();
         for (HmDevice device : deviceDescriptions) {
             if (!cancelLoadAllMetadata) {
                 try {
@@ -396,29 +410,17 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                                 HmChannel previousChannel = device.getChannel(channel.getNumber() - 1);
                                 cloneAllDatapointsIntoChannel(channel, previousChannel.getDatapoints());
                             } else {
-                                String channelId = String.format("%s:%s:%s", channel.getDevice().getType(),
-                                        channel.getDevice().getFirmware(), channel.getNumber());
-                                Collection<HmDatapoint> cachedDatapoints = datapointsByChannelIdCache.get(channelId);
-                                if (cachedDatapoints != null) {
-                                    // clone all datapoints
-                                    cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
-                                } else {
-                                    logger.trace("    Loading datapoints into channel {}", channel);
-                                    addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                    addChannelDatapoints(channel, HmParamsetType.VALUES);
-
-                                    // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
-                                    // the data point set might change depending on the selected mode.
-                                    if (!channel.isReconfigurable()) {
-                                        datapointsByChannelIdCache.put(channelId, channel.getDatapoints());
-                                    }
-                                }
+                                addCachedChannelDatapoints(channel, usedChannelKeys);
                             }
                         }
                     }
                     prepareDevice(device);
                     loadedDevices.add(device.getAddress());
-                    gatewayAdapter.onDeviceLoaded(device);
+                    if (device.isGatewayExtras() || !gatewayAdapter.isDeviceConfigured(device)) {
+                        notifyDeviceLoaded(device);
+                    } else {
+                        pendingDevices.add(valueLoader.submit(() -> loadDeviceValues(device)));
+                    }
                 } catch (IOException ex) {
                     logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(), id,
                             ex.getMessage());
@@ -427,10 +429,86 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         }
         if (!cancelLoadAllMetadata) {
             devices.keySet().retainAll(loadedDevices);
+            paramsetDescriptionCache.retainAll(usedChannelKeys);
+            paramsetDescriptionCache.save();
         }
+
+        awaitDeviceValues(pendingDevices);
         initialized = true;
     }
 
+    /**
+     * Adds the datapoints to the channel, either from the paramset description cache or from the gateway.
+     */
+    private void addCachedChannelDatapoints(HmChannel channel, Set<String> usedChannelKeys) throws IOException {
+        // Make sure to only cache non-reconfigurable channels. For reconfigurable channels, the data point set might
+        // change depending on the selected mode.
+        String channelKey = channel.isReconfigurable() ? null : ParamsetDescriptionCache.getChannelKey(channel);
+        Collection<HmDatapoint> cachedDatapoints = channelKey == null ? null
+                : paramsetDescriptionCache.get(channelKey);
+        if (cachedDatapoints != null) {
+            cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
+        } else {
+            logger.trace("    Loading datapoints into channel {}", channel);
+            addChannelDatapoints(channel, HmParamsetType.MASTER);
+            addChannelDatapoints(channel, HmParamsetType.VALUES);
+            if (channelKey != null) {
+                paramsetDescriptionCache.put(channelKey, channel.getDatapoints());
+            }
+        }
+        if (channelKey != null) {
+            usedChannelKeys.add(channelKey);
+        }
+    }
+
+    /**
+     * Loads the values of all channels of a device with a configured thing and notifies the thing afterwards. This
+     * runs in parallel to the loading of the metadata of the following devices, so the things don't have to query
+     * the values channel by channel, and each thing is initialized as soon as its device is ready.
+     */
+    private void loadDeviceValues(HmDevice device) {
+        for (HmChannel channel : device.getChannels()) {
+            if (cancelLoadAllMetadata) {
+                return;
+            }
+            if (!channel.isInitialized()) {
+                try {
+                    loadChannelValues(channel);
+                } catch (IOException ex) {
+                    // the thing loads the values again on its own
+                    logger.debug("Can't load values of channel {} of device '{}' from gateway '{}': {}", channel,
+                            device.getAddress(), id, ex.getMessage());
+                }
+            }
+        }
+        notifyDeviceLoaded(device);
+    }
+
+    /**
+     * Notifies the gateway adapter about a loaded device. Devices are loaded in parallel, but notified one at a time.
+     */
+    private void notifyDeviceLoaded(HmDevice device) {
+        synchronized (deviceLoadedLock) {
+            if (!cancelLoadAllMetadata) {
+                gatewayAdapter.onDeviceLoaded(device);
+            }
+        }
+    }
+
+    private void awaitDeviceValues(List<Future<?>> pendingDevices) {
+        for (Future<?> future : pendingDevices) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                logger.debug("Loading values from gateway '{}' failed: {}", id, ex.getMessage());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelLoadAllMetadata = true;
+                return;
+            }
+        }
+    }
+
     /**
      * Loads all datapoints from the gateway.
      */
@@ -763,10 +841,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                     List<HmDevice> deviceDescriptions = getDeviceDescriptions();
                     for (HmDevice device : deviceDescriptions) {
                         if (device.getAddress().equals(address)) {
+                            Set<String> usedChannelKeys = new HashSet<>();
                             for (HmChannel channel : device.getChannels()) {
-                                addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                addChannelDatapoints(channel, HmParamsetType.VALUES);
+                                addCachedChannelDatapoints(channel, usedChannelKeys);
                             }
+                            paramsetDescriptionCache.save();
                             prepareDevice(device);
                             gatewayAdapter.onNewDevice(device);
                         }
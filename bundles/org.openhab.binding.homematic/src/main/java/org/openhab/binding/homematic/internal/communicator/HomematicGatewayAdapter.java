@@ -53,6 +53,11 @@ public interface HomematicGatewayAdapter {
      */
     void onDeviceLoaded(HmDevice device);
 
+    /**
+     * Returns true, if a thing is configured for the device.
+     */
+    boolean isDeviceConfigured(HmDevice device);
+
     /**
      * Called when the connection is lost to the gateway.
      */
@@ -0,0 +1,319 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the datapoint metadata (paramset descriptions) of device channels. The metadata only depends on
+ * the device type and firmware, so it can be reused for all devices of the same type and over restarts. The cache is
+ * discarded if the firmware of the gateway has changed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_FLOAT = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_STRING = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+    private final Path file;
+    private final String gatewayFirmware;
+    private final Map<String, List<HmDatapoint>> datapointsByChannelKey = new ConcurrentHashMap<>();
+    private final AtomicBoolean modified = new AtomicBoolean();
+
+    /**
+     * Creates a cache stored in the given file.
+     *
+     * @param file The cache file
+     * @param gatewayFirmware Firmware of the gateway, a cache written by another gateway firmware is discarded
+     */
+    public ParamsetDescriptionCache(Path file, String gatewayFirmware) {
+        this.file = file;
+        this.gatewayFirmware = gatewayFirmware == null ? "" : gatewayFirmware;
+    }
+
+    /**
+     * Returns the key of the channel in the cache, built from the interface, type and firmware of the device and the
+     * channel number.
+     */
+    public static String getChannelKey(HmChannel channel) {
+        return String.format("%s:%s:%s:%s", channel.getDevice().getHmInterface(), channel.getDevice().getType(),
+                channel.getDevice().getFirmware(), channel.getNumber());
+    }
+
+    /**
+     * Returns the cached datapoints of the channel or null, if the channel is not cached. The datapoints must be
+     * cloned before they are added to a channel.
+     */
+    public Collection<HmDatapoint> get(String channelKey) {
+        return datapointsByChannelKey.get(channelKey);
+    }
+
+    /**
+     * Stores a snapshot of the non virtual datapoints of the channel.
+     */
+    public void put(String channelKey, Collection<HmDatapoint> datapoints) {
+        List<HmDatapoint> snapshot = new ArrayList<>(datapoints.size());
+        for (HmDatapoint dp : datapoints) {
+            if (!dp.isVirtual()) {
+                HmDatapoint clonedDp = dp.clone();
+                clonedDp.setChannel(null);
+                clonedDp.setValue(null);
+                snapshot.add(clonedDp);
+            }
+        }
+        datapointsByChannelKey.put(channelKey, Collections.unmodifiableList(snapshot));
+        modified.set(true);
+    }
+
+    /**
+     * Removes all channels which are not in the given set, e.g. because no device of this type and firmware is
+     * known to the gateway anymore.
+     */
+    public void retainAll(Set<String> channelKeys) {
+        if (datapointsByChannelKey.keySet().retainAll(channelKeys)) {
+            modified.set(true);
+        }
+    }
+
+    public int size() {
+        return datapointsByChannelKey.size();
+    }
+
+    /**
+     * Loads the cache file. If the file is missing, unreadable or was written for another gateway firmware, the cache
+     * starts empty.
+     */
+    public synchronized void load() {
+        datapointsByChannelKey.clear();
+        modified.set(false);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !gatewayFirmware.equals(in.readUTF())) {
+                logger.debug("Discarding paramset description cache {}, it was written for another gateway firmware",
+                        file);
+                modified.set(true);
+                return;
+            }
+            // every entry takes at least one byte, so a count larger than the file is a corrupt file
+            long maxCount = Files.size(file);
+            int channelCount = readCount(in, maxCount);
+            for (int i = 0; i < channelCount; i++) {
+                String channelKey = in.readUTF();
+                int datapointCount = readCount(in, maxCount);
+                List<HmDatapoint> datapoints = new ArrayList<>(datapointCount);
+                for (int j = 0; j < datapointCount; j++) {
+                    datapoints.add(readDatapoint(in, maxCount));
+                }
+                datapointsByChannelKey.put(channelKey, Collections.unmodifiableList(datapoints));
+            }
+            logger.debug("Loaded paramset descriptions of {} channels from {}", channelCount, file);
+        } catch (NoSuchFileException ex) {
+            logger.debug("No paramset description cache {} available", file);
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Can't read paramset description cache {}, reloading all descriptions from the gateway: {}",
+                    file, ex.getMessage());
+            datapointsByChannelKey.clear();
+            modified.set(true);
+        }
+    }
+
+    /**
+     * Writes the cache file, if the cache has been modified since the last load or save.
+     */
+    public synchronized void save() {
+        // reset the flag before the snapshot is taken, so that channels put while writing are saved the next time
+        if (!modified.getAndSet(false)) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(gatewayFirmware);
+                Map<String, List<HmDatapoint>> snapshot = Map.copyOf(datapointsByChannelKey);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, List<HmDatapoint>> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (HmDatapoint dp : entry.getValue()) {
+                        writeDatapoint(out, dp);
+                    }
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved paramset descriptions of {} channels to {}", datapointsByChannelKey.size(), file);
+        } catch (IOException ex) {
+            modified.set(true);
+            logger.warn("Can't write paramset description cache {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private void writeDatapoint(DataOutputStream out, HmDatapoint dp) throws IOException {
+        out.writeUTF(dp.getName());
+        writeString(out, dp.getDescription());
+        out.writeUTF(dp.getType().name());
+        out.writeUTF(dp.getParamsetType().name());
+        writeValue(out, dp.getMinValue());
+        writeValue(out, dp.getMaxValue());
+        String[] options = dp.getOptions();
+        out.writeInt(options == null ? -1 : options.length);
+        if (options != null) {
+            for (String option : options) {
+                writeString(out, option);
+            }
+        }
+        out.writeBoolean(dp.isReadOnly());
+        out.writeBoolean(dp.isReadable());
+        writeString(out, dp.getInfo());
+        writeString(out, dp.getUnit());
+        out.writeBoolean(dp.isTrigger());
+        writeValue(out, dp.getDefaultValue());
+    }
+
+    private HmDatapoint readDatapoint(DataInputStream in, long maxCount) throws IOException {
+        String name = in.readUTF();
+        String description = readString(in);
+        HmValueType type = HmValueType.valueOf(in.readUTF());
+        HmParamsetType paramsetType = HmParamsetType.valueOf(in.readUTF());
+        Number minValue = readNumber(in);
+        Number maxValue = readNumber(in);
+        int optionCount = in.readInt();
+        String[] options = null;
+        if (optionCount != -1) {
+            if (optionCount < 0 || optionCount > maxCount) {
+                throw new IOException("Invalid number of options " + optionCount);
+            }
+            options = new String[optionCount];
+            for (int i = 0; i < optionCount; i++) {
+                options[i] = readString(in);
+            }
+        }
+        boolean readOnly = in.readBoolean();
+
+        HmDatapoint dp = new HmDatapoint(name, description, type, null, readOnly, paramsetType);
+        dp.setMinValue(minValue);
+        dp.setMaxValue(maxValue);
+        dp.setOptions(options);
+        dp.setReadable(in.readBoolean());
+        dp.setInfo(readString(in));
+        dp.setUnit(readString(in));
+        dp.setTrigger(in.readBoolean());
+        dp.setDefaultValue(readValue(in));
+        return dp;
+    }
+
+    private int readCount(DataInputStream in, long maxCount) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new IOException("Invalid number of entries " + count);
+        }
+        return count;
+    }
+
+    private Number readNumber(DataInputStream in) throws IOException {
+        Object value = readValue(in);
+        if (value != null && !(value instanceof Number)) {
+            throw new IOException("Number expected, but found " + value.getClass().getSimpleName());
+        }
+        return (Number) value;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else if (value instanceof Integer integerValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(integerValue);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Float floatValue) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(floatValue);
+        } else if (value instanceof Number numberValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(numberValue.doubleValue());
+        } else {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_STRING:
+                return in.readUTF();
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+}
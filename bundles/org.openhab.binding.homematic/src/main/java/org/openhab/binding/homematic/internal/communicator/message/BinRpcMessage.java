@@ -49,6 +49,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     private Object[] messageData;
     private byte[] binRpcData;
     private int offset;
+    private int limit;
 
     private String methodName;
     private TYPE type;
@@ -100,7 +101,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         System.arraycopy(sig, 0, message, 0, sig.length);
         System.arraycopy(payload, 0, message, sig.length, payload.length);
 
-        decodeMessage(message, methodHeader);
+        decodeMessage(message, message.length, methodHeader);
     }
 
     private void validateBinXSignature(byte[] sig) throws UnsupportedEncodingException {
@@ -118,11 +119,27 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
             throw new EOFException("Only " + message.length + " bytes received");
         }
         validateBinXSignature(message);
-        decodeMessage(message, methodHeader);
+        decodeMessage(message, message.length, methodHeader);
     }
 
-    private void decodeMessage(byte[] message, boolean methodHeader) throws IOException {
+    /**
+     * Decodes a BIN-RPC message from the first length bytes of the given buffer without copying it. The buffer may be
+     * reused as soon as the constructor returns.
+     */
+    public BinRpcMessage(byte[] buffer, int length, boolean methodHeader, Charset encoding) throws IOException {
+        this.encoding = encoding;
+        if (length < 8) {
+            throw new EOFException("Only " + length + " bytes received");
+        }
+        validateBinXSignature(buffer);
+        decodeMessage(buffer, length, methodHeader);
+        // drop the reference to the buffer, the decoded data is kept in messageData
+        binRpcData = null;
+    }
+
+    private void decodeMessage(byte[] message, int length, boolean methodHeader) throws IOException {
         binRpcData = message;
+        limit = length;
 
         offset = 8;
 
@@ -140,9 +157,12 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     private void generateResponseData() throws IOException {
         offset = 8 + (methodName != null ? methodName.length() + 8 : 0);
         List<Object> values = new ArrayList<>();
-        while (offset < binRpcData.length) {
+        while (offset < limit) {
             values.add(readRpcValue());
         }
+        if (offset > limit) {
+            throw new EOFException("Truncated BIN-RPC message");
+        }
         messageData = values.toArray();
         values.clear();
     }
@@ -192,6 +212,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         byte[] trimmed = new byte[offset];
         System.arraycopy(binRpcData, 0, trimmed, 0, offset);
         binRpcData = trimmed;
+        limit = offset;
     }
 
     @Override
@@ -258,7 +279,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
                 return struct;
 
             default:
-                for (int i = 0; i < binRpcData.length; i++) {
+                for (int i = 0; i < limit; i++) {
                     logger.info("{} {}", Integer.toHexString(binRpcData[i]), (char) binRpcData[i]);
                 }
                 throw new IOException("Unknown data type " + type);
@@ -375,6 +396,9 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
 
     @Override
     public String toString() {
+        if (binRpcData == null) {
+            return RpcUtils.dumpRpcMessage(methodName, messageData);
+        }
         try {
             trimBinRpcData();
             generateResponseData();
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of receive buffers for BIN-RPC connections. A connection only holds a buffer while it is receiving a message,
+ * so idle keep-alive connections don't occupy any memory. The pool is not thread-safe, it is only used by the selector
+ * thread of the {@link BinRpcNetworkService}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class BinRpcBufferPool {
+    public static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+
+    /**
+     * Returns a cleared buffer with a capacity of {@link #BUFFER_SIZE}.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.pollFirst();
+        return buffer != null ? buffer : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the buffer to the pool. Buffers allocated for large messages are not pooled.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() == BUFFER_SIZE && buffers.size() < MAX_POOLED_BUFFERS) {
+            buffer.clear();
+            buffers.offerFirst(buffer);
+        }
+    }
+
+    /**
+     * Returns the number of buffers available in the pool.
+     */
+    public int available() {
+        return buffers.size();
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
+
+/**
+ * Collects the bytes of BIN-RPC messages received on a non-blocking channel and decodes complete messages directly
+ * from the receive buffer. The buffer is taken from the {@link BinRpcBufferPool} when data arrives and returned as
+ * soon as no partial message is left.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class BinRpcFrameDecoder {
+    private static final int HEADER_LENGTH = 8;
+    private static final int MAX_MESSAGE_LENGTH = 16 * 1024 * 1024;
+
+    private final BinRpcBufferPool bufferPool;
+    private final Charset encoding;
+    private ByteBuffer buffer;
+
+    public BinRpcFrameDecoder(BinRpcBufferPool bufferPool, Charset encoding) {
+        this.bufferPool = bufferPool;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Reads the available bytes from the channel.
+     *
+     * @return the number of bytes read, -1 if the channel has reached end-of-stream
+     */
+    public int read(ReadableByteChannel channel) throws IOException {
+        if (buffer == null) {
+            buffer = bufferPool.acquire();
+        }
+        int length = channel.read(buffer);
+        if (buffer.position() == 0) {
+            releaseBuffer();
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the next complete message from the received bytes.
+     *
+     * @return the message or null, if no complete message has been received yet
+     */
+    public BinRpcMessage decode() throws IOException {
+        if (buffer == null || buffer.position() < HEADER_LENGTH) {
+            return null;
+        }
+        byte[] data = buffer.array();
+        if (data[0] != 'B' || data[1] != 'i' || data[2] != 'n') {
+            throw new UnsupportedEncodingException("No BinX signature");
+        }
+        int messageLength = HEADER_LENGTH + (((data[4] & 0xFF) << 24) | ((data[5] & 0xFF) << 16)
+                | ((data[6] & 0xFF) << 8) | (data[7] & 0xFF));
+        if (messageLength < HEADER_LENGTH || messageLength > MAX_MESSAGE_LENGTH) {
+            throw new IOException("Invalid BIN-RPC message length " + messageLength);
+        }
+        if (buffer.position() < messageLength) {
+            ensureCapacity(messageLength);
+            return null;
+        }
+
+        BinRpcMessage message = new BinRpcMessage(data, messageLength, true, encoding);
+
+        // move the bytes of the next message, if any, to the start of the buffer
+        buffer.flip();
+        buffer.position(messageLength);
+        buffer.compact();
+        if (buffer.position() == 0) {
+            releaseBuffer();
+        }
+        return message;
+    }
+
+    /**
+     * Returns true, if a partial message has been received.
+     */
+    public boolean isReceiving() {
+        return buffer != null;
+    }
+
+    /**
+     * Returns the buffer to the pool.
+     */
+    public void close() {
+        if (buffer != null) {
+            releaseBuffer();
+        }
+    }
+
+    private void ensureCapacity(int messageLength) {
+        if (buffer.capacity() < messageLength) {
+            ByteBuffer largeBuffer = ByteBuffer.allocate(messageLength);
+            buffer.flip();
+            largeBuffer.put(buffer);
+            bufferPool.release(buffer);
+            buffer = largeBuffer;
+        }
+    }
+
+    private void releaseBuffer() {
+        bufferPool.release(buffer);
+        buffer = null;
+    }
+}
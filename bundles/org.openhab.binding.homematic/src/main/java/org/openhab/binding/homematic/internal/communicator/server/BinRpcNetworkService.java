@@ -12,18 +12,37 @@
  */
 package org.openhab.binding.homematic.internal.communicator.server;
 
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
+
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
 import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
 import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Waits for a message from the Homematic gateway and starts the RpcCallbackHandler to handle the message.
+ * Receives the messages from the Homematic gateway on non-blocking connections and hands the method calls to the
+ * {@link RpcResponseHandler}.
+ * <p>
+ * All connections are served by one selector thread, which also decodes the messages. Events and multicalls are
+ * acknowledged immediately and handled afterwards on the RPC thread pool, one message after the other per connection.
+ * A multicall is handled as one batch. Other method calls are answered after they have been handled.
  *
  * @author Gerhard Riegler - Initial contribution
  */
@@ -34,8 +53,17 @@ public class BinRpcNetworkService implements Runnable {
             3, 0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
 
     private static final String RPC_POOL_NAME = "homematicRpc";
-    private ServerSocket serverSocket;
-    private boolean accept = true;
+    // messages waiting to be handled per connection, before events are not acknowledged in advance anymore
+    private static final int MAX_PENDING_CALLS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(BinRpcNetworkService.class);
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final BinRpcBufferPool bufferPool = new BinRpcBufferPool();
+    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = ThreadPoolManager.getPool(RPC_POOL_NAME);
+    private volatile boolean accept = true;
     private HomematicConfig config;
     private RpcResponseHandler<byte[]> rpcResponseHandler;
 
@@ -45,9 +73,17 @@ public class BinRpcNetworkService implements Runnable {
     public BinRpcNetworkService(RpcEventListener listener, HomematicConfig config) throws IOException {
         this.config = config;
 
-        serverSocket = new ServerSocket();
-        serverSocket.setReuseAddress(true);
-        serverSocket.bind(new InetSocketAddress(config.getBinCallbackPort()));
+        selector = Selector.open();
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.socket().setReuseAddress(true);
+            serverChannel.bind(new InetSocketAddress(config.getBinCallbackPort()));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ex) {
+            selector.close();
+            throw ex;
+        }
 
         this.rpcResponseHandler = new RpcResponseHandler<>(listener) {
 
@@ -78,14 +114,39 @@ public class BinRpcNetworkService implements Runnable {
      */
     @Override
     public void run() {
-        while (accept) {
-            try {
-                Socket cs = serverSocket.accept();
-                BinRpcResponseHandler rpcHandler = new BinRpcResponseHandler(cs, rpcResponseHandler, config);
-                ThreadPoolManager.getPool(RPC_POOL_NAME).execute(rpcHandler);
-            } catch (IOException ex) {
-                // ignore
+        try {
+            while (accept) {
+                selector.select();
+                Runnable task;
+                while ((task = selectorTasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        acceptConnection();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    }
+                }
             }
+        } catch (IOException | ClosedSelectorException ex) {
+            if (accept) {
+                logger.warn("BIN-RPC server stopped unexpectedly: {}", ex.getMessage());
+            }
+        } finally {
+            closeAll();
         }
     }
 
@@ -95,9 +156,187 @@ public class BinRpcNetworkService implements Runnable {
     public void shutdown() {
         accept = false;
         try {
-            serverSocket.close();
+            serverChannel.close();
+        } catch (IOException ioe) {
+            // ignore
+        }
+        selector.wakeup();
+    }
+
+    private void acceptConnection() {
+        try {
+            SocketChannel channel = serverChannel.accept();
+            if (channel != null) {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new Connection(channel, key));
+            }
+        } catch (IOException ex) {
+            // ignore
+        }
+    }
+
+    private void closeAll() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            selector.close();
+        } catch (IOException | ClosedSelectorException ex) {
+            // ignore
+        }
+        try {
+            serverChannel.close();
         } catch (IOException ioe) {
             // ignore
         }
     }
+
+    /**
+     * Executes the task on the selector thread.
+     */
+    private void runOnSelector(Runnable task) {
+        selectorTasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * A connection of the Homematic gateway. Reading, writing and closing is done on the selector thread, the method
+     * calls are handled on the RPC thread pool in the order they have been received.
+     */
+    private class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final BinRpcFrameDecoder decoder;
+        private final long created = System.currentTimeMillis();
+        private final Queue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> calls = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCalls = new AtomicInteger();
+        private volatile boolean closed;
+
+        public Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+            this.decoder = new BinRpcFrameDecoder(bufferPool, config.getEncoding());
+        }
+
+        /**
+         * Reads the available bytes and handles all complete messages.
+         */
+        public void read() {
+            try {
+                int length = decoder.read(channel);
+                BinRpcMessage message;
+                while (!closed && (message = decoder.decode()) != null) {
+                    handleMessage(message);
+                }
+                if (length < 0) {
+                    close();
+                }
+            } catch (EOFException eof) {
+                close();
+            } catch (Exception e) {
+                logger.warn("{}", e.getMessage(), e);
+                close();
+            }
+        }
+
+        private void handleMessage(BinRpcMessage message) {
+            logger.trace("Event BinRpcMessage: {}", message);
+            String methodName = message.getMethodName();
+            Object[] responseData = message.getResponseData();
+
+            byte[] acknowledge = null;
+            if (pendingCalls.get() < MAX_PENDING_CALLS) {
+                if (RPC_METHODNAME_EVENT.equals(methodName)) {
+                    acknowledge = BIN_EMPTY_STRING;
+                } else if (RPC_METHODNAME_SYSTEM_MULTICALL.equals(methodName)) {
+                    acknowledge = BIN_EMPTY_EVENT_LIST;
+                }
+            }
+            boolean acknowledged = acknowledge != null;
+            submit(() -> {
+                try {
+                    byte[] returnValue = rpcResponseHandler.handleMethodCall(methodName, responseData);
+                    if (!acknowledged && returnValue != null) {
+                        send(returnValue);
+                    }
+                } catch (Exception e) {
+                    logger.warn("{}", e.getMessage(), e);
+                    runOnSelector(this::close);
+                }
+            });
+            if (acknowledged) {
+                responses.add(ByteBuffer.wrap(acknowledge));
+                write();
+            }
+        }
+
+        /**
+         * Queues the method call, only one call of a connection is executed at a time.
+         */
+        private void submit(Runnable call) {
+            calls.add(call);
+            if (pendingCalls.getAndIncrement() == 0) {
+                executor.execute(this::executeCalls);
+            }
+        }
+
+        private void executeCalls() {
+            // calls are executed even if the connection has been closed meanwhile, they might have been acknowledged
+            do {
+                Runnable call = calls.poll();
+                if (call != null) {
+                    call.run();
+                }
+            } while (pendingCalls.decrementAndGet() > 0);
+        }
+
+        private void send(byte[] returnValue) {
+            responses.add(ByteBuffer.wrap(returnValue));
+            runOnSelector(this::write);
+        }
+
+        /**
+         * Writes the pending responses, waits for the channel to become writable if it can't take all data.
+         */
+        public void write() {
+            if (closed) {
+                return;
+            }
+            try {
+                ByteBuffer response;
+                while ((response = responses.peek()) != null) {
+                    channel.write(response);
+                    if (response.hasRemaining()) {
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                    responses.poll();
+                    if (System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000)) {
+                        close();
+                        return;
+                    }
+                }
+                key.interestOps(SelectionKey.OP_READ);
+            } catch (IOException ex) {
+                close();
+            }
+        }
+
+        public void close() {
+            if (!closed) {
+                closed = true;
+                key.cancel();
+                decoder.close();
+                try {
+                    channel.close();
+                } catch (IOException ioe) {
+                    // ignore
+                }
+            }
+        }
+    }
 }
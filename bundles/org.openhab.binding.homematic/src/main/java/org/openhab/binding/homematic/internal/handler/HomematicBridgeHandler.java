@@ -345,6 +345,11 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
         }
     }
 
+    @Override
+    public boolean isDeviceConfigured(HmDevice device) {
+        return getThing().getThing(UidUtils.generateThingUID(device, getThing())) != null;
+    }
+
     @Override
     public void onDutyCycleRatioUpdate(int dutyCycleRatio) {
         synchronized (dutyCycleRatioUpdateLock) {
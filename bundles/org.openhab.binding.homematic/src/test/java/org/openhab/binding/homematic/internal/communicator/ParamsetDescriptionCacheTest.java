@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmInterface;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests for {@link ParamsetDescriptionCache}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest extends JavaTest {
+
+    private @TempDir Path tempDir;
+
+    @Test
+    public void testRoundTrip() {
+        Path file = tempDir.resolve("homematic").resolve("gateway-paramsets.bin");
+        HmChannel channel = createChannel("1.4");
+        String channelKey = ParamsetDescriptionCache.getChannelKey(channel);
+        assertThat(channelKey, is("RF:HM-LC-Dim1T-FM:1.4:1"));
+
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, "3.71.12");
+        cache.put(channelKey, createDatapoints());
+        cache.save();
+        assertThat(Files.exists(file), is(true));
+
+        ParamsetDescriptionCache loadedCache = new ParamsetDescriptionCache(file, "3.71.12");
+        loadedCache.load();
+        Collection<HmDatapoint> datapoints = loadedCache.get(channelKey);
+        assertThat(datapoints.size(), is(3));
+
+        List<HmDatapoint> list = new ArrayList<>(datapoints);
+        HmDatapoint level = list.get(0);
+        assertThat(level.getName(), is("LEVEL"));
+        assertThat(level.getType(), is(HmValueType.FLOAT));
+        assertThat(level.getParamsetType(), is(HmParamsetType.VALUES));
+        assertThat(level.getMinValue(), is(0.0f));
+        assertThat(level.getMaxValue(), is(1.0f));
+        assertThat(level.getDefaultValue(), is(0.0f));
+        assertThat(level.getUnit(), is("100%"));
+        assertThat(level.isReadOnly(), is(false));
+        assertThat(level.isReadable(), is(true));
+        assertThat(level.getValue(), nullValue());
+        assertThat(level.getChannel(), nullValue());
+
+        HmDatapoint mode = list.get(1);
+        assertThat(mode.getType(), is(HmValueType.ENUM));
+        assertThat(mode.getOptions(), is(new String[] { "OFF", "ON", "" }));
+        assertThat(mode.getMinValue(), is(0));
+        assertThat(mode.getMaxValue(), is(2));
+        assertThat(mode.getDefaultValue(), is("ON"));
+        assertThat(mode.getDescription(), nullValue());
+
+        HmDatapoint press = list.get(2);
+        assertThat(press.getType(), is(HmValueType.ACTION));
+        assertThat(press.getParamsetType(), is(HmParamsetType.MASTER));
+        assertThat(press.isTrigger(), is(true));
+        assertThat(press.getDefaultValue(), is(Boolean.FALSE));
+        assertThat(press.getOptions(), nullValue());
+    }
+
+    @Test
+    public void testVirtualDatapointsAreNotCached() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(tempDir.resolve("paramsets.bin"), "1.0");
+        List<HmDatapoint> datapoints = createDatapoints();
+        datapoints.get(0).setVirtual(true);
+        cache.put("key", datapoints);
+
+        assertThat(cache.get("key").size(), is(2));
+        assertThat(cache.get("key").iterator().next().getName(), is("MODE"));
+    }
+
+    @Test
+    public void testFirmwareChangeDiscardsCache() {
+        Path file = tempDir.resolve("paramsets.bin");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, "3.71.12");
+        cache.put("key", createDatapoints());
+        cache.save();
+
+        ParamsetDescriptionCache loadedCache = new ParamsetDescriptionCache(file, "3.73.9");
+        loadedCache.load();
+        assertThat(loadedCache.size(), is(0));
+    }
+
+    @Test
+    public void testRetainAll() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(tempDir.resolve("paramsets.bin"), "1.0");
+        cache.put("used", createDatapoints());
+        cache.put("unused", createDatapoints());
+        cache.retainAll(Set.of("used"));
+
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get("unused"), nullValue());
+    }
+
+    @Test
+    public void testCorruptFileIsIgnored() throws IOException {
+        Path file = tempDir.resolve("paramsets.bin");
+        Files.write(file, new byte[] { 0, 0, 0, 1, 0 });
+
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, "1.0");
+        cache.load();
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testCorruptValueTypeIsIgnored() throws IOException {
+        Path file = tempDir.resolve("paramsets.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            writeHeader(out, 1);
+            out.writeUTF("LEVEL");
+            out.writeBoolean(false);
+            out.writeUTF(HmValueType.FLOAT.name());
+            out.writeUTF(HmParamsetType.VALUES.name());
+            // a string where the minimum value is expected
+            out.writeByte(6);
+            out.writeUTF("0.0");
+        }
+
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, "1.0");
+        cache.load();
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testCorruptCountIsIgnored() throws IOException {
+        Path file = tempDir.resolve("paramsets.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            writeHeader(out, Integer.MAX_VALUE);
+        }
+
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, "1.0");
+        cache.load();
+        assertThat(cache.size(), is(0));
+    }
+
+    private void writeHeader(DataOutputStream out, int datapointCount) throws IOException {
+        out.writeInt(1);
+        out.writeUTF("1.0");
+        out.writeInt(1);
+        out.writeUTF("key");
+        out.writeInt(datapointCount);
+    }
+
+    private HmChannel createChannel(String firmware) {
+        HmDevice device = new HmDevice("ABC12345", HmInterface.RF, "HM-LC-Dim1T-FM", "gateway", null, firmware);
+        HmChannel channel = new HmChannel("DIMMER", 1);
+        device.addChannel(channel);
+        return channel;
+    }
+
+    private List<HmDatapoint> createDatapoints() {
+        List<HmDatapoint> datapoints = new ArrayList<>();
+        HmDatapoint level = new HmDatapoint("LEVEL", "", HmValueType.FLOAT, 0.5f, false, HmParamsetType.VALUES);
+        level.setMinValue(0.0f);
+        level.setMaxValue(1.0f);
+        level.setDefaultValue(0.0f);
+        level.setUnit("100%");
+        level.setReadable(true);
+        datapoints.add(level);
+
+        HmDatapoint mode = new HmDatapoint("MODE", null, HmValueType.ENUM, 1, false, HmParamsetType.VALUES);
+        mode.setOptions(new String[] { "OFF", "ON", "" });
+        mode.setMinValue(0);
+        mode.setMaxValue(2);
+        mode.setDefaultValue("ON");
+        datapoints.add(mode);
+
+        HmDatapoint press = new HmDatapoint("PRESS", "", HmValueType.ACTION, null, true, HmParamsetType.MASTER);
+        press.setTrigger(true);
+        press.setDefaultValue(Boolean.FALSE);
+        datapoints.add(press);
+        return datapoints;
+    }
+}
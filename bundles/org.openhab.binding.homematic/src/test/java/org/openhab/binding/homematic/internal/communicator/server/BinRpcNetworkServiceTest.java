@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homematic.internal.common.HomematicConfig;
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
+import org.openhab.binding.homematic.internal.model.HmDatapointInfo;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests for {@link BinRpcNetworkService}, the Homematic gateway is simulated by plain sockets.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class BinRpcNetworkServiceTest extends JavaTest {
+    private static final int CONNECTIONS = 8;
+    private static final int MULTICALLS_PER_CONNECTION = 200;
+    private static final int EVENTS_PER_MULTICALL = 25;
+
+    private final HomematicConfig config = new HomematicConfig();
+    private final Queue<String> receivedEvents = new ConcurrentLinkedQueue<>();
+    private CountDownLatch expectedEvents;
+    private BinRpcNetworkService networkService;
+    private Thread networkServiceThread;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            config.setBinCallbackPort(socket.getLocalPort());
+        }
+        config.setSocketMaxAlive(900);
+        expectedEvents = new CountDownLatch(CONNECTIONS * MULTICALLS_PER_CONNECTION * EVENTS_PER_MULTICALL);
+
+        networkService = new BinRpcNetworkService(new RpcEventListener() {
+            @Override
+            public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
+                receivedEvents.add(dpInfo.getAddress() + ":" + newValue);
+                expectedEvents.countDown();
+            }
+
+            @Override
+            public void newDevices(List<String> adresses) {
+            }
+
+            @Override
+            public void deleteDevices(List<String> addresses) {
+            }
+        }, config);
+        networkServiceThread = new Thread(networkService);
+        networkServiceThread.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        networkService.shutdown();
+        networkServiceThread.join(5000);
+    }
+
+    @Test
+    public void testEventBurstFromManyConnections() throws Exception {
+        ExecutorService fakeGateway = Executors.newFixedThreadPool(CONNECTIONS);
+        try {
+            List<Future<Integer>> acknowledges = new ArrayList<>();
+            for (int i = 0; i < CONNECTIONS; i++) {
+                String address = "DEV" + i;
+                acknowledges.add(fakeGateway.submit(() -> sendMulticalls(address)));
+            }
+            for (Future<Integer> acknowledged : acknowledges) {
+                assertThat(acknowledged.get(30, TimeUnit.SECONDS), is(MULTICALLS_PER_CONNECTION));
+            }
+        } finally {
+            fakeGateway.shutdownNow();
+        }
+
+        assertThat(expectedEvents.await(30, TimeUnit.SECONDS), is(true));
+        // the events of each connection are handled in the order they have been sent
+        for (int i = 0; i < CONNECTIONS; i++) {
+            String prefix = "DEV" + i + ":";
+            List<String> events = receivedEvents.stream().filter(event -> event.startsWith(prefix)).toList();
+            assertThat(events.size(), is(MULTICALLS_PER_CONNECTION * EVENTS_PER_MULTICALL));
+            for (int j = 0; j < events.size(); j++) {
+                assertThat(events.get(j), is(prefix + j));
+            }
+        }
+    }
+
+    @Test
+    public void testFragmentedMessages() throws Exception {
+        expectedEvents = new CountDownLatch(2);
+        byte[] first = createEventMessage("DEV1", 1);
+        byte[] second = createEventMessage("DEV1", 2);
+        byte[] both = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, both, first.length, second.length);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), config.getBinCallbackPort())) {
+            OutputStream out = socket.getOutputStream();
+            for (byte b : both) {
+                out.write(b);
+                out.flush();
+            }
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertThat(readResponse(in).getResponseData()[0], is(""));
+            assertThat(readResponse(in).getResponseData()[0], is(""));
+        }
+        assertThat(expectedEvents.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(new ArrayList<>(receivedEvents), is(List.of("DEV1:1", "DEV1:2")));
+    }
+
+    @Test
+    public void testListMethods() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("system.listMethods", encoding());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), config.getBinCallbackPort())) {
+            socket.getOutputStream().write(request.createMessage());
+            Object[] methods = (Object[]) readResponse(new DataInputStream(socket.getInputStream()))
+                    .getResponseData()[0];
+            assertThat(Arrays.asList(methods), hasItems("system.multicall", "event", "newDevices"));
+        }
+    }
+
+    private int sendMulticalls(String address) throws IOException {
+        int acknowledged = 0;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), config.getBinCallbackPort())) {
+            OutputStream out = socket.getOutputStream();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            int value = 0;
+            for (int i = 0; i < MULTICALLS_PER_CONNECTION; i++) {
+                List<Object> calls = new ArrayList<>();
+                for (int j = 0; j < EVENTS_PER_MULTICALL; j++) {
+                    calls.add(Map.of("methodName", "event", "params",
+                            List.of("openhab", address + ":1", "LEVEL", value++)));
+                }
+                BinRpcMessage request = new BinRpcMessage("system.multicall", encoding());
+                request.addArg(calls);
+                out.write(request.createMessage());
+                readResponse(in);
+                acknowledged++;
+            }
+        }
+        return acknowledged;
+    }
+
+    private byte[] createEventMessage(String address, int value) {
+        BinRpcMessage request = new BinRpcMessage("event", encoding());
+        request.addArg("openhab");
+        request.addArg(address + ":1");
+        request.addArg("LEVEL");
+        request.addArg(value);
+        return request.createMessage();
+    }
+
+    private BinRpcMessage readResponse(DataInputStream in) throws IOException {
+        byte[] header = new byte[8];
+        in.readFully(header);
+        int length = ((header[4] & 0xFF) << 24) | ((header[5] & 0xFF) << 16) | ((header[6] & 0xFF) << 8)
+                | (header[7] & 0xFF);
+        byte[] message = Arrays.copyOf(header, 8 + length);
+        in.readFully(message, 8, length);
+        return new BinRpcMessage(message, message.length, false, encoding());
+    }
+
+    private Charset encoding() {
+        return config.getEncoding();
+    }
+}
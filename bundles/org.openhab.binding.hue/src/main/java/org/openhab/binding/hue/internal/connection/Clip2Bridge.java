@@ -91,6 +91,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
@@ -482,15 +483,7 @@ public class Clip2Bridge implements Closeable {
         Throttler(int permitCount) throws InterruptedException {
             this.permitCount = permitCount;
             streamMutex.acquire(permitCount);
-            long delay;
-            synchronized (Clip2Bridge.this) {
-                Instant now = Instant.now();
-                delay = lastRequestTime
-                        .map(t -> Math.max(0, Duration.between(now, t).toMillis() + REQUEST_INTERVAL_MILLISECS))
-                        .orElse(0L);
-                lastRequestTime = Optional.of(now.plusMillis(delay));
-            }
-            Thread.sleep(delay);
+            Thread.sleep(reserveRequestSlot());
         }
 
         @Override
@@ -563,6 +556,7 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Clip2CommandQueue commandQueue;
 
     private boolean recreatingSession;
     private boolean closing;
@@ -597,6 +591,22 @@ public class Clip2Bridge implements Closeable {
         baseUrl = String.format(FORMAT_URL_RESOURCE, hostName);
         eventUrl = String.format(FORMAT_URL_EVENTS, hostName);
         registrationUrl = String.format(FORMAT_URL_REGISTER, hostName);
+        commandQueue = new Clip2CommandQueue(bridgeHandler.getScheduler(), this::putResourceImpl,
+                this::reserveRequestSlot);
+    }
+
+    /**
+     * Reserve the next time slot for sending a request, so that requests are spaced by at least
+     * REQUEST_INTERVAL_MILLISECS.
+     *
+     * @return the number of milliseconds to wait before the request may be sent.
+     */
+    private synchronized long reserveRequestSlot() {
+        Instant now = Instant.now();
+        long delay = lastRequestTime
+                .map(t -> Math.max(0, Duration.between(now, t).toMillis() + REQUEST_INTERVAL_MILLISECS)).orElse(0L);
+        lastRequestTime = Optional.of(now.plusMillis(delay));
+        return delay;
     }
 
     /**
@@ -643,6 +653,7 @@ public class Clip2Bridge implements Closeable {
     @Override
     public void close() {
         closing = true;
+        commandQueue.close();
         Thread recreateThread = this.recreateThread;
         if (Objects.nonNull(recreateThread) && recreateThread.isAlive()) {
             recreateThread.interrupt();
@@ -1081,23 +1092,39 @@ public class Clip2Bridge implements Closeable {
     }
 
     /**
-     * Use an HTTP/2 PUT command to send a resource to the server. Uses a Throttler to prevent too many concurrent
-     * calls, and to prevent too frequent calls on the Hue bridge server. Also uses a SessionSynchronizer to delay
-     * accessing the session while it is being recreated.
+     * Queue an HTTP/2 PUT command to send a resource to the server. The command is sent asynchronously by the command
+     * queue, which spaces the calls to prevent too frequent calls on the Hue bridge server, and which drops the
+     * properties of queued commands that are superseded by this one.
      *
      * @param resource the resource to put.
+     * @return a future which completes with the resource, which may contain errors, or with an ApiException if
+     *         something fails.
+     */
+    public CompletableFuture<Resources> putResource(Resource resource) {
+        ResourceReference reference = new ResourceReference().setId(resource.getId()).setType(resource.getType());
+        return commandQueue.submit(reference, jsonParser.toJsonTree(resource).getAsJsonObject());
+    }
+
+    /**
+     * Internal method to send an HTTP/2 PUT command to the server. Acquires all stream permits to prevent concurrent
+     * calls, and uses a SessionSynchronizer to delay accessing the session while it is being recreated. Called by the
+     * command queue only, which takes care of spacing the calls.
+     *
+     * @param reference the resource to put.
+     * @param body the json representation of the resource.
      * @return the resource, which may contain errors.
      * @throws ApiException if something fails.
      * @throws InterruptedException
      */
-    public Resources putResource(Resource resource) throws ApiException, InterruptedException {
+    private Resources putResourceImpl(ResourceReference reference, JsonObject body)
+            throws ApiException, InterruptedException {
         Stream stream = null;
-        try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
-                SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
+        streamMutex.acquire(MAX_CONCURRENT_STREAMS);
+        try (SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
             Session session = getSession();
-            String requestJson = jsonParser.toJson(resource);
+            String requestJson = body.toString();
             ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
-            String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
+            String url = getUrl(reference);
             HeadersFrame headers = prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
                     MediaType.APPLICATION_JSON);
             LOGGER.trace("PUT {} HTTP/2 >> {}", url, requestJson);
@@ -1131,6 +1158,7 @@ public class Clip2Bridge implements Closeable {
             throw new ApiException("Error sending PUT request", e);
         } finally {
             closeStream(stream);
+            streamMutex.release(MAX_CONCURRENT_STREAMS);
         }
     }
 
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Queue for HTTP PUT commands to the Hue bridge.
+ * <p>
+ * Commands are sent one by one in the order they were submitted, and spaced by the delay given by the bridge, without
+ * blocking the threads that submit them. While a command is waiting in the queue, the properties it sets are removed
+ * from it as soon as a newer command sets the same properties of the same resource, and it is dropped completely if
+ * no property is left. This means that only the latest value of e.g. a brightness slider that is being dragged is sent
+ * to the bridge, whereas the final state of the resources is the same as if all commands had been sent.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class Clip2CommandQueue {
+
+    /**
+     * Sends a command to the bridge.
+     */
+    @FunctionalInterface
+    interface Sender {
+        Resources put(ResourceReference reference, JsonObject body) throws ApiException, InterruptedException;
+    }
+
+    /**
+     * Json members that identify the resource or modify how the properties are applied, rather than being properties.
+     */
+    private static final Set<String> NON_PROPERTY_MEMBERS = Set.of("id", "type", "dynamics");
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2CommandQueue.class);
+    private final ScheduledExecutorService scheduler;
+    private final Sender sender;
+    private final LongSupplier delaySupplier;
+
+    private final Deque<Command> commands = new ArrayDeque<>();
+    private boolean sending;
+    private boolean closed;
+
+    private long sentCount;
+    private long collapsedCount;
+    private long totalLatencyMillis;
+    private long maxLatencyMillis;
+
+    /**
+     * @param scheduler executes the sending of the commands.
+     * @param sender sends a command to the bridge.
+     * @param delaySupplier reserves the next request slot, and returns the milliseconds to wait for it.
+     */
+    Clip2CommandQueue(ScheduledExecutorService scheduler, Sender sender, LongSupplier delaySupplier) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.delaySupplier = delaySupplier;
+    }
+
+    /**
+     * Queue a command to be sent to the bridge.
+     *
+     * @param reference the resource to be commanded.
+     * @param body the json representation of the command.
+     * @return a future which completes with the response of the bridge, or with an ApiException.
+     */
+    CompletableFuture<Resources> submit(ResourceReference reference, JsonObject body) {
+        CompletableFuture<Resources> future = new CompletableFuture<>();
+        Command command = new Command(reference, body, future);
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new ApiException("Connection is closed"));
+                return future;
+            }
+            collapseSuperseded(command);
+            commands.add(command);
+            if (!sending) {
+                sending = true;
+                scheduler.execute(() -> send(false));
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Remove the properties set by the given command from the queued commands for the same resource, and drop the
+     * queued commands which have no property left. Their futures complete with the response to the given command.
+     * Must be called when holding the lock on this instance.
+     */
+    private void collapseSuperseded(Command command) {
+        Set<String> properties = command.getProperties();
+        Iterator<Command> iterator = commands.iterator();
+        while (iterator.hasNext()) {
+            Command queued = iterator.next();
+            if (queued.isSameResource(command)) {
+                properties.forEach(queued.body::remove);
+                if (queued.getProperties().isEmpty()) {
+                    iterator.remove();
+                    command.futures.addAll(0, queued.futures);
+                    command.submitTime = Math.min(command.submitTime, queued.submitTime);
+                    collapsedCount++;
+                    logger.trace("collapseSuperseded() dropped {}", queued.body);
+                }
+            }
+        }
+    }
+
+    private void send(boolean slotReserved) {
+        if (!slotReserved) {
+            long delay = delaySupplier.getAsLong();
+            if (delay > 0) {
+                scheduler.schedule(() -> send(true), delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        Command command;
+        int pendingCount;
+        synchronized (this) {
+            command = commands.poll();
+            if (command == null || closed) {
+                sending = false;
+                return;
+            }
+            pendingCount = commands.size();
+            long latency = System.currentTimeMillis() - command.submitTime;
+            sentCount++;
+            totalLatencyMillis += latency;
+            maxLatencyMillis = Math.max(maxLatencyMillis, latency);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "send() {} after {} ms, {} pending, {} sent, {} collapsed, latency average {} ms, max {} ms",
+                        command.reference.getId(), latency, pendingCount, sentCount, collapsedCount,
+                        totalLatencyMillis / sentCount, maxLatencyMillis);
+            }
+        }
+        try {
+            Resources resources = sender.put(command.reference, command.body);
+            command.futures.forEach(future -> future.complete(resources));
+        } catch (ApiException | RuntimeException e) {
+            command.futures.forEach(future -> future.completeExceptionally(e));
+        } catch (InterruptedException e) {
+            command.futures.forEach(future -> future.completeExceptionally(new ApiException("Interrupted", e)));
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (commands.isEmpty() || closed) {
+                sending = false;
+                return;
+            }
+        }
+        scheduler.execute(() -> send(false));
+    }
+
+    /**
+     * Stop sending, and complete the futures of the queued commands with an ApiException.
+     */
+    void close() {
+        List<Command> pending;
+        synchronized (this) {
+            closed = true;
+            pending = new ArrayList<>(commands);
+            commands.clear();
+        }
+        ApiException e = new ApiException("Connection is closed");
+        pending.forEach(command -> command.futures.forEach(future -> future.completeExceptionally(e)));
+    }
+
+    synchronized int getPendingCount() {
+        return commands.size();
+    }
+
+    private static class Command {
+        private final ResourceReference reference;
+        private final JsonObject body;
+        private final List<CompletableFuture<Resources>> futures = new ArrayList<>(1);
+        private long submitTime = System.currentTimeMillis();
+
+        Command(ResourceReference reference, JsonObject body, CompletableFuture<Resources> future) {
+            this.reference = reference;
+            this.body = body;
+            futures.add(future);
+        }
+
+        boolean isSameResource(Command other) {
+            String id = reference.getId();
+            return Objects.nonNull(id) && id.equals(other.reference.getId())
+                    && reference.getType() == other.reference.getType();
+        }
+
+        Set<String> getProperties() {
+            return body.keySet().stream().filter(member -> !NON_PROPERTY_MEMBERS.contains(member))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -15,18 +15,22 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -117,6 +121,14 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the child thing handlers by the ids of the resources they consume. It is built on demand and dropped
+     * whenever a child handler changes the set of resources it consumes.
+     */
+    private volatile @Nullable Map<String, List<Clip2ThingHandler>> resourceIndex;
+    private final Object resourceIndexLock = new Object();
+    private int resourceIndexVersion;
+
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
     private int connectRetriesRemaining;
@@ -245,11 +257,92 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
      * If a child thing has been added, and the bridge is online, update the child's data.
      */
     public void childInitialized() {
+        invalidateResourceIndex();
         if (thing.getStatus() == ThingStatus.ONLINE) {
             updateThingsScheduled(5000);
         }
     }
 
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        invalidateResourceIndex();
+        super.childHandlerDisposed(childHandler, childThing);
+    }
+
+    /**
+     * Drop the index of the child thing handlers by resource id, so it is built again on the next use. Must be called
+     * by child thing handlers when the set of resources they consume has changed.
+     */
+    public void invalidateResourceIndex() {
+        synchronized (resourceIndexLock) {
+            resourceIndexVersion++;
+            resourceIndex = null;
+        }
+    }
+
+    /**
+     * Get the index of the child thing handlers by the ids of the resources they consume, building it if necessary.
+     *
+     * @return the index.
+     */
+    private Map<String, List<Clip2ThingHandler>> getResourceIndex() {
+        Map<String, List<Clip2ThingHandler>> index = resourceIndex;
+        if (Objects.nonNull(index)) {
+            return index;
+        }
+        int version;
+        synchronized (resourceIndexLock) {
+            version = resourceIndexVersion;
+        }
+        index = new HashMap<>();
+        for (Clip2ThingHandler handler : getChildHandlers()) {
+            for (String resourceId : handler.getResourceIds()) {
+                index.computeIfAbsent(resourceId, k -> new ArrayList<>(1)).add(handler);
+            }
+        }
+        synchronized (resourceIndexLock) {
+            // do not keep an index that has been invalidated while being built
+            if (version == resourceIndexVersion) {
+                resourceIndex = index;
+            }
+        }
+        logger.debug("getResourceIndex() indexed {} resource ids", index.size());
+        return index;
+    }
+
+    private List<Clip2ThingHandler> getChildHandlers() {
+        List<Clip2ThingHandler> handlers = new ArrayList<>();
+        getThing().getThings().forEach(thing -> {
+            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
+                handlers.add(clip2ThingHandler);
+            }
+        });
+        return handlers;
+    }
+
+    /**
+     * Group the given resources by the child thing handlers which consume them.
+     *
+     * @param resources the resources.
+     * @param idFunction returns the id under which the resource is looked up in the index.
+     * @return the resources per handler, in their original order.
+     */
+    private Map<Clip2ThingHandler, List<Resource>> routeResources(List<Resource> resources,
+            Function<Resource, @Nullable String> idFunction) {
+        Map<String, List<Clip2ThingHandler>> index = getResourceIndex();
+        Map<Clip2ThingHandler, List<Resource>> routedResources = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            String id = idFunction.apply(resource);
+            List<Clip2ThingHandler> handlers = Objects.nonNull(id) ? index.get(id) : null;
+            if (Objects.nonNull(handlers)) {
+                for (Clip2ThingHandler handler : handlers) {
+                    routedResources.computeIfAbsent(handler, k -> new ArrayList<>()).add(resource);
+                }
+            }
+        }
+        return routedResources;
+    }
+
     @Override
     public void dispose() {
         if (assetsLoaded) {
@@ -509,8 +602,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers which consume the respective resource.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -526,30 +619,25 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
-    private void onResourcesEventTask(List<Resource> resources) {
+    void onResourcesEventTask(List<Resource> resources) {
         int numberOfResources = resources.size();
         logger.debug("onResourcesEventTask() resource count {}", numberOfResources);
         Setters.mergeLightResources(resources);
         if (numberOfResources != resources.size()) {
             logger.debug("onResourcesEventTask() merged to {} resources", resources.size());
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
-            }
-        });
+        routeResources(resources, Resource::getId).forEach(Clip2ThingHandler::onResources);
     }
 
     /**
-     * Execute an HTTP PUT to send a Resource object to the server.
+     * Queue an HTTP PUT to send a Resource object to the server.
      *
      * @param resource the resource to put.
-     * @return the resource, which may contain errors.
-     * @throws ApiException if a communication error occurred.
+     * @return a future which completes with the resource, which may contain errors, or with an ApiException if a
+     *         communication error occurred.
      * @throws AssetNotLoadedException if one of the assets is not loaded.
-     * @throws InterruptedException
      */
-    public Resources putResource(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException {
+    public CompletableFuture<Resources> putResource(Resource resource) throws AssetNotLoadedException {
         logger.debug("putResource() {}", resource);
         checkAssetsLoaded();
         return getClip2Bridge().putResource(resource);
@@ -722,7 +810,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Execute the mass download of all relevant resource types, and inform all child thing handlers.
+     * Execute the mass download of all relevant resource types, and inform all child thing handlers. Each handler only
+     * gets the resources it consumes resp. the scenes of its group.
      */
     private void updateThingsNow() {
         logger.debug("updateThingsNow()");
@@ -745,12 +834,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                     default:
                         break;
                 }
-                getThing().getThings().forEach(thing -> {
-                    ThingHandler handler = thing.getHandler();
-                    if (handler instanceof Clip2ThingHandler) {
-                        ((Clip2ThingHandler) handler).onResourcesList(resourceType, resourceList);
-                    }
-                });
+                onResourcesList(resourceType, resourceList);
             }
         } catch (ApiException | AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
@@ -762,6 +846,28 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Inform all child thing handlers about the full list of resources of the given type. Each handler only gets the
+     * resources it consumes resp. the scenes of its group, and an empty list if there are none, so that it can detect
+     * that its own resource is gone.
+     *
+     * @param resourceType the type of the resources in the list.
+     * @param resourceList the full list of resources of the given type.
+     */
+    void onResourcesList(ResourceType resourceType, List<Resource> resourceList) {
+        Map<Clip2ThingHandler, List<Resource>> routedResources = resourceType == ResourceType.SCENE
+                ? routeResources(resourceList, Clip2BridgeHandler::getGroupId)
+                : routeResources(resourceList, Resource::getId);
+        for (Clip2ThingHandler handler : getChildHandlers()) {
+            handler.onResourcesList(resourceType, routedResources.getOrDefault(handler, List.of()));
+        }
+    }
+
+    private static @Nullable String getGroupId(Resource resource) {
+        ResourceReference group = resource.getGroup();
+        return Objects.nonNull(group) ? group.getId() : null;
+    }
+
     /**
      * Schedule a task to call updateThings(). It prevents floods of GET calls when multiple child things are added at
      * the same time.
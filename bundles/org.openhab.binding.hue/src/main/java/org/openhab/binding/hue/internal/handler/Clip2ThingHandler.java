@@ -47,7 +47,6 @@ import org.openhab.binding.hue.internal.api.dto.clip2.MirekSchema;
 import org.openhab.binding.hue.internal.api.dto.clip2.ProductData;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
 import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
-import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.TimedEffects;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.EffectType;
@@ -268,6 +267,33 @@ public class Clip2ThingHandler extends BaseThingHandler {
         controlIds.clear();
     }
 
+    /**
+     * Get the ids of the resources consumed by this handler i.e. its own resource, and the resources contributing to
+     * its services and scenes. The bridge handler only forwards resources with these ids to this handler.
+     *
+     * @return the resource ids.
+     */
+    public Set<String> getResourceIds() {
+        if (disposing) {
+            return Set.of();
+        }
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the set of resources consumed by this handler has changed.
+     */
+    private void invalidateResourceIndex() {
+        try {
+            getBridgeHandler().invalidateResourceIndex();
+        } catch (AssetNotLoadedException e) {
+            // no bridge handler, so no index to update
+        }
+    }
+
     /**
      * Get the bridge handler.
      *
@@ -516,20 +542,28 @@ public class Clip2ThingHandler extends BaseThingHandler {
         putResource.setId(putResourceId);
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
+        Command putCommand = command;
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
+            getBridgeHandler().putResource(putResource).whenComplete((resources, e) -> {
+                if (Objects.nonNull(e)) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+                    } else {
+                        logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", putCommand,
+                                thing.getUID(), channelUID, e.getMessage());
+                    }
+                } else if (Objects.nonNull(resources) && resources.hasErrors()) {
+                    logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", putCommand,
+                            thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
+                }
+            });
+        } catch (AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
             } else {
                 logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
                         thing.getUID(), channelUID, e.getMessage());
             }
-        } catch (InterruptedException e) {
         }
     }
 
@@ -712,6 +746,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
      * Update the thing internal state depending on a full list of resources sent from the bridge. If the resourceType
      * is SCENE then call updateScenes(), otherwise if the resource refers to this thing, consume it via onResource() as
      * any other resource, or else if the resourceType nevertheless matches the thing type, set the thing state offline.
+     * The list may be restricted to the resources consumed by this thing resp. the scenes of its group.
      *
      * @param resourceType the type of the resources in the list.
      * @param fullResources the full list of resources of the given type.
@@ -1109,6 +1144,8 @@ public class Clip2ThingHandler extends BaseThingHandler {
             commandResourceIds.clear();
             commandResourceIds.putAll(services.stream() // use a 'mergeFunction' to prevent duplicates
                     .collect(Collectors.toMap(ResourceReference::getType, ResourceReference::getId, (r1, r2) -> r1)));
+
+            invalidateResourceIndex();
         }
     }
 
@@ -1253,6 +1290,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                         scenes.size());
             }
             updateSceneContributorsDone = true;
+            invalidateResourceIndex();
         }
         return updateSceneContributorsDone;
     }
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for {@link Clip2CommandQueue}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueueTest {
+
+    private static final String ON = "{\"on\":{\"on\":true}}";
+    private static final String OFF = "{\"on\":{\"on\":false}}";
+
+    private final List<String> sent = new ArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch firstSendRelease = new CountDownLatch(1);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Clip2CommandQueue queue = new Clip2CommandQueue(scheduler, this::put, () -> 0L);
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private Resources put(ResourceReference reference, JsonObject body) throws ApiException, InterruptedException {
+        boolean first;
+        synchronized (sent) {
+            first = sent.isEmpty();
+            sent.add(reference.getId() + " " + body);
+        }
+        if (first) {
+            firstSendStarted.countDown();
+            firstSendRelease.await(5, TimeUnit.SECONDS);
+        }
+        if (body.has("fail")) {
+            throw new ApiException("failed");
+        }
+        return new Resources();
+    }
+
+    private CompletableFuture<Resources> submit(String id, String json) {
+        return queue.submit(new ResourceReference().setId(id).setType(ResourceType.LIGHT),
+                JsonParser.parseString(json).getAsJsonObject());
+    }
+
+    private static String dimming(int brightness) {
+        return "{\"dimming\":{\"brightness\":" + brightness + ".0}}";
+    }
+
+    /**
+     * Blocks the sender with a first command, so that the following commands stay in the queue.
+     */
+    private CompletableFuture<Resources> blockSender() throws InterruptedException {
+        CompletableFuture<Resources> blocker = submit("blocker", ON);
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        return blocker;
+    }
+
+    private List<String> releaseSender(CompletableFuture<Resources> last)
+            throws InterruptedException, ExecutionException {
+        firstSendRelease.countDown();
+        try {
+            last.get(5, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            fail("Command not sent");
+        }
+        synchronized (sent) {
+            return List.copyOf(sent.subList(1, sent.size()));
+        }
+    }
+
+    @Test
+    public void supersededCommandsAreDropped() throws InterruptedException, ExecutionException {
+        CompletableFuture<Resources> blocker = blockSender();
+        List<CompletableFuture<Resources>> futures = new ArrayList<>();
+        for (int brightness = 10; brightness <= 50; brightness += 10) {
+            futures.add(submit("1", dimming(brightness)));
+        }
+        assertEquals(1, queue.getPendingCount());
+
+        assertEquals(List.of("1 " + dimming(50)), releaseSender(futures.get(futures.size() - 1)));
+        for (CompletableFuture<Resources> future : futures) {
+            assertTrue(future.isDone());
+            assertFalse(future.isCompletedExceptionally());
+        }
+        assertTrue(blocker.isDone());
+    }
+
+    @Test
+    public void propertiesNotSupersededAreKept() throws InterruptedException, ExecutionException {
+        blockSender();
+        submit("1", "{\"on\":{\"on\":true},\"dimming\":{\"brightness\":10.0}}");
+        CompletableFuture<Resources> last = submit("1", dimming(20));
+        assertEquals(2, queue.getPendingCount());
+
+        assertEquals(List.of("1 " + ON, "1 " + dimming(20)), releaseSender(last));
+    }
+
+    @Test
+    public void commandsForOtherResourcesAreKeptInOrder() throws InterruptedException, ExecutionException {
+        blockSender();
+        submit("1", OFF);
+        submit("2", OFF);
+        CompletableFuture<Resources> last = submit("1", ON);
+
+        assertEquals(List.of("2 " + OFF, "1 " + ON), releaseSender(last));
+    }
+
+    @Test
+    public void dynamicsAloneIsNotSent() throws InterruptedException, ExecutionException {
+        blockSender();
+        submit("1", "{\"dimming\":{\"brightness\":10.0},\"dynamics\":{\"duration\":500}}");
+        CompletableFuture<Resources> last = submit("1", dimming(20));
+
+        assertEquals(List.of("1 " + dimming(20)), releaseSender(last));
+    }
+
+    @Test
+    public void errorsCompleteAllCollapsedFutures() throws InterruptedException {
+        blockSender();
+        CompletableFuture<Resources> first = submit("1", "{\"fail\":1}");
+        CompletableFuture<Resources> second = submit("1", "{\"fail\":2}");
+        firstSendRelease.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ApiException.class, e.getCause());
+        assertTrue(first.isCompletedExceptionally());
+    }
+
+    @Test
+    public void closeCompletesPendingFutures() throws InterruptedException {
+        blockSender();
+        CompletableFuture<Resources> pending = submit("1", ON);
+        queue.close();
+
+        assertTrue(pending.isCompletedExceptionally());
+        assertTrue(submit("2", ON).isCompletedExceptionally());
+        firstSendRelease.countDown();
+    }
+}
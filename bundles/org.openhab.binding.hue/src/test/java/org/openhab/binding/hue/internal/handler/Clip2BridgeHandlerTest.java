@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.io.net.http.HttpClientFactory;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests the routing of resources by {@link Clip2BridgeHandler} to the child thing handlers consuming them.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2BridgeHandlerTest {
+
+    private static final Gson GSON = new Gson();
+
+    private final Bridge bridge = mock(Bridge.class);
+    private final List<Thing> things = new ArrayList<>();
+    private final Clip2BridgeHandler bridgeHandler = new Clip2BridgeHandler(bridge, mock(HttpClientFactory.class),
+            mock(ThingRegistry.class), mock(LocaleProvider.class), mock(TranslationProvider.class));
+
+    private final Clip2ThingHandler deviceHandler = mock(Clip2ThingHandler.class);
+    private final Thing deviceThing = mock(Thing.class);
+    private final Clip2ThingHandler roomHandler = mock(Clip2ThingHandler.class);
+    private final Thing roomThing = mock(Thing.class);
+
+    @BeforeEach
+    public void setUp() {
+        when(bridge.getThings()).thenReturn(things);
+        addChild(deviceThing, deviceHandler, "device", "light", "motion");
+        addChild(roomThing, roomHandler, "room", "grouped_light");
+    }
+
+    private void addChild(Thing thing, Clip2ThingHandler handler, String... resourceIds) {
+        when(thing.getHandler()).thenReturn(handler);
+        when(handler.getResourceIds()).thenReturn(Set.of(resourceIds));
+        things.add(thing);
+    }
+
+    private static Resource event(ResourceType type, String id) {
+        return new Resource(type).setId(id).markAsSparse();
+    }
+
+    private static Resource scene(String id, String groupId) {
+        return GSON.fromJson("{\"type\":\"scene\",\"id\":\"" + id + "\",\"group\":{\"rid\":\"" + groupId
+                + "\",\"rtype\":\"room\"}}", Resource.class);
+    }
+
+    private static List<Resource> list(Resource... resources) {
+        return new ArrayList<>(Arrays.asList(resources));
+    }
+
+    @Test
+    public void testEventsRoutedByServiceContributorId() {
+        Resource light = event(ResourceType.LIGHT, "light");
+        Resource motion = event(ResourceType.MOTION, "motion");
+        Resource groupedLight = event(ResourceType.GROUPED_LIGHT, "grouped_light");
+        Resource unknown = event(ResourceType.LIGHT, "unknown");
+
+        bridgeHandler.onResourcesEventTask(list(light, unknown, groupedLight, motion));
+
+        verify(deviceHandler).onResources(List.of(light, motion));
+        verify(roomHandler).onResources(List.of(groupedLight));
+    }
+
+    @Test
+    public void testEventsRoutedToAllConsumers() {
+        when(roomHandler.getResourceIds()).thenReturn(Set.of("room", "grouped_light", "motion"));
+        Resource motion = event(ResourceType.MOTION, "motion");
+
+        bridgeHandler.onResourcesEventTask(list(motion));
+
+        verify(deviceHandler).onResources(List.of(motion));
+        verify(roomHandler).onResources(List.of(motion));
+    }
+
+    @Test
+    public void testScenesRoutedByGroup() {
+        Resource roomScene = scene("scene1", "room");
+        Resource otherScene = scene("scene2", "other_room");
+        Resource roomScene2 = scene("scene3", "room");
+
+        bridgeHandler.onResourcesList(ResourceType.SCENE, List.of(roomScene, otherScene, roomScene2));
+
+        verify(roomHandler).onResourcesList(ResourceType.SCENE, List.of(roomScene, roomScene2));
+        verify(deviceHandler).onResourcesList(ResourceType.SCENE, List.of());
+    }
+
+    @Test
+    public void testEveryChildGetsResourcesList() {
+        Resource light = new Resource(ResourceType.LIGHT).setId("light");
+        Resource otherLight = new Resource(ResourceType.LIGHT).setId("other_light");
+
+        bridgeHandler.onResourcesList(ResourceType.LIGHT, List.of(light, otherLight));
+        bridgeHandler.onResourcesList(ResourceType.ROOM, List.of());
+
+        verify(deviceHandler).onResourcesList(ResourceType.LIGHT, List.of(light));
+        // the room handler must get an empty list, so that it can detect that its own resource is gone
+        verify(roomHandler).onResourcesList(ResourceType.LIGHT, List.of());
+        verify(deviceHandler).onResourcesList(ResourceType.ROOM, List.of());
+        verify(roomHandler).onResourcesList(ResourceType.ROOM, List.of());
+    }
+
+    @Test
+    public void testIndexIsBuiltOnce() {
+        bridgeHandler.onResourcesEventTask(list(event(ResourceType.LIGHT, "light")));
+        bridgeHandler.onResourcesEventTask(list(event(ResourceType.LIGHT, "light")));
+        bridgeHandler.onResourcesList(ResourceType.LIGHT, List.of());
+
+        verify(deviceHandler, times(1)).getResourceIds();
+        verify(roomHandler, times(1)).getResourceIds();
+    }
+
+    @Test
+    public void testIndexInvalidatedWhenLookupsChange() {
+        Resource button = event(ResourceType.BUTTON, "button");
+        bridgeHandler.onResourcesEventTask(list(event(ResourceType.LIGHT, "light")));
+
+        // the device handler has re-mapped its lookups and now also consumes the button
+        when(deviceHandler.getResourceIds()).thenReturn(Set.of("device", "light", "motion", "button"));
+        bridgeHandler.invalidateResourceIndex();
+        bridgeHandler.onResourcesEventTask(list(button));
+
+        verify(deviceHandler).onResources(List.of(button));
+        verify(roomHandler, never()).onResources(any());
+    }
+
+    @Test
+    public void testIndexInvalidatedWhenChildDisposed() {
+        Resource light = event(ResourceType.LIGHT, "light");
+        bridgeHandler.onResourcesEventTask(list(light));
+        verify(deviceHandler).onResources(List.of(light));
+
+        // a disposing handler does not consume any resources
+        when(deviceHandler.getResourceIds()).thenReturn(Set.of());
+        bridgeHandler.childHandlerDisposed(deviceHandler, deviceThing);
+        bridgeHandler.onResourcesEventTask(list(event(ResourceType.LIGHT, "light")));
+
+        verify(deviceHandler, times(1)).onResources(anyCollection());
+    }
+
+    @Test
+    public void testIndexInvalidatedWhenChildInitialized() {
+        Clip2ThingHandler newHandler = mock(Clip2ThingHandler.class);
+        bridgeHandler.onResourcesEventTask(list(event(ResourceType.LIGHT, "light")));
+
+        addChild(mock(Thing.class), newHandler, "new_light");
+        bridgeHandler.childInitialized();
+        Resource newLight = event(ResourceType.LIGHT, "new_light");
+        bridgeHandler.onResourcesEventTask(list(newLight));
+
+        verify(newHandler).onResources(List.of(newLight));
+    }
+}
@@ -62,13 +62,13 @@ public abstract class MessageDispatcher {
             return false;
         }
         try {
-            InsteonAddress a = msg.getAddress("toAddress");
+            InsteonAddress a = msg.getToAddress();
             // ALL_LINK_BROADCAST and ALL_LINK_CLEANUP
             // have a valid Command1 field
             // but the CLEANUP_SUCCESS (of type ALL_LINK_BROADCAST!)
             // message has cmd1 = 0x06 and the cmd as the
             // high byte of the toAddress.
-            byte cmd1 = msg.getByte("command1");
+            byte cmd1 = msg.getCommand1();
             if (!msg.isCleanup() && cmd1 == 0x06) {
                 cmd1 = a.getHighByte();
             }
@@ -76,7 +76,7 @@ public abstract class MessageDispatcher {
             // in the low byte of the toAddress. For direct
             // ALL_LINK_CLEANUP, it is in Command2
 
-            int group = (msg.isCleanup() ? msg.getByte("command2") : a.getLowByte()) & 0xff;
+            int group = (msg.isCleanup() ? msg.getCommand2() : a.getLowByte()) & 0xff;
             MessageHandler h = feature.getMsgHandlers().get(cmd1 & 0xFF);
             if (h == null) {
                 logger.debug("msg is not for this feature");
@@ -140,8 +140,8 @@ public abstract class MessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getCmd();
+                cmd1 = msg.getCommand1();
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -205,8 +205,8 @@ public abstract class MessageDispatcher {
             boolean isConsumed = false;
             int key = -1;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd1 = msg.getByte("command1");
+                cmd = msg.getCmd();
+                cmd1 = msg.getCommand1();
             } catch (FieldException e) {
                 logger.debug("no command found, dropping msg {}", msg);
                 return false;
@@ -304,7 +304,7 @@ public abstract class MessageDispatcher {
                     // in response to a direct status query message
                     return false;
                 }
-                cmd1 = msg.getByte("command1");
+                cmd1 = msg.getCommand1();
             } catch (FieldException e) {
                 logger.debug("no cmd1 found, dropping msg {}", msg);
                 return false;
@@ -265,10 +265,10 @@ public abstract class MessageHandler {
     protected boolean isDuplicate(Msg msg) {
         boolean isDuplicate = false;
         try {
-            MsgType t = MsgType.fromValue(msg.getByte("messageFlags"));
+            MsgType t = MsgType.fromValue(msg.getMessageFlags());
             if (t == MsgType.ALL_LINK_BROADCAST) {
-                int group = msg.getAddress("toAddress").getLowByte() & 0xff;
-                byte cmd1 = msg.getByte("command1");
+                int group = msg.getToAddress().getLowByte() & 0xff;
+                byte cmd1 = msg.getCommand1();
                 // if the command is 0x06, then it's success message
                 // from the original broadcaster, with which the device
                 // confirms that it got all cleanup replies successfully.
@@ -277,7 +277,7 @@ public abstract class MessageHandler {
             } else if (t == MsgType.ALL_LINK_CLEANUP) {
                 // the cleanup messages are direct messages, so the
                 // group # is not in the toAddress, but in cmd2
-                int group = msg.getByte("command2") & 0xff;
+                int group = msg.getCommand2() & 0xff;
                 isDuplicate = !feature.getDevice().getGroupState(group, GroupMessage.CLEAN, (byte) 0);
             }
         } catch (IllegalArgumentException e) {
@@ -299,8 +299,8 @@ public abstract class MessageHandler {
         // the cleanup messages have the button number in the command2 field
         // the broadcast messages have it as the lsb of the toAddress
         try {
-            int bclean = msg.getByte("command2") & 0xff;
-            int bbcast = msg.getAddress("toAddress").getLowByte() & 0xff;
+            int bclean = msg.getCommand2() & 0xff;
+            int bbcast = msg.getToAddress().getLowByte() & 0xff;
             int button = msg.isCleanup() ? bclean : bbcast;
             logger.trace("{} button: {} bclean: {} bbcast: {}", f.getDevice().getAddress(), button, bclean, bbcast);
             return button;
@@ -483,7 +483,7 @@ public abstract class MessageHandler {
 
         private int getLevel(Msg msg) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getCommand2();
                 return (int) Math.round(((cmd2 >> 4) & 0x0f) * (100 / 15d));
             } catch (FieldException e) {
                 logger.warn("Can't access command2 byte", e);
@@ -507,7 +507,7 @@ public abstract class MessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
                 InsteonAddress a = f.getDevice().getAddress();
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 int button = this.getIntParameter("button", -1);
                 if (button < 0) {
                     handleNoButtons(cmd2, a, msg);
@@ -574,7 +574,7 @@ public abstract class MessageHandler {
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             InsteonDevice dev = f.getDevice();
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 if (cmd2 == 0xfe) {
                     // sometimes dimmer devices are returning 0xfe when on instead of 0xff
                     cmd2 = 0xff;
@@ -636,7 +636,7 @@ public abstract class MessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 int upDown = (cmd2 == 0) ? 0 : 2;
                 logger.debug("{}: dev {} manual state change: {}", nm(), f.getDevice().getAddress(),
                         (upDown == 0) ? "DOWN" : "UP");
@@ -679,12 +679,12 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
                         int prodKey = msg.getInt24("userData2", "userData3", "userData4");
-                        int devCat = msg.getByte("userData5");
-                        int subCat = msg.getByte("userData6");
+                        int devCat = msg.getUserData(5);
+                        int subCat = msg.getUserData(6);
                         logger.debug("{} {} got product data: cat: {} subcat: {} key: {} ", nm(), dev.getAddress(),
                                 devCat, subCat, Utils.getHexString(prodKey));
                         break;
@@ -714,14 +714,14 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 int batteryLevel;
                 int lightLevel;
                 int temperatureLevel;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        batteryLevel = msg.getByte("userData12") & 0xff;
-                        lightLevel = msg.getByte("userData11") & 0xff;
+                        batteryLevel = msg.getUserData(12) & 0xff;
+                        lightLevel = msg.getUserData(11) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 lightLevel, batteryLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED,
@@ -730,9 +730,9 @@ public abstract class MessageHandler {
                                 InsteonDeviceHandler.FIELD, InsteonDeviceHandler.FIELD_BATTERY_LEVEL);
                         break;
                     case 0x03: // this is the 2844-222 data response message
-                        batteryLevel = msg.getByte("userData6") & 0xff;
-                        lightLevel = msg.getByte("userData7") & 0xff;
-                        temperatureLevel = msg.getByte("userData8") & 0xff;
+                        batteryLevel = msg.getUserData(6) & 0xff;
+                        lightLevel = msg.getUserData(7) & 0xff;
+                        temperatureLevel = msg.getUserData(8) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                                 dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
                         feature.publish(new DecimalType(lightLevel), StateChangeType.CHANGED,
@@ -782,7 +782,7 @@ public abstract class MessageHandler {
                 }
                 int batteryLevel = toAddr.getHighByte() & 0xff;
                 int lightLevel = toAddr.getMiddleByte() & 0xff;
-                int temperatureLevel = msg.getByte("command2") & 0xff;
+                int temperatureLevel = msg.getCommand2() & 0xff;
 
                 logger.debug("{}: {} got light level: {}, battery level: {}, temperature level: {}", nm(),
                         dev.getAddress(), lightLevel, batteryLevel, temperatureLevel);
@@ -824,11 +824,11 @@ public abstract class MessageHandler {
                 return;
             }
             try {
-                int cmd2 = msg.getByte("command2") & 0xff;
+                int cmd2 = msg.getCommand2() & 0xff;
                 switch (cmd2) {
                     case 0x00: // this is a product data response message
-                        int batteryLevel = msg.getByte("userData4") & 0xff;
-                        int batteryWatermark = msg.getByte("userData7") & 0xff;
+                        int batteryLevel = msg.getUserData(4) & 0xff;
+                        int batteryWatermark = msg.getUserData(7) & 0xff;
                         logger.debug("{}: {} got light level: {}, battery level: {}", nm(), dev.getAddress(),
                                 batteryWatermark, batteryLevel);
                         feature.publish(new DecimalType(batteryWatermark), StateChangeType.CHANGED,
@@ -856,17 +856,17 @@ public abstract class MessageHandler {
             if (msg.isExtended()) {
                 try {
                     // see iMeter developer notes 2423A1dev-072013-en.pdf
-                    int b7 = msg.getByte("userData7") & 0xff;
-                    int b8 = msg.getByte("userData8") & 0xff;
+                    int b7 = msg.getUserData(7) & 0xff;
+                    int b8 = msg.getUserData(8) & 0xff;
                     int watts = (b7 << 8) | b8;
                     if (watts > 32767) {
                         watts -= 65535;
                     }
 
-                    int b9 = msg.getByte("userData9") & 0xff;
-                    int b10 = msg.getByte("userData10") & 0xff;
-                    int b11 = msg.getByte("userData11") & 0xff;
-                    int b12 = msg.getByte("userData12") & 0xff;
+                    int b9 = msg.getUserData(9) & 0xff;
+                    int b10 = msg.getUserData(10) & 0xff;
+                    int b11 = msg.getUserData(11) & 0xff;
+                    int b12 = msg.getUserData(12) & 0xff;
                     BigDecimal kwh = BigDecimal.ZERO;
                     if (b9 < 254) {
                         int e = (b9 << 24) | (b10 << 16) | (b11 << 8) | b12;
@@ -924,8 +924,8 @@ public abstract class MessageHandler {
             byte cmd = 0x00;
             byte cmd2 = 0x00;
             try {
-                cmd = msg.getByte("Cmd");
-                cmd2 = msg.getByte("command2");
+                cmd = msg.getCmd();
+                cmd2 = msg.getCommand2();
             } catch (FieldException e) {
                 logger.debug("{} no cmd found, dropping msg {}", nm(), msg);
                 return;
@@ -968,7 +968,7 @@ public abstract class MessageHandler {
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             try {
-                byte cmd2 = msg.getByte("command2");
+                byte cmd2 = msg.getCommand2();
                 switch (cmd1) {
                     case 0x11:
                         switch (cmd2) {
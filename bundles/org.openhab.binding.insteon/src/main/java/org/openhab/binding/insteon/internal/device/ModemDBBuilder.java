@@ -121,7 +121,7 @@ public class ModemDBBuilder implements MsgListener {
             return;
         }
         try {
-            if (msg.getByte("Cmd") == 0x69 || msg.getByte("Cmd") == 0x6a) {
+            if (msg.getCmd() == 0x69 || msg.getCmd() == 0x6a) {
                 // If the flag is "ACK/NACK", a record response
                 // will follow, so we do nothing here.
                 // If its "NACK", there are none
@@ -129,7 +129,7 @@ public class ModemDBBuilder implements MsgListener {
                     logger.debug("got all link records.");
                     done();
                 }
-            } else if (msg.getByte("Cmd") == 0x57) {
+            } else if (msg.getCmd() == 0x57) {
                 // we got the link record response
                 updateModemDB(msg.getAddress("LinkAddr"), port, msg, false);
                 port.writeMessage(Msg.makeMessage("GetNextALLLinkRecord"));
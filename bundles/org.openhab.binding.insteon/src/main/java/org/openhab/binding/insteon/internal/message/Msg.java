@@ -79,10 +79,10 @@ public class Msg {
 
     // has the structure of all known messages
     private static final Map<String, Msg> MSG_MAP = new HashMap<>();
-    // maps between command number and the length of the header
-    private static final Map<Integer, Integer> HEADER_MAP = new HashMap<>();
-    // has templates for all message from modem to host
-    private static final Map<Integer, Msg> REPLY_MAP = new HashMap<>();
+    // maps between command number and the length of the header, -1 for unknown commands
+    private static final int[] HEADER_LENGTHS = new int[256];
+    // has templates for all message from modem to host, indexed by command number and extended flag
+    private static final @Nullable Msg[] REPLY_TEMPLATES = new Msg[512];
 
     private int headerLength = -1;
     private byte[] data;
@@ -99,10 +99,22 @@ public class Msg {
      * @param dir direction of the message (from/to modem)
      */
     public Msg(int headerLength, byte[] data, int dataLength, Direction dir) {
+        this(headerLength, data, 0, dataLength, dir);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param headerLength length of message header (in bytes)
+     * @param data byte array with message
+     * @param offset offset of the message in the byte array
+     * @param dataLength length of message (in bytes)
+     * @param dir direction of the message (from/to modem)
+     */
+    public Msg(int headerLength, byte[] data, int offset, int dataLength, Direction dir) {
         this.headerLength = headerLength;
         this.direction = dir;
-        this.data = new byte[dataLength];
-        System.arraycopy(data, 0, this.data, 0, dataLength);
+        this.data = Arrays.copyOfRange(data, offset, offset + dataLength);
     }
 
     /**
@@ -114,8 +126,8 @@ public class Msg {
     public Msg(Msg m) {
         headerLength = m.headerLength;
         data = m.data.clone();
-        // the message definition usually doesn't change, but just to be sure...
-        definition = new MsgDefinition(m.definition);
+        // the message definition doesn't change after loading, so it can be shared
+        definition = m.definition;
         direction = m.direction;
     }
 
@@ -187,11 +199,11 @@ public class Msg {
         if (getLength() < 2) {
             return false;
         }
-        if (!definition.containsField("messageFlags")) {
+        if (!definition.hasMessageFlags()) {
             return (false);
         }
         try {
-            byte flags = getByte("messageFlags");
+            byte flags = getMessageFlags();
             return ((flags & 0x10) == 0x10);
         } catch (FieldException e) {
             // do nothing
@@ -202,7 +214,7 @@ public class Msg {
     public boolean isUnsolicited() {
         // if the message has an ACK/NACK, it is in response to our message,
         // otherwise it is out-of-band, i.e. unsolicited
-        return !definition.containsField("ACK/NACK");
+        return !definition.hasAckNack();
     }
 
     public boolean isEcho() {
@@ -210,16 +222,28 @@ public class Msg {
     }
 
     public boolean isOfType(MsgType mt) {
+        return getType() == mt;
+    }
+
+    /**
+     * Gets the message type from the message flags
+     *
+     * @return the message type or null if the message has no message flags
+     */
+    public @Nullable MsgType getType() {
+        if (!definition.hasMessageFlags()) {
+            return null;
+        }
         try {
-            MsgType t = MsgType.fromValue(getByte("messageFlags"));
-            return (t == mt);
+            return MsgType.fromValue(getMessageFlags());
         } catch (FieldException e) {
-            return false;
+            return null;
         }
     }
 
     public boolean isBroadcast() {
-        return isOfType(MsgType.ALL_LINK_BROADCAST) || isOfType(MsgType.BROADCAST);
+        MsgType t = getType();
+        return t == MsgType.ALL_LINK_BROADCAST || t == MsgType.BROADCAST;
     }
 
     public boolean isCleanup() {
@@ -227,7 +251,8 @@ public class Msg {
     }
 
     public boolean isAllLink() {
-        return isOfType(MsgType.ALL_LINK_BROADCAST) || isOfType(MsgType.ALL_LINK_CLEANUP);
+        MsgType t = getType();
+        return t == MsgType.ALL_LINK_BROADCAST || t == MsgType.ALL_LINK_CLEANUP;
     }
 
     public boolean isAckOfDirect() {
@@ -235,12 +260,13 @@ public class Msg {
     }
 
     public boolean isAllLinkCleanupAckOrNack() {
-        return isOfType(MsgType.ALL_LINK_CLEANUP_ACK) || isOfType(MsgType.ALL_LINK_CLEANUP_NACK);
+        MsgType t = getType();
+        return t == MsgType.ALL_LINK_CLEANUP_ACK || t == MsgType.ALL_LINK_CLEANUP_NACK;
     }
 
     public boolean isX10() {
         try {
-            int cmd = getByte("Cmd") & 0xff;
+            int cmd = getCmd() & 0xff;
             if (cmd == 0x63 || cmd == 0x52) {
                 return true;
             }
@@ -273,10 +299,48 @@ public class Msg {
     }
 
     public int getHopsLeft() throws FieldException {
-        int hops = (getByte("messageFlags") & 0x0c) >> 2;
+        int hops = (getMessageFlags() & 0x0c) >> 2;
         return hops;
     }
 
+    //
+    // ------------------ accessors of common fields, without looking up the field by name -----------------
+    //
+
+    public byte getCmd() throws FieldException {
+        return definition.getCmdField().getByte(data);
+    }
+
+    public byte getMessageFlags() throws FieldException {
+        return definition.getMessageFlagsField().getByte(data);
+    }
+
+    public byte getCommand1() throws FieldException {
+        return definition.getCommand1Field().getByte(data);
+    }
+
+    public byte getCommand2() throws FieldException {
+        return definition.getCommand2Field().getByte(data);
+    }
+
+    /**
+     * Will fetch a user data byte
+     *
+     * @param index the number of the user data field (1-14)
+     * @return the byte
+     */
+    public byte getUserData(int index) throws FieldException {
+        return definition.getUserDataField(index).getByte(data);
+    }
+
+    public InsteonAddress getFromAddress() throws FieldException {
+        return definition.getFromAddressField().getAddress(data);
+    }
+
+    public InsteonAddress getToAddress() throws FieldException {
+        return definition.getToAddressField().getAddress(data);
+    }
+
     /**
      * Will put a byte at the specified key
      *
@@ -496,10 +560,25 @@ public class Msg {
      * @return message, or null if the Msg cannot be created
      */
     public static @Nullable Msg createMessage(byte[] buf, int msgLen, boolean isExtended) {
-        if (buf.length < 2) {
+        return createMessage(buf, 0, msgLen, isExtended);
+    }
+
+    /**
+     * Factory method to create Msg from raw byte stream received from the
+     * serial port. The message shares the definition of the template for its type
+     * and only copies the message bytes.
+     *
+     * @param buf the raw received bytes
+     * @param offset offset of the message in the buffer
+     * @param msgLen length of received message
+     * @param isExtended whether it is an extended message or not
+     * @return message, or null if the Msg cannot be created
+     */
+    public static @Nullable Msg createMessage(byte[] buf, int offset, int msgLen, boolean isExtended) {
+        if (buf.length < offset + 2) {
             return null;
         }
-        Msg template = REPLY_MAP.get(cmdToKey(buf[1], isExtended));
+        Msg template = REPLY_TEMPLATES[cmdToKey(buf[offset + 1], isExtended)];
         if (template == null) {
             return null; // cannot find lookup map
         }
@@ -507,7 +586,7 @@ public class Msg {
             logger.warn("expected msg {} len {}, got {}", template.getCommandNumber(), template.getLength(), msgLen);
             return null;
         }
-        Msg msg = new Msg(template.getHeaderLength(), buf, msgLen, Direction.FROM_MODEM);
+        Msg msg = new Msg(template.getHeaderLength(), buf, offset, msgLen, Direction.FROM_MODEM);
         msg.setDefinition(template.getDefinition());
         return (msg);
     }
@@ -519,11 +598,7 @@ public class Msg {
      * @return the length of the header to expect
      */
     public static int getHeaderLength(byte cmd) {
-        Integer len = HEADER_MAP.get((int) cmd);
-        if (len == null) {
-            return (-1); // not found
-        }
-        return len;
+        return HEADER_LENGTHS[cmd & 0xff];
     }
 
     /**
@@ -534,8 +609,7 @@ public class Msg {
      * @return message length, or -1 if length cannot be determined
      */
     public static int getMessageLength(byte b, boolean isExtended) {
-        int key = cmdToKey(b, isExtended);
-        Msg msg = REPLY_MAP.get(key);
+        Msg msg = REPLY_TEMPLATES[cmdToKey(b, isExtended)];
         if (msg == null) {
             return -1;
         }
@@ -553,13 +627,28 @@ public class Msg {
      *         determined or if it is a standard message
      */
     public static boolean isExtended(byte[] buf, int len, int headerLength) {
+        return isExtended(buf, 0, len, headerLength);
+    }
+
+    /**
+     * From bytes received thus far, tries to determine if an Insteon
+     * message is extended or standard.
+     *
+     * @param buf the received bytes
+     * @param offset offset of the message in the buffer
+     * @param len the number of bytes of the message received so far
+     * @param headerLength the known length of the header
+     * @return true if it is definitely extended, false if cannot be
+     *         determined or if it is a standard message
+     */
+    public static boolean isExtended(byte[] buf, int offset, int len, int headerLength) {
         if (headerLength <= 2) {
             return false;
         } // extended messages are longer
         if (len < headerLength) {
             return false;
         } // not enough data to tell if extended
-        byte flags = buf[headerLength - 1]; // last byte says flags
+        byte flags = buf[offset + headerLength - 1]; // last byte says flags
         boolean isExtended = (flags & 0x10) == 0x10; // bit 4 is the message
         return (isExtended);
     }
@@ -580,13 +669,14 @@ public class Msg {
     }
 
     private static int cmdToKey(byte cmd, boolean isExtended) {
-        return (cmd + (isExtended ? 256 : 0));
+        return ((cmd & 0xff) + (isExtended ? 256 : 0));
     }
 
     private static void buildHeaderMap() {
+        Arrays.fill(HEADER_LENGTHS, -1);
         for (Msg m : MSG_MAP.values()) {
             if (m.getDirection() == Direction.FROM_MODEM) {
-                HEADER_MAP.put((int) m.getCommandNumber(), m.getHeaderLength());
+                HEADER_LENGTHS[m.getCommandNumber() & 0xff] = m.getHeaderLength();
             }
         }
     }
@@ -594,8 +684,7 @@ public class Msg {
     private static void buildLengthMap() {
         for (Msg m : MSG_MAP.values()) {
             if (m.getDirection() == Direction.FROM_MODEM) {
-                int key = cmdToKey(m.getCommandNumber(), m.isExtended());
-                REPLY_MAP.put(key, m);
+                REPLY_TEMPLATES[cmdToKey(m.getCommandNumber(), m.isExtended())] = m;
             }
         }
     }
@@ -22,26 +22,30 @@ import org.eclipse.jdt.annotation.Nullable;
  * Definition (layout) of an Insteon message. Says which bytes go where.
  * For more info, see the public Insteon Developer's Guide, 2nd edition,
  * and the Insteon Modem Developer's Guide.
+ * Definitions are loaded once from the xml message definitions and shared by all messages of the same type,
+ * so they must not be changed after loading.
  *
  * @author Daniel Pfrommer - Initial contribution
  * @author Rob Nielsen - Port to openHAB 2 insteon binding
  */
 @NonNullByDefault
 public class MsgDefinition {
+    private static final int USER_DATA_FIELDS = 14;
+
     private Map<String, Field> fields = new HashMap<>();
+    // fields read from most received messages, resolved once when the definition is loaded
+    private @Nullable Field cmd;
+    private @Nullable Field messageFlags;
+    private @Nullable Field fromAddress;
+    private @Nullable Field toAddress;
+    private @Nullable Field command1;
+    private @Nullable Field command2;
+    private @Nullable Field ackNack;
+    private final @Nullable Field[] userData = new Field[USER_DATA_FIELDS];
 
     MsgDefinition() {
     }
 
-    /*
-     * Copy constructor, needed to make a copy of a message
-     *
-     * @param m the definition to copy
-     */
-    MsgDefinition(MsgDefinition m) {
-        fields = new HashMap<>(m.fields);
-    }
-
     public Map<String, Field> getFields() {
         return fields;
     }
@@ -51,7 +55,43 @@ public class MsgDefinition {
     }
 
     public void addField(Field field) {
-        fields.put(field.getName(), field);
+        String name = field.getName();
+        fields.put(name, field);
+        switch (name) {
+            case "Cmd":
+                cmd = field;
+                break;
+            case "messageFlags":
+                messageFlags = field;
+                break;
+            case "fromAddress":
+                fromAddress = field;
+                break;
+            case "toAddress":
+                toAddress = field;
+                break;
+            case "command1":
+                command1 = field;
+                break;
+            case "command2":
+                command2 = field;
+                break;
+            case "ACK/NACK":
+                ackNack = field;
+                break;
+            default:
+                if (name.startsWith("userData")) {
+                    try {
+                        int index = Integer.parseInt(name.substring(8));
+                        if (index >= 1 && index <= USER_DATA_FIELDS) {
+                            userData[index - 1] = field;
+                        }
+                    } catch (NumberFormatException e) {
+                        // not a numbered user data field
+                    }
+                }
+                break;
+        }
     }
 
     /**
@@ -69,4 +109,57 @@ public class MsgDefinition {
         }
         return f;
     }
+
+    public boolean hasMessageFlags() {
+        return messageFlags != null;
+    }
+
+    public boolean hasAckNack() {
+        return ackNack != null;
+    }
+
+    public Field getCmdField() throws FieldException {
+        return require(cmd, "Cmd");
+    }
+
+    public Field getMessageFlagsField() throws FieldException {
+        return require(messageFlags, "messageFlags");
+    }
+
+    public Field getFromAddressField() throws FieldException {
+        return require(fromAddress, "fromAddress");
+    }
+
+    public Field getToAddressField() throws FieldException {
+        return require(toAddress, "toAddress");
+    }
+
+    public Field getCommand1Field() throws FieldException {
+        return require(command1, "command1");
+    }
+
+    public Field getCommand2Field() throws FieldException {
+        return require(command2, "command2");
+    }
+
+    /**
+     * Finds user data field
+     *
+     * @param index number of the user data field (1-14)
+     * @return reference to field
+     * @throws FieldException if no such field can be found
+     */
+    public Field getUserDataField(int index) throws FieldException {
+        if (index < 1 || index > USER_DATA_FIELDS) {
+            throw new FieldException("field userData" + index + " not found");
+        }
+        return require(userData[index - 1], "userData" + index);
+    }
+
+    private static Field require(@Nullable Field field, String name) throws FieldException {
+        if (field == null) {
+            throw new FieldException("field " + name + " not found");
+        }
+        return field;
+    }
 }
@@ -12,9 +12,6 @@
  */
 package org.openhab.binding.insteon.internal.message;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
@@ -47,7 +44,8 @@ public enum MsgType {
     ALL_LINK_CLEANUP_NACK(0xe0),
     INVALID(0xff); // should never happen
 
-    private static Map<Integer, MsgType> hash = new HashMap<>();
+    // message types indexed by the upper three bits of the message flags
+    private static final MsgType[] TYPES = new MsgType[8];
 
     private byte byteValue = 0;
 
@@ -62,8 +60,9 @@ public enum MsgType {
 
     static {
         for (MsgType t : MsgType.values()) {
-            int i = t.getByteValue() & 0xff;
-            hash.put(i, t);
+            if (t != INVALID) {
+                TYPES[(t.getByteValue() & 0xe0) >> 5] = t;
+            }
         }
     }
 
@@ -72,11 +71,6 @@ public enum MsgType {
     }
 
     public static MsgType fromValue(byte b) throws IllegalArgumentException {
-        int i = b & 0xe0;
-        MsgType mt = hash.get(i);
-        if (mt == null) {
-            throw new IllegalArgumentException("msg type of byte value " + i + " not found");
-        }
-        return mt;
+        return TYPES[(b & 0xe0) >> 5];
     }
 }
@@ -268,11 +268,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.equals(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            localServlet.openStreams.queueFrame(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -1770,8 +1768,10 @@ public class IpCameraHandler extends BaseThingHandler {
         if (localServlet != null && !localServlet.openStreams.isEmpty()) {
             if (!mjpegUri.isEmpty() && !"ffmpeg".equals(mjpegUri)) {
                 localServlet.openStreams.queueFrame(("--" + localServlet.openStreams.boundary + "\r\n\r\n").getBytes());
+                localServlet.openStreams.queueFrame(getSnapshot());
+            } else {
+                localServlet.openStreams.queueJpeg(Unpooled.wrappedBuffer(getSnapshot()));
             }
-            localServlet.openStreams.queueFrame(getSnapshot());
         }
     }
 
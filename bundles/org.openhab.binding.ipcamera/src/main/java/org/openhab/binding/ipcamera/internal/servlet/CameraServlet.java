@@ -35,6 +35,9 @@ import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegForm
 import org.openhab.binding.ipcamera.internal.handler.IpCameraHandler;
 import org.osgi.service.http.HttpService;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
 /**
  * The {@link CameraServlet} is responsible for serving files for a single camera back to the Jetty server normally
  * found on port 8080
@@ -51,6 +54,7 @@ public class CameraServlet extends IpCameraServlet {
     public OpenStreams openStreams = new OpenStreams();
     private OpenStreams openSnapshotStreams = new OpenStreams();
     private OpenStreams openAutoFpsStreams = new OpenStreams();
+    private final SnapshotCache snapshotCache = new SnapshotCache();
 
     public CameraServlet(IpCameraHandler handler, HttpService httpService) {
         super(handler, httpService, INIT_PARAMETERS);
@@ -70,7 +74,7 @@ public class CameraServlet extends IpCameraServlet {
             case "/ipcamera.jpg":
                 // ffmpeg sends data here for ipcamera.mjpeg streams when camera has no native stream.
                 ServletInputStream snapshotData = req.getInputStream();
-                openStreams.queueFrame(snapshotData.readAllBytes());
+                openStreams.queueJpeg(readFrame(snapshotData, req.getContentLength()));
                 snapshotData.close();
                 break;
             case "/snapshot.jpg":
@@ -135,7 +139,7 @@ public class CameraServlet extends IpCameraServlet {
                 // Example an Image item/widget may have a 1 second refresh.
                 if (handler.ffmpegSnapshotGeneration
                         || Duration.between(handler.currentSnapshotTime, Instant.now()).toMillis() < 1200) {
-                    sendSnapshotImage(resp, "image/jpg", handler.getSnapshot());
+                    sendCachedSnapshot(req, resp, handler.getSnapshot());
                 } else {
                     handler.getSnapshot();
                     final AsyncContext acontext = req.startAsync(req, resp);
@@ -152,7 +156,7 @@ public class CameraServlet extends IpCameraServlet {
                             } // 5 sec timeout OR a new snapshot comes back from camera
                             while (Duration.between(startTime, Instant.now()).toMillis() < 5000
                                     && Duration.between(handler.currentSnapshotTime, Instant.now()).toMillis() > 1200);
-                            sendSnapshotImage(resp, "image/jpg", handler.getSnapshot());
+                            sendCachedSnapshot(req, resp, handler.getSnapshot());
                             acontext.complete();
                         }
                     });
@@ -163,9 +167,10 @@ public class CameraServlet extends IpCameraServlet {
                 handler.startSnapshotPolling();
                 StreamOutput output = new StreamOutput(resp);
                 openSnapshotStreams.addStream(output);
+                int width = getRequestedWidth(req);
                 do {
                     try {
-                        output.sendSnapshotBasedFrame(handler.getSnapshot());
+                        output.sendSnapshotBasedFrame(snapshotCache.get(handler.getSnapshot()).variant(width));
                         Thread.sleep(handler.cameraConfig.getPollTime());
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
@@ -270,6 +275,57 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    /**
+     * Sends the snapshot, scaled down if a width was requested. Responds with "304 Not Modified" if the client already
+     * has this snapshot.
+     */
+    private void sendCachedSnapshot(HttpServletRequest req, HttpServletResponse resp, byte[] jpg) {
+        if (jpg.length <= 1) {
+            sendSnapshotImage(resp, "image/jpg", jpg);
+            return;
+        }
+        SnapshotCache.Snapshot snapshot = snapshotCache.get(jpg);
+        int width = getRequestedWidth(req);
+        String etag = snapshot.etag(width);
+        resp.setHeader("ETag", etag);
+        resp.setHeader("Cache-Control", "no-cache");
+        resp.setDateHeader("Last-Modified", snapshot.timestamp.toEpochMilli());
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch.trim()))) {
+            resp.setHeader("Access-Control-Allow-Origin", "*");
+            resp.setHeader("Access-Control-Expose-Headers", "*");
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        sendSnapshotImage(resp, "image/jpg", snapshot.variant(width));
+    }
+
+    private int getRequestedWidth(HttpServletRequest req) {
+        String width = req.getParameter("width");
+        if (width == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(width.trim());
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring invalid width {}", width);
+            return 0;
+        }
+    }
+
+    private ByteBuf readFrame(ServletInputStream input, int contentLength) throws IOException {
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.heapBuffer(contentLength > 0 ? contentLength : 65536);
+        try {
+            while (frame.writeBytes(input, Math.max(frame.writableBytes(), 8192)) >= 0) {
+                // read until end of stream
+            }
+        } catch (IOException e) {
+            frame.release();
+            throw e;
+        }
+        return frame;
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
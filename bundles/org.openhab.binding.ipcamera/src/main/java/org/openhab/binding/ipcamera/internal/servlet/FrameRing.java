@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The {@link FrameRing} holds the most recent frames of a mjpeg stream in reference counted buffers, so that a single
+ * source stream can be sent to many clients without copying it per client. Each client reads the frames with its own
+ * {@link Cursor}, so a slow client never blocks the source or the other clients.
+ * <p>
+ * A client that falls too far behind skips forward to the most recent keyframe, which is a frame a client can start
+ * rendering from (a complete jpeg, or a chunk of the camera's stream that contains the multipart boundary).
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class FrameRing {
+    private final @Nullable ByteBuf[] buffers;
+    private final int[] keyframeOffsets;
+    private final int maxLag;
+    private long head = 0;
+    private long oldest = 0;
+    private long lastKeyframe = -1;
+    private boolean closed = false;
+
+    /**
+     * A frame handed out to a client. The client must call {@link #release()} once the frame was sent.
+     */
+    public static class Frame {
+        private final ByteBuf buffer;
+        private final int offset;
+
+        private Frame(ByteBuf buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        public int length() {
+            return buffer.readableBytes() - offset;
+        }
+
+        public void writeTo(OutputStream output) throws IOException {
+            buffer.getBytes(buffer.readerIndex() + offset, output, length());
+        }
+
+        public void release() {
+            buffer.release();
+        }
+    }
+
+    /**
+     * The read position of a single client
+     */
+    public class Cursor {
+        private long next;
+        private boolean resync = true;
+        private boolean cursorClosed = false;
+
+        private Cursor(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Waits for the next frame of this client.
+         *
+         * @return the frame, which must be released after use
+         * @throws IOException if the cursor or the ring was closed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public Frame next() throws IOException, InterruptedException {
+            synchronized (FrameRing.this) {
+                while (true) {
+                    if (closed || cursorClosed) {
+                        throw new IOException("Stream has been closed");
+                    }
+                    if (!resync) {
+                        if (next < oldest) {
+                            // frames have been overwritten, continue at the next possible start
+                            resync = true;
+                        } else if (head - next > maxLag && lastKeyframe >= next) {
+                            // too slow, skip to the most recent keyframe
+                            next = lastKeyframe;
+                            return take(keyframeOffsets[slot(next)]);
+                        } else if (next < head) {
+                            return take(0);
+                        }
+                    }
+                    if (resync) {
+                        if (lastKeyframe >= oldest) {
+                            next = lastKeyframe;
+                            resync = false;
+                            return take(keyframeOffsets[slot(next)]);
+                        }
+                        // wait for the next keyframe
+                        next = head;
+                    }
+                    FrameRing.this.wait();
+                }
+            }
+        }
+
+        private Frame take(int offset) {
+            ByteBuf buffer = buffers[slot(next++)];
+            if (buffer == null) {
+                // cannot happen, all frames between oldest and head are present
+                throw new IllegalStateException("Missing frame");
+            }
+            return new Frame(buffer.retain(), offset);
+        }
+
+        /**
+         * Closes this cursor, a client waiting in {@link #next()} gets an {@link IOException}.
+         */
+        public void close() {
+            synchronized (FrameRing.this) {
+                cursorClosed = true;
+                FrameRing.this.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @param capacity the number of frames kept
+     */
+    public FrameRing(int capacity) {
+        buffers = new ByteBuf[capacity];
+        keyframeOffsets = new int[capacity];
+        maxLag = Math.max(1, capacity / 2);
+    }
+
+    /**
+     * Creates a cursor for a new client, which starts at the most recent keyframe.
+     */
+    public synchronized Cursor newCursor() {
+        return new Cursor(head);
+    }
+
+    /**
+     * Adds a frame, replacing the oldest one. The ring takes ownership of the buffer.
+     *
+     * @param buffer the frame
+     * @param keyframeOffset the offset within the frame a client can start rendering from, or -1 if none
+     */
+    public synchronized void publish(ByteBuf buffer, int keyframeOffset) {
+        if (closed) {
+            buffer.release();
+            return;
+        }
+        int slot = slot(head);
+        ByteBuf old = buffers[slot];
+        if (old != null) {
+            old.release();
+        }
+        buffers[slot] = buffer;
+        keyframeOffsets[slot] = keyframeOffset;
+        if (keyframeOffset >= 0) {
+            lastKeyframe = head;
+        }
+        head++;
+        oldest = Math.max(oldest, head - buffers.length);
+        notifyAll();
+    }
+
+    /**
+     * Releases all frames. Clients with frames in flight keep their own reference.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < buffers.length; i++) {
+            ByteBuf buffer = buffers[i];
+            if (buffer != null) {
+                buffer.release();
+                buffers[i] = null;
+            }
+        }
+        lastKeyframe = -1;
+        oldest = head;
+    }
+
+    /**
+     * Releases all frames and wakes up all waiting clients.
+     */
+    public synchronized void close() {
+        closed = true;
+        clear();
+        notifyAll();
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffers.length);
+    }
+}
@@ -12,29 +12,46 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be given to all clients to allow
+ * 1 to many streams without needing to open more than 1 source stream. Frames are kept once in a shared
+ * {@link FrameRing} that each client reads at its own pace.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
+    private static final int FRAME_RING_SIZE = 50;
+    private static final byte[] CRLF = { '\r', '\n' };
+
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private final FrameRing frames = new FrameRing(FRAME_RING_SIZE);
     public String boundary = "thisMjpegStream";
+    private ByteBuf boundaryMarker = Unpooled.copiedBuffer("--" + boundary, StandardCharsets.US_ASCII);
 
     public synchronized void addStream(StreamOutput stream) {
+        stream.setCursor(frames.newCursor());
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        stream.closeCursor();
+        if (openStreams.isEmpty()) {
+            frames.clear();
+        }
     }
 
     public synchronized int getNumberOfStreams() {
@@ -47,21 +64,63 @@ public class OpenStreams {
 
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        boundaryMarker = Unpooled.copiedBuffer("--" + boundary, StandardCharsets.US_ASCII);
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+    /**
+     * Queues a chunk of the camera's own mjpeg stream. Chunks are not aligned to the jpegs, a client joining or
+     * skipping frames starts at the next multipart boundary.
+     *
+     * @param chunk the data, which is copied into a pooled buffer
+     */
+    public synchronized void queueFrame(ByteBuf chunk) {
+        if (openStreams.isEmpty()) {
+            return;
         }
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.heapBuffer(chunk.readableBytes());
+        frame.writeBytes(chunk, chunk.readerIndex(), chunk.readableBytes());
+        frames.publish(frame, keyframeOffset(frame));
+    }
+
+    public synchronized void queueFrame(byte[] chunk) {
+        queueFrame(Unpooled.wrappedBuffer(chunk));
+    }
+
+    /**
+     * Queues a complete jpeg, e.g. created by ffmpeg or a snapshot.
+     *
+     * @param jpeg the image, the stream takes ownership of the buffer
+     */
+    public synchronized void queueJpeg(ByteBuf jpeg) {
+        if (openStreams.isEmpty()) {
+            jpeg.release();
+            return;
+        }
+        frames.publish(jpeg, 0);
     }
 
     public synchronized void closeAllStreams() {
         for (StreamOutput stream : openStreams) {
+            stream.closeCursor();
             stream.close();
         }
         openStreams.clear();
+        frames.clear();
+    }
+
+    private int keyframeOffset(ByteBuf frame) {
+        int index = ByteBufUtil.indexOf(boundaryMarker, frame);
+        if (index < 0) {
+            return -1;
+        }
+        int offset = index - frame.readerIndex();
+        if (offset >= CRLF.length && frame.getByte(index - 2) == CRLF[0] && frame.getByte(index - 1) == CRLF[1]) {
+            // start with the line break that precedes the delimiter
+            offset -= CRLF.length;
+        }
+        return offset;
     }
 }
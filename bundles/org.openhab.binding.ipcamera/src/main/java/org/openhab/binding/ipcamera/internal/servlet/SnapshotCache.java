@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SnapshotCache} keeps the last snapshot of a camera together with its ETag and downscaled variants, so
+ * dashboards showing many cameras as thumbnails do not cause the full size jpg to be sent, or scaled, per request.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotCache {
+    private static final int MIN_WIDTH = 16;
+    private static final int MAX_VARIANTS = 8;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private @Nullable Snapshot current;
+
+    /**
+     * A snapshot and its downscaled variants
+     */
+    public class Snapshot {
+        public final byte[] jpg;
+        public final Instant timestamp;
+        public final String etag;
+        private final Map<Integer, byte[]> variants = new ConcurrentHashMap<>();
+
+        private Snapshot(byte[] jpg) {
+            this.jpg = jpg;
+            this.timestamp = Instant.now();
+            CRC32 crc = new CRC32();
+            crc.update(jpg);
+            this.etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(jpg.length) + "\"";
+        }
+
+        /**
+         * Returns the snapshot scaled down to the given width. Each width is only scaled once per snapshot.
+         *
+         * @param requestedWidth the width in pixels, 0 for the original image
+         * @return the scaled jpg, or the original if it is not wider than the requested width
+         */
+        public byte[] variant(int requestedWidth) {
+            if (requestedWidth <= 0 || jpg.length <= 1) {
+                return jpg;
+            }
+            int width = Math.max(MIN_WIDTH, requestedWidth);
+            byte[] variant = variants.get(width);
+            if (variant != null) {
+                return variant;
+            }
+            if (variants.size() >= MAX_VARIANTS) {
+                // do not let arbitrary widths fill up memory
+                return jpg;
+            }
+            return variants.computeIfAbsent(width, this::scale);
+        }
+
+        /**
+         * Returns the ETag of the given variant.
+         */
+        public String etag(int requestedWidth) {
+            byte[] variant = variant(requestedWidth);
+            if (variant == jpg) {
+                return etag;
+            }
+            return etag.substring(0, etag.length() - 1) + "-" + Math.max(MIN_WIDTH, requestedWidth) + "\"";
+        }
+
+        private byte[] scale(int targetWidth) {
+            try {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpg));
+                if (image == null || image.getWidth() <= targetWidth) {
+                    return jpg;
+                }
+                int targetHeight = Math.max(1, image.getHeight() * targetWidth / image.getWidth());
+                BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+                Graphics2D g2d = scaled.createGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+                g2d.dispose();
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                ImageIO.write(scaled, "jpg", output);
+                return output.toByteArray();
+            } catch (IOException e) {
+                logger.debug("Could not scale snapshot: {}", e.getMessage());
+                return jpg;
+            }
+        }
+    }
+
+    /**
+     * Returns the cache entry of the given snapshot, replacing the previous one if the camera sent a new snapshot.
+     *
+     * @param jpg the current snapshot of the camera
+     * @return the cache entry
+     */
+    public synchronized Snapshot get(byte[] jpg) {
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.jpg != jpg) {
+            snapshot = new Snapshot(jpg);
+            current = snapshot;
+        }
+        return snapshot;
+    }
+}
@@ -13,13 +13,13 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ipcamera.internal.servlet.FrameRing.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,12 +30,14 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final byte[] CRLF = { '\r', '\n' };
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private @Nullable FrameRing.Cursor cursor;
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
@@ -59,28 +61,48 @@ public class StreamOutput {
     }
 
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        byte[] header = partHeader(currentSnapshot.length);
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
+            output.write(header);
             output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(CRLF);
             connected = true;
         }
-        output.write(header.getBytes());
+        output.write(header);
         output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.write(CRLF);
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    private void sendSnapshotBasedFrame(Frame frame) throws IOException {
+        byte[] header = partHeader(frame.length());
+        if (!connected) {
+            sendInitialHeaders();
+            // iOS needs to have two jpgs sent for the picture to appear instantly.
+            output.write(header);
+            frame.writeTo(output);
+            output.write(CRLF);
+            connected = true;
+        }
+        output.write(header);
+        frame.writeTo(output);
+        output.write(CRLF);
+    }
+
+    private byte[] partHeader(int length) {
+        return ("--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: " + length
+                + "\r\n\r\n").getBytes();
+    }
+
+    void setCursor(FrameRing.Cursor cursor) {
+        this.cursor = cursor;
+    }
+
+    void closeCursor() {
+        FrameRing.Cursor cursor = this.cursor;
+        if (cursor != null) {
+            cursor.close();
         }
     }
 
@@ -93,10 +115,19 @@ public class StreamOutput {
     }
 
     public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+        FrameRing.Cursor cursor = this.cursor;
+        if (cursor == null) {
+            throw new IOException("Stream has not been opened");
+        }
+        Frame frame = cursor.next();
+        try {
+            if (isSnapshotBased) {
+                sendSnapshotBasedFrame(frame);
+            } else if (connected) {
+                frame.writeTo(output);
+            }
+        } finally {
+            frame.release();
         }
     }
 
@@ -41,7 +41,7 @@ import org.openhab.binding.loxone.internal.types.LxConfig.LxServerInfo;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
 import org.openhab.binding.loxone.internal.types.LxState;
-import org.openhab.binding.loxone.internal.types.LxStateUpdate;
+import org.openhab.binding.loxone.internal.types.LxStateTable;
 import org.openhab.binding.loxone.internal.types.LxUuid;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
@@ -87,6 +87,8 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // the state. It must be ensured that updates received for this state UUID are passed to all controls that have this
     // state UUID configured.
     private Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+    // Index of the states map to resolve binary state updates, rebuilt on first use after the states map has changed
+    private volatile LxStateIndex stateIndex;
 
     private LxWebSocket socket;
     private WebSocketClient wsClient;
@@ -99,7 +101,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // Data structures
     private final Map<LxUuid, LxControl> controls = new HashMap<>();
     private final Map<ChannelUID, LxControl> channels = new HashMap<>();
-    private final BlockingQueue<LxStateUpdate> stateUpdateQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<LxStateTable> stateUpdateQueue = new LinkedBlockingQueue<>();
 
     private LxDynamicStateDescriptionProvider dynamicStateDescriptionProvider;
     private final Logger logger = LoggerFactory.getLogger(LxServerHandler.class);
@@ -274,6 +276,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
                 }
             }
         });
+        stateIndex = null;
 
         ThingBuilder builder = editThing();
         control.getChannels().forEach(channel -> {
@@ -368,6 +371,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         controls.clear();
         channels.clear();
         states.clear();
+        stateIndex = null;
         dynamicStateDescriptionProvider.removeAllDescriptions();
     }
 
@@ -460,37 +464,36 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     }
 
     /**
-     * Put a new state update event to the queue for processing and signal thread to process it
+     * Put a table of state updates received in one message to the queue for processing and signal thread to process it
      *
-     * @param uuid state uuid (null indicates websocket session should be closed)
-     * @param value new state value
+     * @param table state updates
      */
-    void queueStateUpdate(LxUuid uuid, Object value) {
-        stateUpdateQueue.add(new LxStateUpdate(uuid, value));
+    void queueStateUpdates(LxStateTable table) {
+        stateUpdateQueue.add(table);
     }
 
     /**
-     * Update to the new value of a state received from Miniserver. This method will go through all instances of this
-     * state UUID and update their value, which will trigger corresponding control state update method in each control
-     * that has this state.
+     * Update to the new values of states received from Miniserver in one table.
      *
-     * @param update Miniserver's update event
+     * @param table Miniserver's state updates
      */
-    private void updateStateValue(LxStateUpdate update) {
-        Map<LxUuid, LxState> perStateUuid = states.get(update.getUuid());
-        if (perStateUuid != null) {
-            perStateUuid.forEach((controlUuid, state) -> {
-                logger.debug("[{}] State update (UUID={}, value={}) dispatched to control UUID={}, state name={}",
-                        debugId, update.getUuid(), update.getValue(), controlUuid, state.getName());
-
-                state.setStateValue(update.getValue());
-            });
-            if (perStateUuid.isEmpty()) {
-                logger.debug("[{}] State update UUID={} has empty controls table", debugId, update.getUuid());
-            }
-        } else {
-            logger.debug("[{}] State update UUID={} has no controls table", debugId, update.getUuid());
+    private void updateStateValues(LxStateTable table) {
+        int changed = getStateIndex().update(table);
+        logger.debug("[{}] State updates: {} received, {} controls changed", debugId, table.size(), changed);
+    }
+
+    /**
+     * Gets the index of states, builds it if the states have changed since it was built last time.
+     *
+     * @return index of states
+     */
+    private LxStateIndex getStateIndex() {
+        LxStateIndex index = stateIndex;
+        if (index == null) {
+            index = new LxStateIndex(states);
+            stateIndex = index;
         }
+        return index;
     }
 
     /**
@@ -514,6 +517,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
             }
             perUuid.put(uuid, state);
         });
+        stateIndex = null;
         controls.put(control.getUuid(), control);
         control.getChannels().forEach(channel -> channels.put(channel.getUID(), control));
         control.getSubControls().values().forEach(subControl -> addControlStructures(subControl));
@@ -701,14 +705,14 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         private void processStateUpdates() throws InterruptedException {
             while (sessionActive.get()) {
                 logger.debug("[{}] Sleeping for {} seconds.", debugId, bindingConfig.keepAlivePeriod - elapsed);
-                LxStateUpdate update = stateUpdateQueue.poll(bindingConfig.keepAlivePeriod - elapsed, TimeUnit.SECONDS);
+                LxStateTable update = stateUpdateQueue.poll(bindingConfig.keepAlivePeriod - elapsed, TimeUnit.SECONDS);
                 elapsed = Duration.between(lastKeepAlive, Instant.now()).getSeconds();
                 if (update == null || elapsed >= bindingConfig.keepAlivePeriod) {
                     sendKeepAlive();
                     elapsed = 0;
                 }
                 if (update != null) {
-                    updateStateValue(update);
+                    updateStateValues(update);
                 }
             }
         }
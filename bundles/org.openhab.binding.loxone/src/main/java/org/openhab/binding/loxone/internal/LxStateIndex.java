@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openhab.binding.loxone.internal.controls.LxControl;
+import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxStateTable;
+import org.openhab.binding.loxone.internal.types.LxUuid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact index of states by their UUID, used to resolve state updates received in binary state tables.
+ * <p>
+ * UUIDs are stored as pairs of 64-bit numbers in an open-addressing hash table with linear probing, so a lookup does
+ * not need any object to be created. The index is immutable and must be rebuilt when the states change.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+public class LxStateIndex {
+    private final Logger logger = LoggerFactory.getLogger(LxStateIndex.class);
+    private final long[] keys;
+    private final LxState[][] states;
+    private final int mask;
+
+    /**
+     * Create an index of states.
+     *
+     * @param statesByUuid map of state UUID to a map of control UUID and state objects
+     */
+    public LxStateIndex(Map<LxUuid, Map<LxUuid, LxState>> statesByUuid) {
+        int capacity = 16;
+        while (capacity < statesByUuid.size() * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity * 2];
+        states = new LxState[capacity][];
+        mask = capacity - 1;
+        statesByUuid.forEach((uuid, perUuid) -> {
+            long[] bits = LxStateTable.toBits(uuid);
+            if (bits != null && !perUuid.isEmpty()) {
+                int slot = findSlot(bits[0], bits[1]);
+                keys[slot * 2] = bits[0];
+                keys[slot * 2 + 1] = bits[1];
+                states[slot] = perUuid.values().toArray(new LxState[0]);
+            }
+        });
+    }
+
+    /**
+     * Gets all states with the given UUID.
+     *
+     * @param high upper 64 bits of the state UUID
+     * @param low lower 64 bits of the state UUID
+     * @return states with this UUID (one per control) or null if there are none
+     */
+    LxState[] get(long high, long low) {
+        return states[findSlot(high, low)];
+    }
+
+    /**
+     * Update to the new values of states received from Miniserver in one table. This method will go through all
+     * instances of each state UUID and update their value. Unchanged values are skipped. Each control that has changed
+     * states is notified once for the whole table, so a big table received after connection does not cause channel
+     * updates for every single state.
+     *
+     * @param table Miniserver's state updates
+     * @return number of controls notified about changed states
+     */
+    public int update(LxStateTable table) {
+        Map<LxControl, List<LxState>> changed = new LinkedHashMap<>();
+        for (int i = 0; i < table.size(); i++) {
+            LxState[] perStateUuid = get(table.getUuidHigh(i), table.getUuidLow(i));
+            if (perStateUuid == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("State update UUID={} has no controls table", table.getUuid(i));
+                }
+                continue;
+            }
+            for (LxState state : perStateUuid) {
+                if (!table.hasValue(i, state.getStateValue()) && state.updateStateValue(table.getValue(i))) {
+                    changed.computeIfAbsent(state.getControl(), control -> new ArrayList<>()).add(state);
+                }
+            }
+        }
+        changed.forEach(LxControl::onStatesChange);
+        return changed.size();
+    }
+
+    private int findSlot(long high, long low) {
+        long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash >>> 32) & mask;
+        while (states[slot] != null && (keys[slot * 2] != high || keys[slot * 2 + 1] != low)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
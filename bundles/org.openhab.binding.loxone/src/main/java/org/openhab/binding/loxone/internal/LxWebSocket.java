@@ -18,8 +18,6 @@ import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +37,7 @@ import org.openhab.binding.loxone.internal.security.LxWsSecurity;
 import org.openhab.binding.loxone.internal.types.LxConfig;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
+import org.openhab.binding.loxone.internal.types.LxStateTable;
 import org.openhab.binding.loxone.internal.types.LxUuid;
 import org.openhab.binding.loxone.internal.types.LxWsBinaryHeader;
 import org.openhab.binding.loxone.internal.types.LxWsSecurityType;
@@ -207,9 +206,7 @@ public class LxWebSocket {
     }
 
     @OnWebSocketMessage
-    public void onBinaryMessage(byte[] data, int msgOffset, int msgLength) {
-        int offset = msgOffset;
-        int length = msgLength;
+    public void onBinaryMessage(byte[] data, int offset, int length) {
         if (logger.isTraceEnabled()) {
             String s = HexUtils.bytesToHex(data);
             logger.trace("[{}] Binary message: length {}: {}", debugId, length, s);
@@ -238,24 +235,10 @@ public class LxWebSocket {
                 switch (header.getType()) {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
-                        while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
-                            offset += 24;
-                            length -= 24;
-                        }
+                        thingHandler.queueStateUpdates(LxStateTable.decodeValueStates(data, offset, length));
                         break;
                     case EVENT_TABLE_OF_TEXT_STATES:
-                        while (length > 0) {
-                            // unused today at (offset + 16): iconUuid
-                            int textLen = ByteBuffer.wrap(data, offset + 32, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
-                            String value = new String(data, offset + 36, textLen);
-                            int size = 36 + (textLen % 4 > 0 ? textLen + 4 - (textLen % 4) : textLen);
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
-                            offset += size;
-                            length -= size;
-                        }
+                        thingHandler.queueStateUpdates(LxStateTable.decodeTextStates(data, offset, length));
                         break;
                     case KEEPALIVE_RESPONSE:
                     case TEXT_MESSAGE:
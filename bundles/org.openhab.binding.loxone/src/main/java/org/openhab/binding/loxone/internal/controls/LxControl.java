@@ -440,6 +440,23 @@ public class LxControl {
      * @param state changed Miniserver state or null if not specified (any/all)
      */
     public void onStateChange(LxState state) {
+        refreshChannelStates(state);
+    }
+
+    /**
+     * This method will be called by the thing handler, when a number of Miniserver state values of this control
+     * are updated at once in a single state table received from the Miniserver.
+     * By default it will query all channels of the control and update their state once for all changed states.
+     * Child classes that override {@link #onStateChange(LxState)} to handle particular states must override this method
+     * too.
+     *
+     * @param states changed Miniserver states, not empty
+     */
+    public void onStatesChange(List<LxState> states) {
+        refreshChannelStates(states.get(0));
+    }
+
+    private void refreshChannelStates(LxState state) {
         if (config == null) {
             logger.error("Attempt to change state with not finalized configuration!: {}", state.getUuid());
         } else {
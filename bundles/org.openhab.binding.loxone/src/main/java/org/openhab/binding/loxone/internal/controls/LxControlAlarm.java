@@ -20,6 +20,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import org.openhab.binding.loxone.internal.types.LxState;
 import org.openhab.binding.loxone.internal.types.LxUuid;
@@ -182,6 +183,12 @@ class LxControlAlarm extends LxControl {
         }
     }
 
+    @Override
+    public void onStatesChange(List<LxState> states) {
+        // particular states are handled individually
+        states.forEach(this::onStateChange);
+    }
+
     @Override
     public void onStateChange(LxState state) {
         String stateName = state.getName();
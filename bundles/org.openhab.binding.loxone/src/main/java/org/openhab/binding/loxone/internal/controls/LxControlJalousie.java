@@ -16,6 +16,7 @@ import static org.openhab.binding.loxone.internal.LxBindingConstants.*;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.openhab.binding.loxone.internal.types.LxState;
@@ -194,6 +195,12 @@ class LxControlJalousie extends LxControl {
         return null;
     }
 
+    @Override
+    public void onStatesChange(List<LxState> states) {
+        // particular states are handled individually
+        states.forEach(this::onStateChange);
+    }
+
     /**
      * Monitor jalousie position against desired target position and stop it if target position is reached.
      */
@@ -135,6 +135,12 @@ class LxControlLightController extends LxControl {
         return null;
     }
 
+    @Override
+    public void onStatesChange(List<LxState> states) {
+        // particular states are handled individually
+        states.forEach(this::onStateChange);
+    }
+
     /**
      * Get scene names from new state value received from the Miniserver
      */
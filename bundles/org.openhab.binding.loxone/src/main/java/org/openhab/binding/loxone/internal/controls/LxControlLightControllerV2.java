@@ -150,6 +150,12 @@ class LxControlLightControllerV2 extends LxControl {
         return UnDefType.UNDEF;
     }
 
+    @Override
+    public void onStatesChange(List<LxState> states) {
+        // particular states are handled individually
+        states.forEach(this::onStateChange);
+    }
+
     /**
      * Get configured and active moods from a new state value received from the Miniserver
      *
@@ -16,6 +16,7 @@ import static org.openhab.binding.loxone.internal.LxBindingConstants.*;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.openhab.binding.loxone.internal.types.LxState;
 import org.openhab.binding.loxone.internal.types.LxUuid;
@@ -161,6 +162,12 @@ class LxControlValueSelector extends LxControl {
         return null;
     }
 
+    @Override
+    public void onStatesChange(List<LxState> states) {
+        // particular states are handled individually
+        states.forEach(this::onStateChange);
+    }
+
     /**
      * Get dynamic updates to the minimum, maximum and step values. Sets a new state description if these values are
      * available. If no updates to the min/max/step, calls parent class method to update selector value in the
@@ -64,12 +64,27 @@ public class LxState {
      * @param value current state's value to set
      */
     public void setStateValue(Object value) {
+        if (updateStateValue(value)) {
+            control.onStateChange(this);
+        }
+    }
+
+    /**
+     * Sets current value of the control's state without notifying the control about the change.
+     * It is used to update many states of a control at once and notify the control once with
+     * {@link LxControl#onStatesChange(java.util.List)}.
+     *
+     * @param value current state's value to set
+     * @return true if the value has changed
+     */
+    public boolean updateStateValue(Object value) {
         logger.debug("State set ({},{}) control ({},{}) value={}", uuid, name, control.getUuid(), control.getName(),
                 value);
         if (value != null && !value.equals(this.stateValue)) {
             this.stateValue = value;
-            control.onStateChange(this);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -81,6 +96,15 @@ public class LxState {
         return stateValue;
     }
 
+    /**
+     * Gets control to which this state belongs
+     *
+     * @return state's control
+     */
+    public LxControl getControl() {
+        return control;
+    }
+
     /**
      * Gets state's name.
      * <p>
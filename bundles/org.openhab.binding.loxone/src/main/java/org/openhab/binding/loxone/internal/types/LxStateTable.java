@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A table of state updates received from the Miniserver in a single binary message.
+ * <p>
+ * The table is decoded in one pass over the message. State UUIDs are kept as two 64-bit numbers, so they can be
+ * resolved to states without creating a {@link LxUuid} object for every entry.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+public class LxStateTable {
+    private static final int VALUE_ENTRY_SIZE = 24;
+    private static final int TEXT_ENTRY_HEADER_SIZE = 36;
+
+    private final long[] uuids;
+    private final double[] values;
+    private final String[] texts;
+    private final int size;
+
+    private LxStateTable(long[] uuids, double[] values, String[] texts, int size) {
+        this.uuids = uuids;
+        this.values = values;
+        this.texts = texts;
+        this.size = size;
+    }
+
+    /**
+     * Decode a binary message with a table of value states.
+     *
+     * @param data buffer with received message
+     * @param offset offset of the table in the buffer
+     * @param length length of the table in bytes
+     * @return decoded table of value states
+     * @throws IndexOutOfBoundsException when the message is malformed
+     */
+    public static LxStateTable decodeValueStates(byte[] data, int offset, int length)
+            throws IndexOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.wrap(data, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        int count = (length + VALUE_ENTRY_SIZE - 1) / VALUE_ENTRY_SIZE;
+        long[] uuids = new long[count * 2];
+        double[] values = new double[count];
+        int position = offset;
+        for (int i = 0; i < count; i++) {
+            uuids[i * 2] = getUuidHigh(buffer, position);
+            uuids[i * 2 + 1] = getUuidLow(buffer, position);
+            values[i] = buffer.getDouble(position + 16);
+            position += VALUE_ENTRY_SIZE;
+        }
+        return new LxStateTable(uuids, values, null, count);
+    }
+
+    /**
+     * Decode a binary message with a table of text states.
+     *
+     * @param data buffer with received message
+     * @param offset offset of the table in the buffer
+     * @param length length of the table in bytes
+     * @return decoded table of text states
+     * @throws IndexOutOfBoundsException when the message is malformed
+     */
+    public static LxStateTable decodeTextStates(byte[] data, int offset, int length) throws IndexOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.wrap(data, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        int end = offset + length;
+        // each entry is at least the header size, so this is the maximum number of entries
+        int capacity = (length + TEXT_ENTRY_HEADER_SIZE - 1) / TEXT_ENTRY_HEADER_SIZE;
+        long[] uuids = new long[capacity * 2];
+        String[] texts = new String[capacity];
+        int count = 0;
+        int position = offset;
+        while (position < end) {
+            // unused today at (position + 16): iconUuid
+            int textLen = buffer.getInt(position + 32);
+            if (textLen < 0 || textLen > end - position - TEXT_ENTRY_HEADER_SIZE) {
+                throw new IndexOutOfBoundsException("Text state length out of range: " + textLen);
+            }
+            uuids[count * 2] = getUuidHigh(buffer, position);
+            uuids[count * 2 + 1] = getUuidLow(buffer, position);
+            texts[count] = new String(data, position + TEXT_ENTRY_HEADER_SIZE, textLen, StandardCharsets.UTF_8);
+            count++;
+            // text is padded to 4 bytes
+            position += TEXT_ENTRY_HEADER_SIZE + ((textLen + 3) & ~3);
+        }
+        return new LxStateTable(uuids, null, texts, count);
+    }
+
+    /**
+     * Gets number of state updates in the table.
+     *
+     * @return number of state updates
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets upper 64 bits of the state UUID, as used by {@link #toBits(LxUuid)}.
+     *
+     * @param index index of the state update
+     * @return upper 64 bits of the UUID
+     */
+    public long getUuidHigh(int index) {
+        return uuids[index * 2];
+    }
+
+    /**
+     * Gets lower 64 bits of the state UUID, as used by {@link #toBits(LxUuid)}.
+     *
+     * @param index index of the state update
+     * @return lower 64 bits of the UUID
+     */
+    public long getUuidLow(int index) {
+        return uuids[index * 2 + 1];
+    }
+
+    /**
+     * Gets the state UUID. Creates a new object, so it should be used for logging only.
+     *
+     * @param index index of the state update
+     * @return state UUID
+     */
+    public LxUuid getUuid(int index) {
+        long high = getUuidHigh(index);
+        return new LxUuid(String.format("%08x-%04x-%04x-%016x", high >>> 32, (high >>> 16) & 0xFFFF, high & 0xFFFF,
+                getUuidLow(index)));
+    }
+
+    /**
+     * Gets new value of the state, a {@link Double} for value states or a {@link String} for text states.
+     *
+     * @param index index of the state update
+     * @return new state value
+     */
+    public Object getValue(int index) {
+        return texts != null ? texts[index] : Double.valueOf(values[index]);
+    }
+
+    /**
+     * Checks if the state update carries the given value, without creating a new value object.
+     *
+     * @param index index of the state update
+     * @param value value to compare with
+     * @return true if the state update value equals the given value
+     */
+    public boolean hasValue(int index, Object value) {
+        if (texts != null) {
+            return texts[index].equals(value);
+        }
+        // same comparison as Double.equals
+        return value instanceof Double d
+                && Double.doubleToLongBits(d.doubleValue()) == Double.doubleToLongBits(values[index]);
+    }
+
+    /**
+     * Converts a UUID into two 64-bit numbers, in the same way as UUIDs received in binary state tables.
+     *
+     * @param uuid UUID to convert
+     * @return upper and lower 64 bits of the UUID or null if UUID is not in the format used by state tables
+     */
+    public static long[] toBits(LxUuid uuid) {
+        String hex = uuid.toString().replace("-", "");
+        if (hex.length() != 32) {
+            return null;
+        }
+        try {
+            return new long[] { Long.parseUnsignedLong(hex, 0, 16, 16), Long.parseUnsignedLong(hex, 16, 32, 16) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long getUuidHigh(ByteBuffer buffer, int position) {
+        return ((long) buffer.getInt(position) << 32) | ((buffer.getShort(position + 4) & 0xFFFFL) << 16)
+                | (buffer.getShort(position + 6) & 0xFFFFL);
+    }
+
+    private static long getUuidLow(ByteBuffer buffer, int position) {
+        // last 8 bytes of the UUID are in network order
+        return Long.reverseBytes(buffer.getLong(position + 8));
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxStateTable;
+import org.openhab.binding.loxone.internal.types.LxUuid;
+
+/**
+ * Test class for decoding of binary state tables ({@link LxStateTable}) and resolving them with {@link LxStateIndex}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+public class LxStateIndexTest {
+    private static final String[] UUIDS = { "0b734138-038c-0382-ffff403fb0c34b9e",
+            "0f2f6b5d-0349-83b1-ffff403fb0c34b9e", "8b734138-f33e-02d4-00ff403fb0c34b9e" };
+
+    private final Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+
+    @BeforeEach
+    public void setup() {
+        for (int i = 0; i < UUIDS.length; i++) {
+            LxUuid uuid = new LxUuid(UUIDS[i]);
+            Map<LxUuid, LxState> perUuid = new HashMap<>();
+            perUuid.put(new LxUuid("00000000-0000-0000-0000-00000000000" + i), new LxState(uuid, "state" + i, null));
+            states.put(uuid, perUuid);
+        }
+        // many other states to cause collisions in the index
+        for (int i = 0; i < 5000; i++) {
+            LxUuid uuid = new LxUuid(String.format("%08x-0000-0000-0000%012x", i, i));
+            states.put(uuid, Map.of(uuid, new LxState(uuid, "other", null)));
+        }
+    }
+
+    @Test
+    public void testValueStates() {
+        ByteBuffer buffer = ByteBuffer.allocate(24 * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < UUIDS.length; i++) {
+            putUuid(buffer, UUIDS[i]);
+            buffer.putDouble(i + 0.5);
+        }
+        putUuid(buffer, "11111111-2222-3333-4444555566667777");
+        buffer.putDouble(1.0);
+
+        LxStateTable table = LxStateTable.decodeValueStates(buffer.array(), 0, buffer.capacity());
+        LxStateIndex index = new LxStateIndex(states);
+        assertEquals(4, table.size());
+        for (int i = 0; i < UUIDS.length; i++) {
+            assertEquals(new LxUuid(UUIDS[i]), table.getUuid(i));
+            assertEquals(new LxUuid(buffer.array(), i * 24), table.getUuid(i));
+            assertEquals(i + 0.5, table.getValue(i));
+            assertTrue(table.hasValue(i, i + 0.5));
+            assertFalse(table.hasValue(i, i + 1.5));
+            assertFalse(table.hasValue(i, null));
+
+            LxState[] resolved = index.get(table.getUuidHigh(i), table.getUuidLow(i));
+            assertNotNull(resolved);
+            assertEquals(1, resolved.length);
+            assertEquals("state" + i, resolved[0].getName());
+        }
+        assertNull(index.get(table.getUuidHigh(3), table.getUuidLow(3)));
+    }
+
+    @Test
+    public void testTextStates() {
+        String[] texts = { "", "abc", "Küche", "abcd" };
+        ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < texts.length; i++) {
+            byte[] text = texts[i].getBytes(StandardCharsets.UTF_8);
+            putUuid(buffer, UUIDS[i % UUIDS.length]);
+            putUuid(buffer, UUIDS[0]);
+            buffer.putInt(text.length);
+            buffer.put(text);
+            // padding
+            buffer.position((buffer.position() + 3) & ~3);
+        }
+
+        LxStateTable table = LxStateTable.decodeTextStates(buffer.array(), 0, buffer.position());
+        assertEquals(texts.length, table.size());
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(new LxUuid(UUIDS[i % UUIDS.length]), table.getUuid(i));
+            assertEquals(texts[i], table.getValue(i));
+            assertTrue(table.hasValue(i, texts[i]));
+            assertFalse(table.hasValue(i, 1.0));
+        }
+    }
+
+    @Test
+    public void testMalformedTables() {
+        byte[] data = new byte[60];
+        assertThrows(IndexOutOfBoundsException.class, () -> LxStateTable.decodeValueStates(data, 0, 30));
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).putInt(32, 100);
+        assertThrows(IndexOutOfBoundsException.class, () -> LxStateTable.decodeTextStates(data, 0, 60));
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).putInt(32, -1);
+        assertThrows(IndexOutOfBoundsException.class, () -> LxStateTable.decodeTextStates(data, 0, 60));
+    }
+
+    private void putUuid(ByteBuffer buffer, String uuid) {
+        String hex = uuid.replace("-", "");
+        buffer.putInt(Integer.parseUnsignedInt(hex.substring(0, 8), 16));
+        buffer.putShort((short) Integer.parseInt(hex.substring(8, 12), 16));
+        buffer.putShort((short) Integer.parseInt(hex.substring(12, 16), 16));
+        for (int i = 16; i < 32; i += 2) {
+            buffer.put((byte) Integer.parseInt(hex.substring(i, i + 2), 16));
+        }
+    }
+}
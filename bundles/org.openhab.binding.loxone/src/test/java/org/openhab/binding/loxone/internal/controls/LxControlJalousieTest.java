@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.loxone.internal.controls;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -193,4 +194,20 @@ public class LxControlJalousieTest extends LxControlTest {
         testAction(null);
         changeLoxoneState("up", 0.0);
     }
+
+    @Test
+    public void testMovingToPositionInStateTable() {
+        changeLoxoneStatesInTable(Map.of("position", 0.1));
+        testChannelState(ROLLERSHUTTER_CHANNEL, new PercentType(10));
+        executeCommand(ROLLERSHUTTER_CHANNEL, new PercentType(73));
+        testAction("FullDown");
+        changeLoxoneStatesInTable(Map.of("up", 0.0, "down", 1.0, "position", 0.5));
+        testChannelState(ROLLERSHUTTER_CHANNEL, new PercentType(50));
+        testAction(null);
+        changeLoxoneStatesInTable(Map.of("position", 0.73));
+        testChannelState(ROLLERSHUTTER_CHANNEL, new PercentType(73));
+        testAction("Stop");
+        changeLoxoneStatesInTable(Map.of("position", 0.74));
+        testAction(null);
+    }
 }
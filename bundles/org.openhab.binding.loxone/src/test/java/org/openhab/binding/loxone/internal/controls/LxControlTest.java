@@ -19,15 +19,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.openhab.binding.loxone.internal.LxStateIndex;
 import org.openhab.binding.loxone.internal.types.LxCategory;
 import org.openhab.binding.loxone.internal.types.LxContainer;
 import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxStateTable;
 import org.openhab.binding.loxone.internal.types.LxUuid;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.type.ChannelKind;
@@ -204,6 +209,28 @@ class LxControlTest {
         state.setStateValue(value);
     }
 
+    void changeLoxoneStatesInTable(Map<String, Double> values) {
+        LxControl ctrl = getControl(controlUuid);
+        assertNotNull(ctrl);
+        Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+        ctrl.getStates().values().forEach(state -> states.put(state.getUuid(), Map.of(ctrl.getUuid(), state)));
+        ByteBuffer buffer = ByteBuffer.allocate(24 * values.size()).order(ByteOrder.LITTLE_ENDIAN);
+        values.forEach((stateName, value) -> {
+            LxState state = ctrl.getStates().get(stateName);
+            assertNotNull(state);
+            String hex = state.getUuid().toString().replace("-", "");
+            buffer.putInt(Integer.parseUnsignedInt(hex.substring(0, 8), 16));
+            buffer.putShort((short) Integer.parseInt(hex.substring(8, 12), 16));
+            buffer.putShort((short) Integer.parseInt(hex.substring(12, 16), 16));
+            for (int i = 16; i < 32; i += 2) {
+                buffer.put((byte) Integer.parseInt(hex.substring(i, i + 2), 16));
+            }
+            buffer.putDouble(value);
+        });
+        LxStateTable table = LxStateTable.decodeValueStates(buffer.array(), 0, buffer.capacity());
+        assertEquals(1, new LxStateIndex(states).update(table));
+    }
+
     void executeCommand(LxControl ctrl, String namePostFix, Command command) {
         assertNotNull(ctrl);
         Channel c = getChannel(getExpectedName(ctrl.getLabel(), ctrl.getRoom().getName(), namePostFix), ctrl);
@@ -14,8 +14,10 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -62,6 +64,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @Nullable ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    private final Map<HaID, Integer> knownConfigHashes = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -99,6 +102,13 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            // Home Assistant republishes all configurations, e.g. when it comes online. Do not parse and create the
+            // component again if the configuration did not change.
+            Integer knownConfigHash = knownConfigHashes.get(haID);
+            if (knownConfigHash != null && knownConfigHash == config.hashCode()) {
+                logger.trace("Skipping unchanged HomeAssistant component {}", haID);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, tracker, scheduler,
                         gson, transformationServiceProvider);
@@ -119,10 +129,22 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                 logger.warn("HomeAssistant discover error: {}", e.getMessage());
             }
         } else {
+            knownConfigHashes.remove(haID);
             logger.warn("Configuration of HomeAssistant thing {} is empty", haID.objectID);
         }
     }
 
+    /**
+     * Remember the configuration of a component that is in use, so that receiving the same configuration again does
+     * not cause the component to be created and reported again.
+     *
+     * @param haID The location of the component
+     * @param configHash The hash code of the configuration string, see {@link AbstractComponent#getConfigHash()}
+     */
+    public void setKnownConfigHash(HaID haID, int configHash) {
+        knownConfigHashes.put(haID, configHash);
+    }
+
     /**
      * Start a components discovery.
      *
@@ -169,6 +169,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     }
                     haComponents.put(id, component);
                     component.addChannelTypes(channelTypeProvider);
+                    // Retained configurations received after start are skipped as long as they did not change
+                    discoverComponents.setKnownConfigHash(component.getHaID(), component.getConfigHash());
                 } catch (ConfigurationException e) {
                     logger.error("Cannot not restore component {}: {}", thing, e.getMessage());
                 }
@@ -284,6 +286,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                         known.stop();
                     } else {
                         known.setConfigSeen();
+                        discoverComponents.setKnownConfigHash(discovered.getHaID(), discovered.getConfigHash());
                         continue;
                     }
                 }
@@ -292,6 +295,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 discovered.addChannelTypes(channelTypeProvider);
                 // Add component to the component map
                 haComponents.put(id, discovered);
+                discoverComponents.setKnownConfigHash(discovered.getHaID(), discovered.getConfigHash());
                 // Start component / Subscribe to channel topics
                 discovered.start(connection, scheduler, 0).exceptionally(e -> {
                     logger.warn("Failed to start component {}", discovered.getHaID(), e);
@@ -223,6 +223,66 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
         });
     }
 
+    @Test
+    public void testUnchangedConfigIsSkipped() {
+        thingHandler.initialize();
+        MQTT_TOPICS.forEach(t -> {
+            verify(bridgeConnection, timeout(SUBSCRIBE_TIMEOUT)).subscribe(eq(t), any());
+        });
+
+        var configTopic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        thingHandler.delayedProcessing.forceProcessNow();
+        assertThat(haThing.getChannels().size(), CoreMatchers.is(6));
+
+        // The same configuration is published again, e.g. after Home Assistant came online
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        thingHandler.delayedProcessing.forceProcessNow();
+        verify(thingHandler, times(1)).componentDiscovered(any(), any());
+        verify(channelTypeProvider, times(6)).setChannelType(any(), any());
+        assertThat(haThing.getChannels().size(), CoreMatchers.is(6));
+    }
+
+    @Test
+    public void testRestoredComponentsSkipUnchangedConfig() {
+        thingHandler.initialize();
+        MQTT_TOPICS.forEach(t -> {
+            verify(bridgeConnection, timeout(SUBSCRIBE_TIMEOUT)).subscribe(eq(t), any());
+        });
+        var configTopic = "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config";
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601AutoLock.json"));
+        thingHandler.delayedProcessing.forceProcessNow();
+        assertThat(haThing.getChannels().size(), CoreMatchers.is(1));
+        thingHandler.dispose();
+
+        // A new handler restores the component from the channel configuration of the thing
+        HomeAssistantThingHandler restoredThingHandler = spy(new HomeAssistantThingHandler(haThing,
+                channelTypeProvider, transformationServiceProvider, SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT));
+        restoredThingHandler.setConnection(bridgeConnection);
+        restoredThingHandler.setCallback(callbackMock);
+        restoredThingHandler.initialize();
+        // Discovery is started asynchronously, the first handler has subscribed once already
+        MQTT_TOPICS.forEach(t -> {
+            verify(bridgeConnection, timeout(SUBSCRIBE_TIMEOUT).times(2)).subscribe(eq(t), any());
+        });
+        assertThat(restoredThingHandler.haComponents.size(), CoreMatchers.is(1));
+
+        restoredThingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601AutoLock.json"));
+        verify(restoredThingHandler, never()).componentDiscovered(any(), any());
+
+        // A changed configuration is still reported
+        String changedConfig = new String(getResourceAsByteArray("component/configTS0601AutoLock.json"),
+                StandardCharsets.UTF_8).replace("th1 auto lock", "th1 child lock");
+        restoredThingHandler.discoverComponents.processMessage(configTopic,
+                changedConfig.getBytes(StandardCharsets.UTF_8));
+        verify(restoredThingHandler, times(1)).componentDiscovered(any(), any());
+        restoredThingHandler.dispose();
+    }
+
     @Test
     public void testDispose() {
         thingHandler.initialize();
@@ -25,16 +25,16 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -89,20 +89,21 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     ExpiringCacheAsync<PresenceDetectionValue> cache;
 
     private final PresenceDetectionListener updateListener;
+    private final PresenceDetectionEngine engine;
     private ScheduledExecutorService scheduledExecutorService;
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
+    private List<CompletableFuture<Void>> detectionFutures = List.of();
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
 
-    public PresenceDetection(final PresenceDetectionListener updateListener,
+    public PresenceDetection(final PresenceDetectionListener updateListener, PresenceDetectionEngine engine,
             ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime)
             throws IllegalArgumentException {
         this.updateListener = updateListener;
+        this.engine = engine;
         this.scheduledExecutorService = scheduledExecutorService;
         cache = new ExpiringCacheAsync<>(cacheDeviceStateTime);
     }
@@ -285,10 +286,6 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
     private void withDestinationAddress(Consumer<InetAddress> consumer) {
         InetAddress destinationAddress = destination.getValue();
         if (destinationAddress == null) {
@@ -298,24 +295,15 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
-    private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
-        }
+    private synchronized void stopDetection() {
+        // checks that have not started yet are skipped
+        detectionFutures.forEach(future -> future.cancel(false));
+        detectionFutures = List.of();
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The checks are run by the binding-wide {@link PresenceDetectionEngine}.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -353,60 +341,52 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         stopDetection();
 
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
-
-        List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        Executor executor = engine.getExecutor();
+        List<CompletableFuture<Void>> detectionFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            addNonBlockingDetection(detectionFutures, () -> performServicePing(pdv, tcpPort), executor);
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. The Windows tool handles multiple interfaces by itself,
+        // other tools are run for each network interface
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
+            addAsyncDetection(detectionFutures, () -> performArpPing(pdv, ""), engine.getArpExecutor(""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                addAsyncDetection(detectionFutures, () -> performArpPing(pdv, interfaceName),
+                        engine.getArpExecutor(interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
+            addAsyncDetection(detectionFutures, () -> {
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
                 } else {
                     performSystemPing(pdv);
                 }
-            }, detectionExecutorService);
+            }, executor);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
+        synchronized (this) {
+            this.detectionFutures = detectionFutures;
+        }
+
+        List<CompletableFuture<Void>> completableFutures = detectionFutures.stream()
+                .map(future -> future.exceptionally(e -> {
                     logger.debug("Detection future failed to complete", e);
-                }
-            });
+                    return null;
+                })).toList();
+
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        return CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new)).thenApply(v -> {
             logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
+            if (detectionFutures.stream().anyMatch(CompletableFuture::isCancelled)) {
+                logger.debug("Presence detection for {} has been superseded by a newer one", hostname);
+                return pdv;
+            }
 
             if (!pdv.isReachable()) {
                 logger.debug("{} is unreachable, invalidating destination value", hostname);
@@ -416,18 +396,76 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
+        });
+    }
+
+    private void addAsyncDetection(List<CompletableFuture<Void>> detectionFutures, Runnable detectionRunnable,
+            Executor executor) {
+        addNonBlockingDetection(detectionFutures, () -> {
+            detectionRunnable.run();
+            return CompletableFuture.completedFuture(null);
+        }, executor);
+    }
+
+    /**
+     * Adds a check which only starts its detection on the executor and completes the returned future once the
+     * detection is done.
+     */
+    private void addNonBlockingDetection(List<CompletableFuture<Void>> detectionFutures,
+            Supplier<CompletableFuture<?>> detectionStarter, Executor executor) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        detectionFutures.add(future);
+        try {
+            executor.execute(() -> runDetection(future, detectionStarter));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Presence detection check for {} rejected: {}", hostname, e.getMessage());
+            future.completeExceptionally(e);
+        }
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+    private void runDetection(CompletableFuture<Void> future, Supplier<CompletableFuture<?>> detectionStarter) {
+        if (future.isDone()) {
+            // cancelled while waiting for a free thread
+            return;
+        }
+        // the timeout starts when the check starts, not while it is queued in the engine
+        future.orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS);
+
+        // a check which has timed out or has been superseded is interrupted, so that it frees its thread
+        AtomicReference<@Nullable Thread> runner = new AtomicReference<>(Thread.currentThread());
+        future.whenComplete((v, e) -> {
+            synchronized (runner) {
+                Thread thread = runner.get();
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        });
+        CompletableFuture<?> detection;
+        try {
+            detection = detectionStarter.get();
+        } catch (RuntimeException e) {
+            detection = CompletableFuture.failedFuture(e);
+        } finally {
+            synchronized (runner) {
+                runner.set(null);
+            }
+            // clear an interrupt which came too late, the thread is reused by the engine
+            Thread.interrupted();
+        }
+
+        final CompletableFuture<?> pendingDetection = detection;
+        pendingDetection.whenComplete((v, e) -> {
+            if (e == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(e);
+            }
+        });
+        future.whenComplete((v, e) -> pendingDetection.cancel(false));
     }
 
     /**
@@ -471,20 +509,28 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    protected CompletableFuture<?> performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<PingResult> connection = engine.servicePing(destinationAddress.getHostAddress(), tcpPort,
+                timeout);
+        CompletableFuture<?> detection = connection.handle((pingResult, e) -> {
+            if (e != null) {
                 // This should not happen and might be a user configuration issue, we log a warning message therefore.
                 logger.warn("Could not create a socket connection", e);
+            } else if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
             }
+            return null;
         });
+        // a detection that has timed out or has been superseded gives up the connection attempt
+        detection.whenComplete((v, e) -> connection.cancel(false));
+        return detection;
     }
 
     /**
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.core.common.NamedThreadFactory;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+/**
+ * The {@link PresenceDetectionEngine} runs the presence detection checks (pings and ARP pings) of all network things
+ * and the discovery on one binding-wide thread pool, instead of creating thread pools per check. TCP connects do not
+ * need a thread of the pool, they are performed non-blocking by a {@link ServicePinger}.
+ * <p>
+ * The number of checks running at the same time is limited globally. ARP pings are additionally queued per network
+ * interface, so that a large number of devices does not start a large number of arping processes on one interface.
+ * The number of waiting checks is limited as well, further checks are rejected with a
+ * {@link RejectedExecutionException}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = PresenceDetectionEngine.class)
+public class PresenceDetectionEngine {
+    static final int MAX_CONCURRENT_CHECKS = 32;
+    static final int MAX_ARP_CHECKS_PER_INTERFACE = 4;
+    static final int MAX_QUEUED_CHECKS = 1024;
+
+    private final ThreadPoolExecutor executor;
+    private final ServicePinger servicePinger;
+    private final int maxArpChecksPerInterface;
+    private final int maxQueuedChecks;
+    private final Map<String, LimitedExecutor> arpExecutors = new ConcurrentHashMap<>();
+
+    @Activate
+    public PresenceDetectionEngine() {
+        this(MAX_CONCURRENT_CHECKS, MAX_ARP_CHECKS_PER_INTERFACE, MAX_QUEUED_CHECKS);
+    }
+
+    PresenceDetectionEngine(int maxConcurrentChecks, int maxArpChecksPerInterface, int maxQueuedChecks) {
+        executor = new ThreadPoolExecutor(maxConcurrentChecks, maxConcurrentChecks, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxQueuedChecks), new NamedThreadFactory("network-presence")) {
+            @Override
+            protected void afterExecute(@Nullable Runnable task, @Nullable Throwable throwable) {
+                // a place in the queue is free again, pass on ARP checks held back by a full queue
+                arpExecutors.values().forEach(LimitedExecutor::dispatch);
+            }
+        };
+        // threads are only kept while checks are running
+        executor.allowCoreThreadTimeOut(true);
+        servicePinger = new ServicePinger(new NamedThreadFactory("network-presence-tcp"));
+        this.maxArpChecksPerInterface = maxArpChecksPerInterface;
+        this.maxQueuedChecks = maxQueuedChecks;
+    }
+
+    /**
+     * Returns the executor for pings. Tasks are rejected with a {@link RejectedExecutionException} if too many
+     * checks are waiting.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Tries to connect to the given TCP port, without blocking a thread while waiting for the connection.
+     *
+     * @see ServicePinger#servicePing(String, int, Duration)
+     */
+    public CompletableFuture<PingResult> servicePing(String host, int port, Duration timeout) {
+        return servicePinger.servicePing(host, port, timeout);
+    }
+
+    /**
+     * Returns the executor for ARP pings on the given network interface. Tasks are rejected with a
+     * {@link RejectedExecutionException} if too many checks are waiting for the interface.
+     *
+     * @param interfaceName the name of the network interface, empty if the tool handles all interfaces itself
+     */
+    public Executor getArpExecutor(String interfaceName) {
+        return arpExecutors.computeIfAbsent(interfaceName, name -> new LimitedExecutor(maxArpChecksPerInterface));
+    }
+
+    @Deactivate
+    public void dispose() {
+        executor.shutdownNow();
+        servicePinger.dispose();
+        arpExecutors.clear();
+    }
+
+    /**
+     * Queues tasks and passes at most the given number of them to the shared executor at a time.
+     */
+    private class LimitedExecutor implements Executor {
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+        private final int limit;
+        private int running = 0;
+
+        LimitedExecutor(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            if (executor.isShutdown() || queue.size() >= maxQueuedChecks) {
+                throw new RejectedExecutionException("Too many ARP checks are waiting");
+            }
+            queue.add(task);
+            dispatch();
+        }
+
+        private synchronized void dispatch() {
+            while (running < limit && !queue.isEmpty()) {
+                Runnable task = queue.remove();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            completed();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // the shared queue is full, the task is passed on when the next check has completed
+                    queue.addFirst(task);
+                    return;
+                }
+                running++;
+            }
+        }
+
+        private synchronized void completed() {
+            running--;
+            dispatch();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.discovery.SubnetSweeper;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ServicePinger} performs the TCP connection attempts of the presence detection on a single thread. Like
+ * the {@link SubnetSweeper}, it starts non-blocking connects and waits for all of them with one {@link Selector}, so
+ * that unanswered connection attempts do not block a thread each. The thread is started with the first connection
+ * attempt.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ServicePinger {
+    private final Logger logger = LoggerFactory.getLogger(ServicePinger.class);
+
+    private static class PendingConnect {
+        final SocketChannel channel;
+        final CompletableFuture<PingResult> future;
+        final long start;
+        final long deadline;
+
+        PendingConnect(SocketChannel channel, CompletableFuture<PingResult> future, long start, long deadline) {
+            this.channel = channel;
+            this.future = future;
+            this.start = start;
+            this.deadline = deadline;
+        }
+
+        void complete(boolean success) {
+            future.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - start)));
+        }
+    }
+
+    private final ThreadFactory threadFactory;
+    private final Queue<PendingConnect> newConnects = new ConcurrentLinkedQueue<>();
+    private @Nullable Selector selector;
+    private volatile boolean disposed = false;
+
+    /**
+     * @param threadFactory Creates the thread waiting for the connection attempts
+     */
+    public ServicePinger(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Tries to connect to the given TCP port. The returned future completes with a successful {@link PingResult} once
+     * the connection is established, and with a failed one if the connection is refused or not answered within the
+     * timeout. Cancelling the future closes the connection attempt.
+     *
+     * @param host the IP address of the host
+     * @param port the TCP port
+     * @param timeout time after which an unanswered connection attempt is given up
+     * @return a future for the {@link PingResult} of the connection attempt, completes exceptionally if the
+     *         connection attempt cannot be started
+     */
+    public CompletableFuture<PingResult> servicePing(String host, int port, Duration timeout) {
+        CompletableFuture<PingResult> future = new CompletableFuture<>();
+        long start = System.nanoTime();
+        if (disposed) {
+            future.completeExceptionally(new IOException("The service pinger has been disposed"));
+            return future;
+        }
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            PendingConnect connect = new PendingConnect(channel, future, start, start + timeout.toNanos());
+            if (channel.connect(new InetSocketAddress(host, port))) {
+                connect.complete(true);
+            } else {
+                register(connect);
+            }
+        } catch (ConnectException | NoRouteToHostException e) {
+            logger.trace("Could not connect to {}:{}", host, port, e);
+            future.complete(new PingResult(false, Duration.ofNanos(System.nanoTime() - start)));
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+        }
+        if (channel != null) {
+            // the connection is only probed, it is closed as soon as the attempt is done, timed out or cancelled
+            final SocketChannel probeChannel = channel;
+            future.whenComplete((result, e) -> close(probeChannel));
+        }
+        return future;
+    }
+
+    /**
+     * Stops the thread. Pending connection attempts are given up.
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private synchronized void register(PendingConnect connect) throws IOException {
+        if (disposed) {
+            throw new IOException("The service pinger has been disposed");
+        }
+        Selector selector = this.selector;
+        if (selector == null) {
+            final Selector newSelector = Selector.open();
+            threadFactory.newThread(() -> run(newSelector)).start();
+            this.selector = selector = newSelector;
+        }
+        newConnects.add(connect);
+        selector.wakeup();
+    }
+
+    private void run(Selector selector) {
+        // connection attempts may have different timeouts, therefore they are ordered by deadline
+        final Queue<PendingConnect> pending = new PriorityQueue<>(Comparator.comparingLong(c -> c.deadline));
+        try (selector) {
+            while (!disposed) {
+                PendingConnect connect;
+                while ((connect = newConnects.poll()) != null) {
+                    try {
+                        connect.channel.register(selector, SelectionKey.OP_CONNECT, connect);
+                        pending.add(connect);
+                    } catch (ClosedChannelException e) {
+                        // cancelled before it has been registered
+                    }
+                }
+
+                long waitMillis = 0;
+                PendingConnect oldest = pending.peek();
+                if (oldest != null) {
+                    waitMillis = Math.max(1, (oldest.deadline - System.nanoTime()) / 1_000_000L);
+                }
+                selector.select(waitMillis);
+
+                for (SelectionKey key : selector.selectedKeys()) {
+                    finishConnect((PendingConnect) key.attachment());
+                }
+                selector.selectedKeys().clear();
+
+                // give up on unanswered connection attempts, cancelled ones are already done
+                final long now = System.nanoTime();
+                while ((oldest = pending.peek()) != null && (oldest.future.isDone() || oldest.deadline - now <= 0)) {
+                    pending.poll();
+                    oldest.complete(false);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Waiting for TCP connection attempts failed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                // the next connection attempt starts a new thread, unless disposed
+                this.selector = null;
+                PendingConnect connect;
+                while ((connect = newConnects.poll()) != null) {
+                    pending.add(connect);
+                }
+            }
+            pending.forEach(connect -> connect.complete(false));
+        }
+    }
+
+    private void finishConnect(PendingConnect connect) {
+        boolean connected = false;
+        try {
+            connected = connect.channel.finishConnect();
+        } catch (IOException e) {
+            // Connection refused, host unreachable, ...
+        }
+        connect.complete(connected);
+    }
+
+    private void close(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -15,14 +15,13 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,8 +29,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.discovery.SubnetSweeper.SweepListener;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -42,13 +43,14 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It harvests the ARP cache, tries common TCP ports to connect to, ICMP pings and ARP pings.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
@@ -65,16 +67,18 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
-    private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private @Nullable SubnetSweeper sweeper = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
+    private final PresenceDetectionEngine engine;
 
-    public NetworkDiscoveryService() {
+    @Activate
+    public NetworkDiscoveryService(final @Reference PresenceDetectionEngine engine) {
         super(SUPPORTED_THING_TYPES_UIDS,
                 (int) Math.round(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
                         * (durationToMillis(PING_TIMEOUT) / 1000.0)),
                 false);
+        this.engine = engine;
     }
 
     @Override
@@ -97,8 +101,12 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
+        synchronized (this) {
+            final SubnetSweeper sweeper = this.sweeper;
+            if (sweeper != null) {
+                sweeper.cancel();
+                this.sweeper = null;
+            }
         }
         super.deactivate();
     }
@@ -121,66 +129,94 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts a sweep over each IP on each interface on the network. Hosts found in the ARP cache are reported
+     * right away, all other hosts are pinged and probed for common TCP services, paced by the configured
+     * packets-per-second budget. Results are reported as soon as they are known.
      */
     @Override
     protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
+        final SubnetSweeper sweeper;
+        synchronized (this) {
+            if (this.sweeper != null) {
+                return;
+            }
+            sweeper = new SubnetSweeper(Math.max(1, configuration.discoveryPacketsPerSecond), PING_TIMEOUT);
+            this.sweeper = sweeper;
         }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
-
-        for (String ip : networkIPs) {
-            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
-            pd.setHostname(ip);
-            pd.setIOSDevice(true);
-            pd.setUseDhcpSniffing(false);
-            pd.setTimeout(PING_TIMEOUT);
-            // Ping devices
-            pd.setUseIcmpPing(true);
-            pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
+
+        // Hosts with a resolved ARP cache entry are present, no need to send a single packet to find them
+        for (String ip : networkUtils.getArpCacheIPs()) {
+            if (networkIPs.contains(ip)) {
+                newPingDevice(ip);
+            }
+        }
+
+        // Every pinged host and the TCP sweep itself count down, the scan is finished once all are done
+        final AtomicInteger remaining = new AtomicInteger(networkIPs.size() + 1);
+        final SweepListener sweepListener = new SweepListener() {
+            @Override
+            public void probeHost(String ip) {
+                createPingDetection(ip).getValue(value -> countDown(sweeper, remaining));
+            }
+
+            @Override
+            public void serviceFound(String ip, int port) {
+                newServiceDevice(ip, port);
+            }
+        };
+
+        try {
+            engine.getExecutor().execute(() -> {
                 try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
+                    sweeper.sweep(networkIPs, tcpServicePorts, sweepListener);
+                } catch (IOException e) {
+                    logger.debug("Network sweep failed: {}", e.getMessage());
                 }
+                countDown(sweeper, remaining);
             });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Network sweep rejected: {}", e.getMessage());
+            countDown(sweeper, remaining);
+        }
+    }
+
+    private PresenceDetection createPingDetection(String ip) {
+        final PresenceDetection pd = new PresenceDetection(this, engine, scheduler, Duration.ofSeconds(2));
+        pd.setHostname(ip);
+        pd.setIOSDevice(true);
+        pd.setUseDhcpSniffing(false);
+        pd.setTimeout(PING_TIMEOUT);
+        pd.setUseIcmpPing(true);
+        pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
+        // TCP services are probed by the sweeper
+        pd.setServicePorts(Set.of());
+        return pd;
+    }
+
+    private void countDown(SubnetSweeper sweeper, AtomicInteger remaining) {
+        if (remaining.decrementAndGet() == 0) {
+            synchronized (this) {
+                if (this.sweeper != sweeper) {
+                    return;
+                }
+            }
+            logger.trace("Scan of network successful");
+            stopScan();
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
-
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+        final SubnetSweeper sweeper = this.sweeper;
+        if (sweeper != null) {
+            sweeper.cancel();
+            this.sweeper = null;
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -189,7 +225,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the sweep started in {@link #startScan()}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -222,7 +258,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the sweep started in {@link #startScan()}.
      *
      * @param ip The device IP
      */
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A token bucket that limits the number of probe packets the discovery sends per second.
+ * The bucket holds at most a tenth of a second worth of packets, so that a sweep does not
+ * start with a burst.
+ * <p>
+ * This class is not thread safe, it is meant to be used by the single sweeping thread.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class PacketBudget {
+    private final long nanosPerPacket;
+    private final long capacityNanos;
+    private long availableNanos;
+    private long lastRefill;
+
+    /**
+     * @param packetsPerSecond The allowed packets per second. Must be positive.
+     */
+    PacketBudget(int packetsPerSecond) {
+        if (packetsPerSecond <= 0) {
+            throw new IllegalArgumentException("packetsPerSecond must be positive");
+        }
+        this.nanosPerPacket = TimeUnit.SECONDS.toNanos(1) / packetsPerSecond;
+        this.capacityNanos = Math.max(nanosPerPacket, TimeUnit.MILLISECONDS.toNanos(100));
+        this.availableNanos = nanosPerPacket;
+        this.lastRefill = System.nanoTime();
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        availableNanos = Math.min(capacityNanos, availableNanos + (now - lastRefill));
+        lastRefill = now;
+    }
+
+    /**
+     * Takes one packet from the budget if available.
+     *
+     * @return true if a packet may be sent now
+     */
+    boolean tryAcquire() {
+        refill();
+        if (availableNanos < nanosPerPacket) {
+            return false;
+        }
+        availableNanos -= nanosPerPacket;
+        return true;
+    }
+
+    /**
+     * @return The time in milliseconds until the next packet is available, at least 1.
+     */
+    long millisUntilAvailable() {
+        refill();
+        long missing = nanosPerPacket - availableNanos;
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(missing));
+    }
+}
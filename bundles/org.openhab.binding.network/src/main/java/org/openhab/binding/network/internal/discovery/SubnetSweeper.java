@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SubnetSweeper} probes a list of hosts for open TCP ports on a single thread. Instead of
+ * blocking one thread per connection attempt, it starts non-blocking connects and waits for all of them
+ * with one {@link Selector}. The probe rate is limited by a packets-per-second budget, so that a sweep of
+ * a large subnet does not flood the network. Every open port is reported to the listener as soon as the
+ * connection is established.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetSweeper {
+    /**
+     * Maximum of unanswered connection attempts, keeps the number of open file descriptors bounded.
+     */
+    static final int MAX_PENDING_CONNECTS = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(SubnetSweeper.class);
+
+    /**
+     * Receives the sweep progress. Callbacks are invoked on the sweeping thread and should return quickly.
+     */
+    public interface SweepListener {
+        /**
+         * Called once per host, before its ports are probed. The host probe counts as one packet of the
+         * budget and can be used to start further (asynchronous) checks of the host, like pings.
+         *
+         * @param ip The host IP
+         */
+        void probeHost(String ip);
+
+        /**
+         * Called if a TCP connection to the given port could be established.
+         *
+         * @param ip The host IP
+         * @param port The TCP port
+         */
+        void serviceFound(String ip, int port);
+    }
+
+    private static class PendingConnect {
+        final SocketChannel channel;
+        final String ip;
+        final int port;
+        final long deadline;
+        boolean done;
+
+        PendingConnect(SocketChannel channel, String ip, int port, long deadline) {
+            this.channel = channel;
+            this.ip = ip;
+            this.port = port;
+            this.deadline = deadline;
+        }
+    }
+
+    private final int packetsPerSecond;
+    private final Duration connectTimeout;
+    private volatile boolean cancelled = false;
+    private volatile @Nullable Selector selector;
+
+    /**
+     * @param packetsPerSecond Budget of host probes and connection attempts per second
+     * @param connectTimeout Time after which an unanswered connection attempt is given up
+     */
+    public SubnetSweeper(int packetsPerSecond, Duration connectTimeout) {
+        this.packetsPerSecond = packetsPerSecond;
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Sweeps the given hosts and ports. Returns when every connection attempt has either succeeded, failed
+     * or timed out, or when the sweep has been cancelled.
+     *
+     * @param ips The host IPs
+     * @param ports The TCP ports to probe on every host
+     * @param listener Receives the results
+     * @throws IOException If the selector cannot be opened
+     */
+    public void sweep(Collection<String> ips, Set<Integer> ports, SweepListener listener) throws IOException {
+        final PacketBudget budget = new PacketBudget(packetsPerSecond);
+        final Deque<PendingConnect> pending = new ArrayDeque<>();
+        final Iterator<String> hosts = ips.iterator();
+        Iterator<Integer> hostPorts = Collections.emptyIterator();
+        String host = "";
+        int pendingCount = 0;
+
+        try (Selector selector = Selector.open()) {
+            this.selector = selector;
+            while (!cancelled) {
+                // Start as many probes as the budget allows
+                while ((hostPorts.hasNext() || hosts.hasNext()) && pendingCount < MAX_PENDING_CONNECTS
+                        && budget.tryAcquire()) {
+                    if (hostPorts.hasNext()) {
+                        PendingConnect connect = connect(selector, host, hostPorts.next(), listener);
+                        if (connect != null) {
+                            pending.add(connect);
+                            pendingCount++;
+                        }
+                    } else {
+                        host = hosts.next();
+                        hostPorts = ports.iterator();
+                        listener.probeHost(host);
+                    }
+                }
+
+                final boolean probesLeft = hostPorts.hasNext() || hosts.hasNext();
+                if (!probesLeft && pendingCount == 0) {
+                    break;
+                }
+
+                long waitMillis = connectTimeout.toMillis();
+                PendingConnect oldest = pending.peekFirst();
+                if (oldest != null) {
+                    waitMillis = (oldest.deadline - System.nanoTime()) / 1_000_000L;
+                }
+                if (probesLeft && pendingCount < MAX_PENDING_CONNECTS) {
+                    waitMillis = Math.min(waitMillis, budget.millisUntilAvailable());
+                }
+                selector.select(Math.max(1, waitMillis));
+
+                for (SelectionKey key : selector.selectedKeys()) {
+                    PendingConnect connect = (PendingConnect) key.attachment();
+                    if (connect != null && !connect.done) {
+                        finishConnect(connect, listener);
+                        pendingCount--;
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                // Give up on unanswered connection attempts. All attempts share the same timeout,
+                // therefore the queue is ordered by deadline.
+                final long now = System.nanoTime();
+                while ((oldest = pending.peekFirst()) != null && (oldest.done || oldest.deadline - now <= 0)) {
+                    pending.pollFirst();
+                    if (!oldest.done) {
+                        close(oldest);
+                        pendingCount--;
+                    }
+                }
+            }
+        } finally {
+            this.selector = null;
+            pending.forEach(this::close);
+        }
+    }
+
+    /**
+     * Stops a running sweep. Pending connection attempts are closed.
+     */
+    public void cancel() {
+        cancelled = true;
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private @Nullable PendingConnect connect(Selector selector, String ip, int port, SweepListener listener) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(ip, port))) {
+                channel.close();
+                listener.serviceFound(ip, port);
+                return null;
+            }
+            PendingConnect connect = new PendingConnect(channel, ip, port,
+                    System.nanoTime() + connectTimeout.toNanos());
+            channel.register(selector, SelectionKey.OP_CONNECT, connect);
+            return connect;
+        } catch (IOException e) {
+            logger.trace("Connection attempt to {}:{} failed: {}", ip, port, e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+            return null;
+        }
+    }
+
+    private void finishConnect(PendingConnect connect, SweepListener listener) {
+        boolean connected = false;
+        try {
+            connected = connect.channel.finishConnect();
+        } catch (IOException e) {
+            // Connection refused, host unreachable, ...
+        }
+        close(connect);
+        if (connected) {
+            listener.serviceFound(connect.ip, connect.port);
+        }
+    }
+
+    private void close(PendingConnect connect) {
+        connect.done = true;
+        try {
+            connect.channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
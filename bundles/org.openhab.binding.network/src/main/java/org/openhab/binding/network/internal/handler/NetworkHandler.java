@@ -68,6 +68,7 @@ public class NetworkHandler extends BaseThingHandler
 
     private boolean isTCPServiceDevice;
     private NetworkBindingConfiguration configuration;
+    private final PresenceDetectionEngine engine;
 
     // How many retries before a device is deemed offline
     int retries;
@@ -78,10 +79,12 @@ public class NetworkHandler extends BaseThingHandler
     /**
      * Do not call this directly, but use the {@see NetworkHandlerBuilder} instead.
      */
-    public NetworkHandler(Thing thing, boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
+    public NetworkHandler(Thing thing, boolean isTCPServiceDevice, NetworkBindingConfiguration configuration,
+            PresenceDetectionEngine engine) {
         super(thing);
         this.isTCPServiceDevice = isTCPServiceDevice;
         this.configuration = configuration;
+        this.engine = engine;
         this.configuration.addNetworkBindingConfigurationListener(this);
     }
 
@@ -217,7 +220,7 @@ public class NetworkHandler extends BaseThingHandler
     // Create a new network service and apply all configurations.
     @Override
     public void initialize() {
-        initialize(new PresenceDetection(this, scheduler,
+        initialize(new PresenceDetection(this, engine, scheduler,
                 Duration.ofMillis(configuration.cacheDeviceStateTimeInMS.intValue())));
     }
 
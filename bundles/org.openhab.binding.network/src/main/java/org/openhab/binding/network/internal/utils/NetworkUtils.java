@@ -15,19 +15,17 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
-import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -59,6 +57,10 @@ public class NetworkUtils {
      */
     private static final long NANOS_PER_MILLI = 1000_000L;
 
+    private static final String ARP_CACHE_FILE = "/proc/net/arp";
+    // Flag of a completed (resolved) ARP cache entry
+    private static final int ATF_COM = 0x02;
+
     /**
      * Converts a {@link Duration} to milliseconds.
      * <p>
@@ -150,6 +152,44 @@ public class NetworkUtils {
         return result;
     }
 
+    /**
+     * Reads the IPv4 addresses of all resolved entries of the kernel ARP cache. Those hosts have been seen on the
+     * network recently, without sending a single packet. Only available on Linux, an empty set is returned on
+     * other operating systems.
+     *
+     * @return The IPs of complete ARP cache entries
+     */
+    public Set<String> getArpCacheIPs() {
+        return getArpCacheIPs(Path.of(ARP_CACHE_FILE));
+    }
+
+    Set<String> getArpCacheIPs(Path arpCacheFile) {
+        Set<String> result = new LinkedHashSet<>();
+        if (!Files.isReadable(arpCacheFile)) {
+            return result;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(arpCacheFile, StandardCharsets.US_ASCII)) {
+            // Skip the header line: IP address, HW type, Flags, HW address, Mask, Device
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.trim().split("\\s+");
+                if (columns.length < 4) {
+                    continue;
+                }
+                try {
+                    if ((Integer.decode(columns[2]) & ATF_COM) != 0) {
+                        result.add(columns[0]);
+                    }
+                } catch (NumberFormatException e) {
+                    logger.trace("Unexpected ARP cache entry '{}'", line);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not read the ARP cache: {}", e.getMessage());
+        }
+        return result;
+    }
+
     /**
      * Determines every IP which can be assigned on all available interfaces
      *
@@ -204,27 +244,6 @@ public class NetworkUtils {
         return networkIPs;
     }
 
-    /**
-     * Try to establish a TCP connection to the given port.
-     *
-     * @param host the IP or hostname
-     * @param port the TCP port. Must be not 0.
-     * @param timeout the timeout before the call aborts
-     * @return the {@link PingResult} of connecting to the given port
-     * @throws IOException if an error occurs during the connection
-     */
-    public PingResult servicePing(String host, int port, Duration timeout) throws IOException {
-        Instant execStartTime = Instant.now();
-        boolean success = false;
-        try (Socket socket = new Socket()) {
-            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
-            success = true;
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException e) {
-            logger.trace("Could not connect to {}:{}", host, port, e);
-        }
-        return new PingResult(success, Duration.between(execStartTime, Instant.now()));
-    }
-
     /**
      * Return the working method for the native system ping. If no native ping
      * works JavaPing is returned.
@@ -334,7 +353,7 @@ public class NetworkUtils {
         // Exception: return code is also 0 in Windows for all requests on the local subnet.
         // see https://superuser.com/questions/403905/ping-from-windows-7-get-no-reply-but-sets-errorlevel-to-0
 
-        int result = proc.waitFor();
+        int result = waitFor(proc);
         if (result != 0) {
             return new PingResult(false, Duration.between(execStartTime, Instant.now()));
         }
@@ -414,7 +433,20 @@ public class NetworkUtils {
 
         // The return code is 0 for a successful ping. 1 if device didn't respond and 2 if there is another error like
         // network interface not ready.
-        return new PingResult(proc.waitFor() == 0, Duration.between(execStartTime, Instant.now()));
+        return new PingResult(waitFor(proc) == 0, Duration.between(execStartTime, Instant.now()));
+    }
+
+    /**
+     * Waits for the given process to end. If the waiting thread is interrupted, e.g. because the check has timed out,
+     * the process is destroyed, so that it does not keep running in the background.
+     */
+    private int waitFor(Process proc) throws InterruptedException {
+        try {
+            return proc.waitFor();
+        } catch (InterruptedException e) {
+            proc.destroyForcibly();
+            throw e;
+        }
     }
 
     /**
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.utils.PingResult;
+
+/**
+ * Tests cases for {@link PresenceDetectionEngine}, running the checks of a simulated subnet.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceDetectionEngineTest {
+    private static final int HOSTS = 254;
+    private static final int MAX_CONCURRENT_CHECKS = 8;
+    private static final int MAX_ARP_CHECKS_PER_INTERFACE = 2;
+    private static final int MAX_QUEUED_CHECKS = 1024;
+
+    private final PresenceDetectionEngine engine = new PresenceDetectionEngine(MAX_CONCURRENT_CHECKS,
+            MAX_ARP_CHECKS_PER_INTERFACE, MAX_QUEUED_CHECKS);
+
+    @AfterEach
+    public void tearDown() {
+        engine.dispose();
+    }
+
+    @Test
+    public void subnetChecksAreLimited() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger runningArp = new AtomicInteger();
+        AtomicInteger maxRunningArp = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int host = 1; host <= HOSTS; host++) {
+            // simulate a TCP connect, a ping and an ARP ping per host
+            for (int check = 0; check < 2; check++) {
+                futures.add(CompletableFuture.runAsync(() -> probe(running, maxRunning, 2), engine.getExecutor()));
+            }
+            futures.add(CompletableFuture.runAsync(() -> {
+                maxRunningArp.accumulateAndGet(runningArp.incrementAndGet(), Math::max);
+                probe(running, maxRunning, 2);
+                runningArp.decrementAndGet();
+            }, engine.getArpExecutor("eth0")));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(maxRunning.get() <= MAX_CONCURRENT_CHECKS, "concurrent checks: " + maxRunning);
+        assertTrue(maxRunningArp.get() <= MAX_ARP_CHECKS_PER_INTERFACE, "concurrent ARP checks: " + maxRunningArp);
+        // 762 checks of 2 ms on 8 threads would take about 190 ms, allow for slow build machines
+        assertTrue(elapsedMs < 10000, "elapsed: " + elapsedMs);
+    }
+
+    @Test
+    public void arpChecksPerInterfaceAreIndependent() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int host = 1; host <= 8; host++) {
+            for (String interfaceName : List.of("eth0", "eth1", "wlan0")) {
+                futures.add(CompletableFuture.runAsync(() -> probe(running, maxRunning, 20),
+                        engine.getArpExecutor(interfaceName)));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // a busy interface does not hold back the others, but each is limited on its own
+        assertTrue(maxRunning.get() > MAX_ARP_CHECKS_PER_INTERFACE, "concurrent ARP checks: " + maxRunning);
+        assertTrue(maxRunning.get() <= 3 * MAX_ARP_CHECKS_PER_INTERFACE, "concurrent ARP checks: " + maxRunning);
+    }
+
+    @Test
+    public void waitingChecksAreLimited() throws Exception {
+        PresenceDetectionEngine engine = new PresenceDetectionEngine(1, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        try {
+            Runnable check = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                completed.incrementAndGet();
+            };
+            // one check running, two waiting
+            for (int i = 0; i < 3; i++) {
+                engine.getExecutor().execute(check);
+            }
+            assertThrows(RejectedExecutionException.class, () -> engine.getExecutor().execute(check));
+
+            // ARP checks held back by the full queue are passed on once there is room again
+            engine.getArpExecutor("eth0").execute(check);
+            engine.getArpExecutor("eth0").execute(check);
+            assertThrows(RejectedExecutionException.class, () -> engine.getArpExecutor("eth0").execute(check));
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (completed.get() < 5 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(5, completed.get());
+        } finally {
+            engine.dispose();
+        }
+    }
+
+    @Test
+    public void servicePingToOpenPort() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            PingResult result = engine.servicePing(server.getInetAddress().getHostAddress(), server.getLocalPort(),
+                    Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void servicePingToClosedPort() throws Exception {
+        int port;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+
+        PingResult result = engine.servicePing(InetAddress.getLoopbackAddress().getHostAddress(), port,
+                Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void servicePingAfterDisposeFails() {
+        engine.dispose();
+
+        CompletableFuture<PingResult> result = engine.servicePing(InetAddress.getLoopbackAddress().getHostAddress(),
+                9, Duration.ofSeconds(2));
+
+        assertTrue(result.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    private static void probe(AtomicInteger running, AtomicInteger maxRunning, long durationMs) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(durationMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+}
@@ -21,8 +21,14 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -52,8 +58,8 @@ public class PresenceDetectionTest {
     private @NonNullByDefault({}) PresenceDetection subject;
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
-    private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
+    private @Mock @NonNullByDefault({}) Executor detectionExecutor;
+    private @Mock @NonNullByDefault({}) PresenceDetectionEngine engine;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
@@ -65,7 +71,10 @@ public class PresenceDetectionTest {
         doReturn(ArpPingUtilEnum.IPUTILS_ARPING).when(networkUtils).determineNativeArpPingMethod(anyString());
         doReturn(IpPingMethodEnum.WINDOWS_PING).when(networkUtils).determinePingMethod();
 
-        subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
+        when(engine.getExecutor()).thenReturn(detectionExecutor);
+        when(engine.getArpExecutor(anyString())).thenReturn(detectionExecutor);
+
+        subject = spy(new PresenceDetection(listener, engine, scheduledExecutorService, Duration.ofSeconds(2)));
         subject.networkUtils = networkUtils;
 
         // Set a useful configuration. The default presenceDetection is a no-op.
@@ -80,33 +89,29 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // Depending on the amount of test methods an according amount of checks is submitted to the engine.
+    // We will check if they are submitted and complete the detection.
     @Test
-    public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
-
+    public void checkCountTest() {
         doNothing().when(subject).performArpPing(any(), any());
         doNothing().when(subject).performJavaPing(any());
         doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
-
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(any(), anyInt());
 
         subject.getValue(callback -> {
         });
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Check count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
+        verify(engine).getArpExecutor("TESTinterface");
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        // Perform the checks, the last one completes the presence detection
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(detectionExecutor, times(3)).execute(capture.capture());
+        capture.getAllValues().forEach(Runnable::run);
 
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+        verify(listener, times(1)).finalDetectionResult(any());
     }
 
     @Test
@@ -115,27 +120,20 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        when(engine.servicePing(anyString(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(pingResult));
 
         subject.performPresenceDetection();
 
         assertThat(subject.detectionChecks, is(3));
 
-        // Perform the different presence detection threads now
+        // Perform the different presence detection checks now
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        verify(detectionExecutor, times(3)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
-
         assertThat(subject.detectionChecks, is(0));
 
         verify(subject, times(0)).performJavaPing(any());
@@ -156,32 +154,24 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        when(engine.servicePing(anyString(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(pingResult));
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
+        // Perform the different presence detection checks now
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        verify(detectionExecutor, times(3)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
-
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
         verify(callback, times(1)).accept(any());
@@ -195,4 +185,46 @@ public class PresenceDetectionTest {
         subject.getValue(callback);
         verify(callback, times(2)).accept(any());
     }
+
+    @Test
+    public void rejectedChecksCompleteDetection() throws Exception {
+        doThrow(new RejectedExecutionException()).when(detectionExecutor).execute(any());
+
+        CompletableFuture<PresenceDetectionValue> value = subject.performPresenceDetection();
+
+        assertFalse(value.get(1, TimeUnit.SECONDS).isReachable());
+        verify(subject, never()).performServicePing(any(), anyInt());
+    }
+
+    @Test
+    public void supersededCheckIsInterrupted() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            when(engine.getExecutor()).thenReturn(executor);
+            when(engine.getArpExecutor(anyString())).thenReturn(executor);
+            doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(any(), anyInt());
+            doNothing().when(subject).performSystemPing(any());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }).doNothing().when(subject).performArpPing(any(), any());
+
+            subject.performPresenceDetection();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<PresenceDetectionValue> value = subject.performPresenceDetection();
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            value.get(5, TimeUnit.SECONDS);
+            verify(listener, times(1)).finalDetectionResult(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
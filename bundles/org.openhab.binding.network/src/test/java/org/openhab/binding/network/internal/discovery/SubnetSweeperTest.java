@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.discovery.SubnetSweeper.SweepListener;
+
+/**
+ * Tests cases for {@link SubnetSweeper}, sweeping a network of loopback addresses.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetSweeperTest {
+    private static final String SERVICE_HOST = "127.0.0.1";
+
+    private final List<ServerSocket> servers = new ArrayList<>();
+    private final List<String> probedHosts = new CopyOnWriteArrayList<>();
+    private final List<String> foundServices = new CopyOnWriteArrayList<>();
+    private final SweepListener listener = new SweepListener() {
+        @Override
+        public void probeHost(String ip) {
+            probedHosts.add(ip);
+        }
+
+        @Override
+        public void serviceFound(String ip, int port) {
+            foundServices.add(ip + ":" + port);
+        }
+    };
+
+    private int openPort1;
+    private int openPort2;
+    private int closedPort;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        openPort1 = openServer();
+        openPort2 = openServer();
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getByName(SERVICE_HOST))) {
+            closedPort = socket.getLocalPort();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        for (ServerSocket server : servers) {
+            server.close();
+        }
+    }
+
+    private int openServer() throws IOException {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(SERVICE_HOST));
+        servers.add(server);
+        return server.getLocalPort();
+    }
+
+    private static List<String> loopbackNetwork(int hosts) {
+        List<String> ips = new ArrayList<>();
+        for (int i = 1; i <= hosts; i++) {
+            ips.add("127.0.0." + i);
+        }
+        return ips;
+    }
+
+    @Test
+    public void openServicesAreFound() throws IOException {
+        List<String> network = loopbackNetwork(16);
+        SubnetSweeper sweeper = new SubnetSweeper(1000, Duration.ofMillis(500));
+
+        sweeper.sweep(network, Set.of(openPort1, openPort2, closedPort), listener);
+
+        assertEquals(network, probedHosts);
+        assertEquals(2, foundServices.size());
+        assertTrue(foundServices.contains(SERVICE_HOST + ":" + openPort1));
+        assertTrue(foundServices.contains(SERVICE_HOST + ":" + openPort2));
+    }
+
+    @Test
+    public void packetBudgetIsRespected() throws IOException {
+        // 10 host probes and 20 connection attempts at 50 packets per second
+        List<String> network = loopbackNetwork(10);
+        SubnetSweeper sweeper = new SubnetSweeper(50, Duration.ofMillis(500));
+
+        long start = System.nanoTime();
+        sweeper.sweep(network, Set.of(openPort1, closedPort), listener);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The first packet is available right away, the following 29 packets take 20ms each
+        assertTrue(elapsedMillis >= 29 * 20 - 50, "Sweep took only " + elapsedMillis + "ms");
+        assertEquals(List.of(SERVICE_HOST + ":" + openPort1), foundServices);
+    }
+
+    @Test
+    public void sweepCanBeCancelled() throws Exception {
+        SubnetSweeper sweeper = new SubnetSweeper(5, Duration.ofMillis(500));
+        CompletableFuture<@Nullable Void> sweep = CompletableFuture.runAsync(() -> {
+            try {
+                sweeper.sweep(loopbackNetwork(200), Set.of(openPort1), listener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(300);
+        sweeper.cancel();
+        sweep.get(2, TimeUnit.SECONDS);
+
+        assertTrue(probedHosts.size() < 10, "Probed " + probedHosts.size() + " hosts");
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the ARP cache harvesting of {@link NetworkUtils}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkUtilsTest {
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void completeArpCacheEntriesAreHarvested() throws IOException {
+        Path arpCache = tempDir.resolve("arp");
+        Files.write(arpCache,
+                List.of("IP address       HW type     Flags       HW address            Mask     Device",
+                        "192.168.0.1      0x1         0x2         00:11:22:33:44:55     *        eth0",
+                        "192.168.0.17     0x1         0x0         00:00:00:00:00:00     *        eth0",
+                        "192.168.0.23     0x1         0x6         66:77:88:99:aa:bb     *        eth0"));
+
+        Set<String> ips = new NetworkUtils().getArpCacheIPs(arpCache);
+
+        assertEquals(Set.of("192.168.0.1", "192.168.0.23"), ips);
+    }
+
+    @Test
+    public void missingArpCacheIsEmpty() {
+        assertTrue(new NetworkUtils().getArpCacheIPs(tempDir.resolve("missing")).isEmpty());
+    }
+}
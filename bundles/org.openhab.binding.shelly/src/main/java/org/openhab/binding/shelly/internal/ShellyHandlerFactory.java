@@ -174,12 +174,16 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
     public void onEvent(String ipAddress, String deviceName, String componentIndex, String eventType,
             Map<String, String> parameters) {
         logger.trace("{}: Dispatch event to thing handler", deviceName);
-        for (Map.Entry<String, ShellyThingInterface> listener : thingTable.getTable().entrySet()) {
-            ShellyBaseHandler thingHandler = (ShellyBaseHandler) listener.getValue();
-            if (thingHandler.onEvent(ipAddress, deviceName, componentIndex, eventType, parameters)) {
-                // event processed
-                return;
-            }
+        ShellyThingInterface thing = thingTable.findThing(deviceName);
+        if (thing == null) {
+            thing = thingTable.findThing(ipAddress);
+        }
+        if (thing instanceof ShellyBaseHandler thingHandler) {
+            // process event asynchronously, so a busy thing handler doesn't block the servlet
+            thingHandler.dispatchEvent(
+                    () -> thingHandler.onEvent(ipAddress, deviceName, componentIndex, eventType, parameters));
+        } else {
+            logger.debug("{}: No thing found for event from {}", deviceName, ipAddress);
         }
     }
 
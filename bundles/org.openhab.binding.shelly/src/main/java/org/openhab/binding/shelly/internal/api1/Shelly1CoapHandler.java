@@ -127,7 +127,7 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
                 String ps = substringAfter(profile.coiotEndpoint, ":");
                 coiotPort = Integer.parseInt(ps);
             }
-            coapServer.start(config.localIp, coiotPort, this);
+            coapServer.start(config.localIp, coiotPort, config.deviceIp, this);
             statusClient = new CoapClient(completeUrl(config.deviceIp, coiotPort, COLOIT_URI_DEVSTATUS))
                     .setTimeout((long) SHELLY_API_TIMEOUT_MS).useNONs().setEndpoint(coapServer.getEndpoint());
             @Nullable
@@ -199,6 +199,29 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
             return;
         }
 
+        // process the message in the device's event queue, so the CoIoT listener is not blocked
+        final Response message = response;
+        String uri = "";
+        for (Option opt : options) {
+            if (opt.getNumber() == OptionNumberRegistry.URI_PATH) {
+                uri = COLOIT_URI_BASE + opt.getStringValue();
+            }
+        }
+        if (uri.equalsIgnoreCase(COLOIT_URI_DEVSTATUS)) {
+            // a newer status supersedes a pending one
+            thingHandler.dispatchStatusUpdate(COLOIT_URI_DEVSTATUS, () -> processMessage(message, options));
+        } else {
+            thingHandler.dispatchEvent(() -> processMessage(message, options));
+        }
+    }
+
+    /**
+     * Process a CoIoT message sent by the device
+     *
+     * @param response The Response packet
+     * @param options The CoAP options of the packet
+     */
+    private void processMessage(Response response, List<Option> options) {
         String payload = "";
         String devId = "";
         String uri = "";
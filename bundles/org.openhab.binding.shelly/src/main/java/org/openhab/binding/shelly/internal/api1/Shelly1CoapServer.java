@@ -12,11 +12,13 @@
  */
 package org.openhab.binding.shelly.internal.api1;
 
-import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.COIOT_PORT;
+import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.*;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -25,6 +27,7 @@ import org.eclipse.californium.core.CoapServer;
 import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.Code;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Option;
 import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.CoapEndpoint;
@@ -50,6 +53,7 @@ public class Shelly1CoapServer {
     private @Nullable UdpMulticastConnector statusConnector;
     private CoapServer server = new CoapServer(NetworkConfig.getStandard(), COIOT_PORT);
     private final Set<Shelly1CoapListener> coapListeners = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Shelly1CoapListener>> listenersByIp = new ConcurrentHashMap<>();
 
     protected class ShellyStatusListener extends CoapResource {
         private Shelly1CoapServer listener;
@@ -77,7 +81,7 @@ public class Shelly1CoapServer {
         }
     }
 
-    public synchronized void start(String localIp, int port, Shelly1CoapListener listener)
+    public synchronized void start(String localIp, int port, String deviceIp, Shelly1CoapListener listener)
             throws UnknownHostException, SocketException {
         if (!started) {
             logger.debug("Initializing CoIoT listener (local IP={}:{})", localIp, port);
@@ -96,13 +100,30 @@ public class Shelly1CoapServer {
             started = true;
         }
 
-        if (!coapListeners.contains(listener)) {
-            coapListeners.add(listener);
-        }
+        coapListeners.add(listener);
+        listenersByIp.computeIfAbsent(deviceIp, ip -> ConcurrentHashMap.newKeySet()).add(listener);
     }
 
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        InetSocketAddress peer = response.getSourceContext().getPeerAddress();
+        InetAddress peerAddress = peer.getAddress();
+        Set<Shelly1CoapListener> listeners = peerAddress != null ? listenersByIp.get(peerAddress.getHostAddress())
+                : null;
+        if (listeners != null && !listeners.isEmpty()) {
+            listeners.forEach(listener -> listener.processResponse(response));
+        } else if (hasGlobalDeviceId(response)) {
+            // Unknown IP address (e.g. changed by DHCP), listeners identify their device by the Global Device ID
+            coapListeners.forEach(listener -> listener.processResponse(response));
+        }
+    }
+
+    private static boolean hasGlobalDeviceId(Response response) {
+        for (Option opt : response.getOptions().asSortedList()) {
+            if (opt.getNumber() == COIOT_OPTION_GLOBAL_DEVID) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static Response createResponse(Request request) {
@@ -123,8 +144,10 @@ public class Shelly1CoapServer {
     /**
      * Cancel pending requests and shutdown the client
      */
-    public void stop(Shelly1CoapListener listener) {
+    public synchronized void stop(Shelly1CoapListener listener) {
         coapListeners.remove(listener);
+        listenersByIp.values().forEach(listeners -> listeners.remove(listener));
+        listenersByIp.values().removeIf(Set::isEmpty);
         if (coapListeners.isEmpty()) {
             stop();
         }
@@ -136,6 +159,7 @@ public class Shelly1CoapServer {
             server.stop();
             statusEndpoint.stop();
             coapListeners.clear();
+            listenersByIp.clear();
             started = false;
             logger.debug("CoAP Listener stopped");
         }
@@ -547,7 +547,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onNotifyStatus(Shelly2RpcNotifyStatus message) {
-        logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        }
         try {
             ShellyThingInterface t = thing;
             if (t == null) {
@@ -621,7 +623,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     @Override
     public void onNotifyEvent(Shelly2RpcNotifyEvent message) {
         try {
-            logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            if (logger.isDebugEnabled()) {
+                logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            }
             ShellyDeviceProfile profile = getProfile();
 
             getThing().incProtMessages();
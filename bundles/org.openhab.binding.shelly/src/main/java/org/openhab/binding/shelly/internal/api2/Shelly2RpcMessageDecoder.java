@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api2;
+
+import static org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.shelly.internal.api.ShellyApiException;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2NotifyEventData;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage.Shelly2RpcMessageError;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus.Shelly2NotifyStatus;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The {@link Shelly2RpcMessageDecoder} decodes the messages received on the Gen2 RPC WebSocket in a single pass.
+ * The envelope (src, method) is read from the JSON stream and the params/result object is bound directly into the
+ * DTO matching the method. Only if the device sends params before the method, params are buffered as JSON tree and
+ * bound once the method is known.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Shelly2RpcMessageDecoder {
+
+    /**
+     * A decoded RPC message. Depending on the method either {@link #status} or {@link #events} is set.
+     */
+    public static class Shelly2RpcMessage {
+        public String src = "";
+        public String method = "";
+        public @Nullable Shelly2RpcNotifyStatus status;
+        public @Nullable Shelly2RpcNotifyEvent events;
+    }
+
+    private final Gson gson;
+    private final TypeAdapter<Shelly2NotifyStatus> statusAdapter;
+    private final TypeAdapter<Shelly2NotifyEventData> eventAdapter;
+
+    public Shelly2RpcMessageDecoder(Gson gson) {
+        this.gson = gson;
+        this.statusAdapter = gson.getAdapter(Shelly2NotifyStatus.class);
+        this.eventAdapter = gson.getAdapter(Shelly2NotifyEventData.class);
+    }
+
+    /**
+     * Decode an inbound RPC message. Messages without method are status responses and reported as NotifyFullStatus.
+     *
+     * @param json Message as received
+     * @return Decoded message, status and events are only set for notifications
+     * @throws ShellyApiException if the message is not a valid RPC message
+     */
+    public Shelly2RpcMessage decode(String json) throws ShellyApiException {
+        Integer id = null;
+        String src = null;
+        String dst = null;
+        String method = null;
+        Double ts = null;
+        Object params = null;
+        Object result = null;
+        JsonElement error = null;
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.setLenient(true); // same as Gson.fromJson()
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        if (reader.peek() == JsonToken.NUMBER) {
+                            id = reader.nextInt();
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    case "src":
+                        src = readString(reader);
+                        break;
+                    case "dst":
+                        dst = readString(reader);
+                        break;
+                    case "method":
+                        method = readString(reader);
+                        break;
+                    case "ts":
+                        if (reader.peek() == JsonToken.NUMBER) {
+                            ts = reader.nextDouble();
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    case "params":
+                        params = readData(reader, method);
+                        break;
+                    case "result":
+                        result = readData(reader, method);
+                        break;
+                    case "error":
+                        error = JsonParser.parseReader(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            Shelly2RpcMessage message = new Shelly2RpcMessage();
+            message.src = src != null ? src : "";
+            message.method = method != null ? method : SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
+            switch (message.method) {
+                case SHELLYRPC_METHOD_NOTIFYSTATUS:
+                case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
+                    Shelly2RpcNotifyStatus status = new Shelly2RpcNotifyStatus();
+                    status.id = id;
+                    status.src = src;
+                    status.dst = dst;
+                    status.method = method;
+                    status.params = bind(params, Shelly2NotifyStatus.class);
+                    status.result = bind(result, Shelly2NotifyStatus.class);
+                    status.error = bind(error, Shelly2RpcMessageError.class);
+                    message.status = status;
+                    break;
+                case SHELLYRPC_METHOD_NOTIFYEVENT:
+                    Shelly2RpcNotifyEvent events = new Shelly2RpcNotifyEvent();
+                    events.src = src;
+                    events.ts = ts;
+                    events.params = bind(params, Shelly2NotifyEventData.class);
+                    message.events = events;
+                    break;
+            }
+            return message;
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw new ShellyApiException("Unable to decode Rpc message (" + e.getMessage() + "): " + json, e);
+        }
+    }
+
+    /**
+     * Read params or result. If the method is already known the value is bound to the matching DTO, otherwise it is
+     * kept as JSON tree.
+     */
+    private @Nullable Object readData(JsonReader reader, @Nullable String method) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (method == null) {
+            return JsonParser.parseReader(reader);
+        }
+        switch (method) {
+            case SHELLYRPC_METHOD_NOTIFYSTATUS:
+            case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
+                return statusAdapter.read(reader);
+            case SHELLYRPC_METHOD_NOTIFYEVENT:
+                return eventAdapter.read(reader);
+            default:
+                // not used for other methods, the message is passed on as received
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private <T> @Nullable T bind(@Nullable Object data, Class<T> classOfT) throws JsonParseException {
+        if (data instanceof JsonElement element) {
+            return gson.fromJson(element, classOfT);
+        }
+        return classOfT.isInstance(data) ? classOfT.cast(data) : null;
+    }
+
+    private static @Nullable String readString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
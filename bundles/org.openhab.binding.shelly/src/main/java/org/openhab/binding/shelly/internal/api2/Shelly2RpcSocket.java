@@ -35,9 +35,9 @@ import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.shelly.internal.api.ShellyApiException;
 import org.openhab.binding.shelly.internal.api1.Shelly1HttpApi;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2NotifyEvent;
-import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
+import org.openhab.binding.shelly.internal.api2.Shelly2RpcMessageDecoder.Shelly2RpcMessage;
 import org.openhab.binding.shelly.internal.handler.ShellyBluSensorHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyThingInterface;
 import org.openhab.binding.shelly.internal.handler.ShellyThingTable;
@@ -58,6 +58,7 @@ import com.google.gson.Gson;
 public class Shelly2RpcSocket {
     private final Logger logger = LoggerFactory.getLogger(Shelly2RpcSocket.class);
     private final Gson gson = new Gson();
+    private final Shelly2RpcMessageDecoder decoder = new Shelly2RpcMessageDecoder(gson);
 
     private String thingName = "";
     private String deviceIp = "";
@@ -237,41 +238,37 @@ public class Shelly2RpcSocket {
     public void onText(Session session, String receivedMessage) {
         try {
             Shelly2RpctInterface handler = websocketHandler;
-            Shelly2RpcBaseMessage message = fromJson(gson, receivedMessage, Shelly2RpcBaseMessage.class);
+            // decode envelope and notification data in a single pass
+            Shelly2RpcMessage message = decoder.decode(receivedMessage);
             logger.trace("{}: Inbound Rpc message: {}", thingName, receivedMessage);
             if (handler != null) {
                 if (thingName.isEmpty()) {
-                    thingName = getString(message.src);
+                    thingName = message.src;
                 }
-                if (message.method == null) {
-                    message.method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
-                }
-                switch (getString(message.method)) {
+                Shelly2RpcNotifyStatus status = message.status;
+                Shelly2RpcNotifyEvent events = message.events;
+                switch (message.method) {
                     case SHELLYRPC_METHOD_NOTIFYSTATUS:
                     case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
-                        Shelly2RpcNotifyStatus status = fromJson(gson, receivedMessage, Shelly2RpcNotifyStatus.class);
+                        if (status == null) {
+                            throw new ShellyApiException("Missing status data");
+                        }
                         if (status.params == null) {
                             status.params = status.result;
                         }
                         handler.onNotifyStatus(status);
                         return;
                     case SHELLYRPC_METHOD_NOTIFYEVENT:
-                        Shelly2RpcNotifyEvent events = fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class);
-                        events.src = message.src;
-                        if (events.params == null || events.params.events == null) {
+                        if (events == null || events.params == null || events.params.events == null) {
                             logger.debug("{}: Malformed event data: {}", thingName, receivedMessage);
                         } else {
                             for (Shelly2NotifyEvent e : events.params.events) {
                                 if (getString(e.event).startsWith(SHELLY2_EVENT_BLUPREFIX)) {
                                     String address = getString(e.data.addr).replace(":", "");
-                                    if (thingTable != null && thingTable.findThing(address) != null) {
-                                        if (thingTable != null) { // known device
-                                            ShellyThingInterface thing = thingTable.getThing(address);
-                                            Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
-                                            handler = api.getRpcHandler();
-                                            handler.onNotifyEvent(
-                                                    fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
-                                        }
+                                    ShellyThingInterface thing = thingTable != null ? thingTable.findThing(address)
+                                            : null;
+                                    if (thing != null) { // known device
+                                        dispatchBluEvent(thing, events);
                                     } else { // new device
                                         if (e.event.equals(SHELLY2_EVENT_BLUSCAN)) {
                                             ShellyBluSensorHandler.addBluThing(message.src, e, thingTable);
@@ -281,7 +278,7 @@ public class Shelly2RpcSocket {
                                         }
                                     }
                                 } else {
-                                    handler.onNotifyEvent(fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
+                                    handler.onNotifyEvent(events);
                                 }
                             }
                         }
@@ -291,7 +288,7 @@ public class Shelly2RpcSocket {
                 }
             } else {
                 logger.debug("{}: No Rpc listener registered for device {}, skip message: {}", thingName,
-                        getString(message.src), receivedMessage);
+                        message.src, receivedMessage);
             }
         } catch (ShellyApiException | IllegalArgumentException e) {
             logger.debug("{}: Unable to process Rpc message ({}): {}", thingName, e.getMessage(), receivedMessage);
@@ -308,6 +305,19 @@ public class Shelly2RpcSocket {
         return inbound;
     }
 
+    /**
+     * Pass an event received by the gateway to the BLU device. The event is processed in the event queue of the BLU
+     * device, so the gateway's socket is not blocked.
+     *
+     * @param thing BLU thing
+     * @param events Events received by the gateway
+     */
+    private void dispatchBluEvent(ShellyThingInterface thing, Shelly2RpcNotifyEvent events) {
+        Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
+        Shelly2RpctInterface bluHandler = api.getRpcHandler();
+        thing.dispatchEvent(() -> bluHandler.onNotifyEvent(events));
+    }
+
     /**
      * Web Socket closed, notify thing handler
      *
@@ -191,7 +191,9 @@ public class ShellyBluApi extends Shelly2ApiRpc {
 
     @Override
     public void onNotifyEvent(Shelly2RpcNotifyEvent message) {
-        logger.trace("{}: ShellyEvent received: {}", thingName, gson.toJson(message));
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}: ShellyEvent received: {}", thingName, gson.toJson(message));
+        }
 
         boolean updated = false;
         ShellyBluSensorHandler t = (ShellyBluSensorHandler) thing;
@@ -213,7 +215,9 @@ public class ShellyBluApi extends Shelly2ApiRpc {
             }
 
             for (Shelly2NotifyEvent e : message.params.events) {
-                logger.debug("{}: BluEvent received: {}", thingName, gson.toJson(message));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{}: BluEvent received: {}", thingName, gson.toJson(message));
+                }
                 String event = getString(e.event);
                 if (event.startsWith(SHELLY2_EVENT_BLUPREFIX)) {
                     logger.debug("{}: BLU event {} received from address {}, pid={}", thingName, event,
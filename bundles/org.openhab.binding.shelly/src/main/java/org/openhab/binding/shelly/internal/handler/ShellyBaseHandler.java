@@ -21,8 +21,10 @@ import static org.openhab.core.thing.Thing.*;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,7 @@ import org.openhab.binding.shelly.internal.provider.ShellyChannelDefinitions;
 import org.openhab.binding.shelly.internal.provider.ShellyTranslationProvider;
 import org.openhab.binding.shelly.internal.util.ShellyChannelCache;
 import org.openhab.binding.shelly.internal.util.ShellyVersionDTO;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
@@ -127,6 +130,8 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     private boolean refreshSettings = false;
     private @Nullable ScheduledFuture<?> statusJob;
     private @Nullable ScheduledFuture<?> initJob;
+    private final ShellyEventQueue eventQueue = new ShellyEventQueue(
+            ThreadPoolManager.getPool(ShellyEventQueue.THREAD_POOL_NAME), this::getThingName);
 
     /**
      * Constructor
@@ -168,6 +173,34 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
     }
 
+    @Override
+    public Set<String> getRepresentations() {
+        Set<String> keys = new HashSet<>();
+        keys.add(getUID());
+        keys.add(config.deviceAddress);
+        keys.add(config.serviceName);
+        keys.add(thingName);
+        String mac = getString(profile.device.mac);
+        if (!mac.isEmpty()) {
+            keys.add(mac.replace(":", ""));
+        }
+        return keys;
+    }
+
+    @Override
+    public void dispatchEvent(Runnable event) {
+        if (!stopping) {
+            eventQueue.execute(event);
+        }
+    }
+
+    @Override
+    public void dispatchStatusUpdate(String kind, Runnable update) {
+        if (!stopping) {
+            eventQueue.executeStatusUpdate(kind, update);
+        }
+    }
+
     @Override
     public boolean checkRepresentation(String key) {
         return key.equalsIgnoreCase(getUID()) || key.equalsIgnoreCase(config.deviceAddress)
@@ -372,6 +405,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         postEvent(ALARM_TYPE_NONE, false);
 
         profile = tmpPrf;
+        thingTable.updateIndex(this);
         showThingConfig(profile);
 
         logger.debug("{}: Thing successfully initialized.", thingName);
@@ -1016,6 +1050,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
 
         config.serviceName = getString(properties.get(PROPERTY_SERVICE_NAME));
+        thingTable.updateIndex(this);
         config.localIp = bindingConfig.localIP;
         config.localPort = String.valueOf(bindingConfig.httpPort);
         if (config.localIp.startsWith("169.254")) {
@@ -1543,6 +1578,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     public void dispose() {
         logger.debug("{}: Stopping Thing", thingName);
         stopping = true;
+        eventQueue.clear();
         stop();
         super.dispose();
     }
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ShellyEventQueue} processes the events of a single device in the order they were received. The events
+ * of all devices are run on a shared thread pool, so a slow thing handler delays only the events of its own device
+ * and never blocks the CoIoT listener or the servlet thread receiving the event.
+ * <p>
+ * Status updates are coalesced: while a status update of the same kind is pending, it is replaced by the newer one,
+ * as the newer status supersedes the old one. Discrete events (e.g. button or input events) are never coalesced.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class ShellyEventQueue implements Executor {
+    public static final String THREAD_POOL_NAME = "shelly-events";
+
+    // Limits memory if a device keeps sending events while its handler is stuck
+    private static final int MAX_PENDING_EVENTS = 256;
+    // Events processed in a row before the pool thread is handed over to other devices
+    private static final int MAX_EVENTS_PER_RUN = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(ShellyEventQueue.class);
+    private final Executor executor;
+    private final Supplier<String> thingName;
+    private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private final Map<String, Runnable> pendingStatusUpdates = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean discarding = new AtomicBoolean();
+
+    ShellyEventQueue(Executor executor, Supplier<String> thingName) {
+        this.executor = executor;
+        this.thingName = thingName;
+    }
+
+    /**
+     * Queue an event for processing.
+     *
+     * @param event Event processing, will run after all previously queued events of this device
+     */
+    @Override
+    public void execute(Runnable event) {
+        if (pending.get() >= MAX_PENDING_EVENTS) {
+            if (discarding.compareAndSet(false, true)) {
+                logger.warn("{}: Too many pending events, discarding events until the queue drains", thingName.get());
+            } else {
+                logger.debug("{}: Too many pending events, discard event", thingName.get());
+            }
+            return;
+        }
+        enqueue(event);
+    }
+
+    /**
+     * Queue a status update for processing. If a status update of the same kind is still pending, it is replaced by
+     * this one and keeps its position in the queue.
+     *
+     * @param kind Kind of the status update, e.g. the CoIoT resource
+     * @param update Status update processing
+     */
+    public void executeStatusUpdate(String kind, Runnable update) {
+        if (pendingStatusUpdates.put(kind, update) != null) {
+            logger.trace("{}: Status update {} is pending, replaced by the newer one", thingName.get(), kind);
+            return;
+        }
+        enqueue(() -> {
+            Runnable latest = pendingStatusUpdates.remove(kind);
+            if (latest != null) {
+                latest.run();
+            }
+        });
+    }
+
+    /**
+     * Discard all pending events, e.g. when the thing handler is disposed. An event which is being processed
+     * completes.
+     */
+    public void clear() {
+        events.clear();
+        pendingStatusUpdates.clear();
+    }
+
+    private void enqueue(Runnable event) {
+        events.add(event);
+        if (pending.getAndIncrement() == 0) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            logger.debug("{}: Event processing rejected, process events in caller thread", thingName.get());
+            run();
+        }
+    }
+
+    private void run() {
+        for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+            Runnable event = events.poll();
+            if (event != null) {
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    logger.debug("{}: Unable to process event", thingName.get(), e);
+                }
+            }
+            if (pending.decrementAndGet() == 0) {
+                if (discarding.compareAndSet(true, false)) {
+                    logger.debug("{}: Event queue drained, accepting events again", thingName.get());
+                }
+                return;
+            }
+        }
+        // more events are pending, continue after events of other devices
+        schedule();
+    }
+}
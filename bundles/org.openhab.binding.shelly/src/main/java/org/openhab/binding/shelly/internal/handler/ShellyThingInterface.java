@@ -14,6 +14,7 @@ package org.openhab.binding.shelly.internal.handler;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -116,6 +117,29 @@ public interface ShellyThingInterface {
 
     boolean checkRepresentation(String key);
 
+    /**
+     * Get all keys identifying the device, e.g. thing UID, IP or MAC address, service name
+     *
+     * @return Set of keys, empty keys are ignored
+     */
+    Set<String> getRepresentations();
+
+    /**
+     * Process a device event asynchronously. Events of the same device are processed in the order of dispatching.
+     *
+     * @param event Event processing
+     */
+    void dispatchEvent(Runnable event);
+
+    /**
+     * Process a device status update asynchronously. A pending status update of the same kind is replaced, as the
+     * newer status supersedes it.
+     *
+     * @param kind Kind of the status update
+     * @param update Status update processing
+     */
+    void dispatchStatusUpdate(String kind, Runnable update);
+
     void incProtMessages();
 
     void incProtErrors();
@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.shelly.internal.handler;
 
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,7 +30,8 @@ import org.osgi.service.component.annotations.Deactivate;
 
 /***
  * The{@link ShellyThingTable} implements a simple table to allow dispatching incoming events to the proper thing
- * handler
+ * handler. Besides the thing UID things are indexed by their representations (IP address, MAC address, service
+ * name, device id), so looking up the receiver of an event doesn't need to check every thing.
  *
  * @author Markus Michels - Initial contribution
  */
@@ -35,27 +39,52 @@ import org.osgi.service.component.annotations.Deactivate;
 @Component(service = ShellyThingTable.class, configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class ShellyThingTable {
     private Map<String, ShellyThingInterface> thingTable = new ConcurrentHashMap<>();
+    private final Map<String, ShellyThingInterface> thingIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> indexKeys = new ConcurrentHashMap<>();
     private @Nullable ShellyBasicDiscoveryService discoveryService;
 
-    public void addThing(String key, ShellyThingInterface thing) {
-        if (thingTable.containsKey(key)) {
-            thingTable.remove(key);
-        }
+    public synchronized void addThing(String key, ShellyThingInterface thing) {
+        removeThing(key);
         thingTable.put(key, thing);
+        updateIndex(key, thing);
     }
 
-    public @Nullable ShellyThingInterface findThing(String key) {
-        ShellyThingInterface t = thingTable.get(key);
-        if (t != null) {
-            return t;
+    /**
+     * Refresh the representations of a thing in the index, must be called when they might have changed (e.g. after
+     * the thing config or device profile has been updated).
+     *
+     * @param thing Thing handler, which has been added before
+     */
+    public synchronized void updateIndex(ShellyThingInterface thing) {
+        String key = thing.getThing().getUID().getAsString();
+        if (thingTable.get(key) == thing) {
+            updateIndex(key, thing);
+        }
+    }
+
+    private void updateIndex(String key, ShellyThingInterface thing) {
+        Set<String> keys = new HashSet<>();
+        for (String representation : thing.getRepresentations()) {
+            if (!representation.isEmpty()) {
+                keys.add(representation.toLowerCase(Locale.ROOT));
+            }
         }
-        for (Map.Entry<String, ShellyThingInterface> entry : thingTable.entrySet()) {
-            t = entry.getValue();
-            if (t.checkRepresentation(key)) {
-                return t;
+        Set<String> oldKeys = indexKeys.put(key, keys);
+        if (oldKeys != null) {
+            for (String oldKey : oldKeys) {
+                if (!keys.contains(oldKey)) {
+                    thingIndex.remove(oldKey, thing);
+                }
             }
         }
-        return null;
+        for (String k : keys) {
+            thingIndex.put(k, thing);
+        }
+    }
+
+    public @Nullable ShellyThingInterface findThing(String key) {
+        ShellyThingInterface t = thingTable.get(key);
+        return t != null ? t : thingIndex.get(key.toLowerCase(Locale.ROOT));
     }
 
     public ShellyThingInterface getThing(String key) {
@@ -66,9 +95,13 @@ public class ShellyThingTable {
         return t;
     }
 
-    public void removeThing(String key) {
-        if (thingTable.containsKey(key)) {
-            thingTable.remove(key);
+    public synchronized void removeThing(String key) {
+        ShellyThingInterface thing = thingTable.remove(key);
+        Set<String> keys = indexKeys.remove(key);
+        if (thing != null && keys != null) {
+            for (String k : keys) {
+                thingIndex.remove(k, thing);
+            }
         }
     }
 
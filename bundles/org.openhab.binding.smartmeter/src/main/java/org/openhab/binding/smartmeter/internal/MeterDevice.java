@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.smartmeter.internal;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,6 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -72,6 +75,14 @@ public abstract class MeterDevice<T> {
      */
     IMeterReaderConnector<T> connector;
     private List<MeterValueListener> valueChangeListeners;
+    /**
+     * Minimum change of a numeric value before listeners are notified again, or null to notify every reading.
+     */
+    private @Nullable BigDecimal valueChangeDelta;
+    /**
+     * The values listeners were last notified of, used to suppress notifications of unchanged values.
+     */
+    private final Map<String, MeterValue<?>> notifiedValues = new ConcurrentHashMap<>();
 
     public MeterDevice(Supplier<SerialPortManager> serialPortManagerSupplier, String deviceId, String serialPort,
             byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay, ProtocolMode protocolMode) {
@@ -111,6 +122,17 @@ public abstract class MeterDevice<T> {
         return deviceId;
     }
 
+    /**
+     * Sets the minimum change of a numeric value before listeners are notified of the value again. Other values
+     * (and units or states) are notified whenever they differ from the last notified value.
+     *
+     * @param valueChangeDelta the minimum change, or null to notify listeners of every value read.
+     */
+    public void setValueChangeDelta(@Nullable BigDecimal valueChangeDelta) {
+        this.valueChangeDelta = valueChangeDelta;
+        notifiedValues.clear();
+    }
+
     /**
      * Returns the specified OBIS value if available.
      *
@@ -214,8 +236,12 @@ public abstract class MeterDevice<T> {
      * @param value The value to add.
      */
     protected <Q extends Quantity<Q>> void addObisCache(MeterValue<Q> value) {
-        logger.debug("Value changed: {}", value);
         this.valueCache.put(value.getObisCode(), value);
+        if (!isNotificationDue(value)) {
+            logger.trace("Value not changed: {}", value);
+            return;
+        }
+        logger.debug("Value changed: {}", value);
         this.valueChangeListeners.forEach((listener) -> {
             try {
                 listener.valueChanged(value);
@@ -225,6 +251,41 @@ public abstract class MeterDevice<T> {
         });
     }
 
+    /**
+     * Checks whether listeners have to be notified of the value, considering the configured value change delta.
+     *
+     * @param value The value read.
+     * @return true if listeners shall be notified.
+     */
+    private boolean isNotificationDue(MeterValue<?> value) {
+        final BigDecimal delta = valueChangeDelta;
+        if (delta == null) {
+            return true;
+        }
+        final MeterValue<?> notified = notifiedValues.put(value.getObisCode(), value);
+        if (notified == null) {
+            return true;
+        }
+        if (notified == value) {
+            return false;
+        }
+        if (!Objects.equals(notified.getUnit(), value.getUnit())
+                || !Objects.equals(notified.getStatus(), value.getStatus())) {
+            return true;
+        }
+        try {
+            final BigDecimal change = new BigDecimal(value.getValue()).subtract(new BigDecimal(notified.getValue()));
+            if (change.abs().compareTo(delta) > 0) {
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            return !notified.getValue().equals(value.getValue());
+        }
+        // keep the last notified value, so that small changes can add up
+        notifiedValues.put(value.getObisCode(), notified);
+        return false;
+    }
+
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -258,10 +319,13 @@ public abstract class MeterDevice<T> {
     }
 
     private <Q extends Quantity<Q>> void notifyValuesRemoved(MeterValue<Q> value) {
+        notifiedValues.remove(value.getObisCode());
         this.valueChangeListeners.forEach((listener) -> listener.valueRemoved(value));
     }
 
     private void notifyReadingError(Throwable e) {
+        // listeners have to be notified of all values after an error, even if they did not change
+        notifiedValues.clear();
         this.valueChangeListeners.forEach((listener) -> listener.errorOccurred(e));
     }
 
@@ -13,8 +13,6 @@
 package org.openhab.binding.smartmeter.internal;
 
 import java.util.Formatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,7 +31,6 @@ public class ObisCode {
 
     public static final String OBIS_PATTERN = "((?<A>[0-9]{1,3})-(?<B>[0-9]{1,3}):)?(?<C>[0-9]{1,3}).(?<D>[0-9]{1,3}).(?<E>[0-9]{1,3})(\\*(?<F>[0-9][0-9]{1,3}))?";
 
-    private static Pattern obisPattern = Pattern.compile(OBIS_PATTERN);
     @Nullable
     private Byte a, b, f;
     private Byte c, d, e;
@@ -55,25 +52,81 @@ public class ObisCode {
      * @throws IllegalArgumentException If the <code>obis</code> has not the right format.
      */
     public static ObisCode from(String obis) throws IllegalArgumentException {
-        try {
-            Matcher matcher = obisPattern.matcher(obis);
-            if (matcher.find()) {
-                String a = matcher.group("A");
-                String b = matcher.group("B");
-                String c = matcher.group("C");
-                String d = matcher.group("D");
-                String e = matcher.group("E");
-                String f = matcher.group("F");
-                return new ObisCode(a != null && !a.isEmpty() ? (byte) (0xFF & Integer.valueOf(a)) : null,
-                        b != null && !b.isEmpty() ? (byte) (0xFF & Integer.valueOf(b)) : null,
-                        (byte) (0xFF & Integer.valueOf(c)), (byte) (0xFF & Integer.valueOf(d)),
-                        (byte) (0xFF & Integer.valueOf(e)),
-                        f != null && !f.isEmpty() ? (byte) (0xFF & Integer.valueOf(f)) : null);
+        // Like a search for OBIS_PATTERN, the first position where an OBIS code can be read is used
+        for (int start = 0; start < obis.length(); start++) {
+            ObisCode obisCode = parse(obis, start);
+            if (obisCode != null) {
+                return obisCode;
             }
-            throw new IllegalArgumentException(obis + " is not correctly formated.");
-        } catch (Exception e) {
-            throw new IllegalArgumentException(obis + " is not correctly formated.", e);
         }
+        throw new IllegalArgumentException(obis + " is not correctly formated.");
+    }
+
+    /**
+     * Reads an OBIS code starting at the given position, without using a regular expression.
+     *
+     * @return The OBIS code or null if there is no OBIS code at this position.
+     */
+    private static @Nullable ObisCode parse(String obis, int start) {
+        int[] groups = new int[6];
+        int pos = start;
+        boolean hasMedium = false;
+
+        // Optional A-B: groups
+        int end = readGroup(obis, pos, 3);
+        if (end > pos && end < obis.length() && obis.charAt(end) == '-') {
+            int bStart = end + 1;
+            int bEnd = readGroup(obis, bStart, 3);
+            if (bEnd > bStart && bEnd < obis.length() && obis.charAt(bEnd) == ':') {
+                groups[0] = parseGroup(obis, pos, end);
+                groups[1] = parseGroup(obis, bStart, bEnd);
+                hasMedium = true;
+                pos = bEnd + 1;
+            }
+        }
+
+        // Required C.D.E groups, separated by any character
+        for (int group = 2; group <= 4; group++) {
+            end = readGroup(obis, pos, 3);
+            if (end == pos) {
+                return null;
+            }
+            groups[group] = parseGroup(obis, pos, end);
+            pos = end;
+            if (group < 4) {
+                if (pos >= obis.length()) {
+                    return null;
+                }
+                pos++;
+            }
+        }
+
+        // Optional *F group with 2 to 4 digits
+        Byte f = null;
+        if (pos < obis.length() && obis.charAt(pos) == '*') {
+            end = readGroup(obis, pos + 1, 4);
+            if (end - pos - 1 >= 2) {
+                f = (byte) parseGroup(obis, pos + 1, end);
+            }
+        }
+
+        return new ObisCode(hasMedium ? (byte) groups[0] : null, hasMedium ? (byte) groups[1] : null,
+                (byte) groups[2], (byte) groups[3], (byte) groups[4], f);
+    }
+
+    /**
+     * @return The end index of the digits starting at <code>start</code>, reading at most <code>maxDigits</code>.
+     */
+    private static int readGroup(String obis, int start, int maxDigits) {
+        int pos = start;
+        while (pos < obis.length() && pos - start < maxDigits && obis.charAt(pos) >= '0' && obis.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int parseGroup(String obis, int start, int end) {
+        return 0xFF & Integer.parseInt(obis, start, end, 10);
     }
 
     /**
@@ -109,6 +109,7 @@ public class SmartMeterHandler extends BaseThingHandler {
             updateStatus(ThingStatus.UNKNOWN, ThingStatusDetail.HANDLER_CONFIGURATION_PENDING,
                     "Waiting for messages from device");
 
+            smlDevice.setValueChangeDelta(config.valueChangeDelta);
             smlDevice.addValueChangeListener(channelTypeProvider);
 
             updateOBISValue();
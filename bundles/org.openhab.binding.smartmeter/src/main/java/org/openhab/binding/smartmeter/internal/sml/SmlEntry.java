@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.smartmeter.SmartMeterBindingConstants;
+import org.openhab.core.util.HexUtils;
+
+/**
+ * A list entry of a SML GetList response, as read by the {@link SmlStreamDecoder}.
+ * <p>
+ * The decoder reuses one instance for all entries of a SML file, so the values are only valid during the callback.
+ * The OBIS code is packed into a long (6 bytes, group A in the most significant byte), so that entries can be
+ * looked up without creating Strings.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class SmlEntry {
+
+    /**
+     * The type of the value of an entry
+     */
+    public enum ValueType {
+        NUMBER,
+        UNSIGNED_NUMBER,
+        BOOLEAN,
+        OCTET_STRING
+    }
+
+    private long obis;
+    private int unit;
+    private int scaler;
+    private boolean hasStatus;
+    private long status;
+    private ValueType valueType = ValueType.NUMBER;
+    private long number;
+    private byte[] data = new byte[0];
+    private int dataOffset;
+    private int dataLength;
+
+    void reset() {
+        obis = 0;
+        unit = 0;
+        scaler = 0;
+        hasStatus = false;
+        status = 0;
+        valueType = ValueType.NUMBER;
+        number = 0;
+        dataLength = 0;
+    }
+
+    void setObis(long obis) {
+        this.obis = obis;
+    }
+
+    void setUnit(int unit) {
+        this.unit = unit;
+    }
+
+    void setScaler(int scaler) {
+        this.scaler = scaler;
+    }
+
+    void setStatus(long status) {
+        this.hasStatus = true;
+        this.status = status;
+    }
+
+    void setNumber(ValueType valueType, long number) {
+        this.valueType = valueType;
+        this.number = number;
+    }
+
+    void setOctetString(byte[] data, int offset, int length) {
+        this.valueType = ValueType.OCTET_STRING;
+        this.data = data;
+        this.dataOffset = offset;
+        this.dataLength = length;
+    }
+
+    /**
+     * @return the OBIS code packed into the 6 least significant bytes
+     */
+    public long getObis() {
+        return obis;
+    }
+
+    /**
+     * @return the OBIS code formatted like {@value SmartMeterBindingConstants#OBIS_FORMAT_MINIMAL}
+     */
+    public String getObisCode() {
+        return String.format(SmartMeterBindingConstants.OBIS_FORMAT_MINIMAL, obisGroup(0), obisGroup(1), obisGroup(2),
+                obisGroup(3), obisGroup(4));
+    }
+
+    private int obisGroup(int group) {
+        return (int) (obis >>> (8 * (5 - group))) & 0xFF;
+    }
+
+    /**
+     * @return the DLMS unit code, 0 if not available
+     */
+    public int getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return the decimal exponent of the value
+     */
+    public int getScaler() {
+        return scaler;
+    }
+
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * @return the raw number or boolean (1 for true) value, not scaled
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the status as String if available - otherwise null.
+     */
+    public @Nullable String getStatus() {
+        return hasStatus ? Long.toUnsignedString(status) : null;
+    }
+
+    /**
+     * Gets the value. Numbers are scaled and formatted as double.
+     *
+     * @return the value as String
+     */
+    public String getValue() {
+        return switch (valueType) {
+            case NUMBER -> Double.toString(number * Math.pow(10, scaler));
+            case UNSIGNED_NUMBER ->
+                Double.toString(Double.parseDouble(Long.toUnsignedString(number)) * Math.pow(10, scaler));
+            case BOOLEAN -> Boolean.toString(number != 0);
+            case OCTET_STRING -> getOctetString();
+        };
+    }
+
+    /**
+     * Octet strings are text (e.g. a manufacturer or firmware version) or binary (e.g. a server id). Text is returned
+     * as is, binary data as hex string.
+     */
+    private String getOctetString() {
+        for (int i = dataOffset; i < dataOffset + dataLength; i++) {
+            if (data[i] < 0x20 || data[i] > 0x7e) {
+                return HexUtils.bytesToHex(Arrays.copyOfRange(data, dataOffset, dataOffset + dataLength));
+            }
+        }
+        return new String(data, dataOffset, dataLength, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Checks whether this entry has the same reading as a previous reading of the same OBIS code.
+     *
+     * @param reading the previous reading
+     * @return true if value, unit, scaler and status are the same
+     */
+    boolean hasSameReading(Reading reading) {
+        if (reading.valueType != valueType || reading.unit != unit || reading.scaler != scaler
+                || reading.hasStatus != hasStatus || reading.status != status) {
+            return false;
+        }
+        if (valueType == ValueType.OCTET_STRING) {
+            return Arrays.equals(reading.data, 0, reading.data.length, data, dataOffset, dataOffset + dataLength);
+        }
+        return reading.number == number;
+    }
+
+    /**
+     * @return a copy of the raw reading of this entry
+     */
+    Reading toReading() {
+        return new Reading(this);
+    }
+
+    /**
+     * The raw reading of an entry, used to detect unchanged values without decoding them.
+     */
+    static final class Reading {
+        private final int unit;
+        private final int scaler;
+        private final boolean hasStatus;
+        private final long status;
+        private final ValueType valueType;
+        private final long number;
+        private final byte[] data;
+
+        private Reading(SmlEntry entry) {
+            this.unit = entry.unit;
+            this.scaler = entry.scaler;
+            this.hasStatus = entry.hasStatus;
+            this.status = entry.status;
+            this.valueType = entry.valueType;
+            this.number = entry.number;
+            this.data = entry.valueType == ValueType.OCTET_STRING
+                    ? Arrays.copyOfRange(entry.data, entry.dataOffset, entry.dataOffset + entry.dataLength)
+                    : new byte[0];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SmlEntry [obis=" + getObisCode() + ", value=" + getValue() + ", unit=" + unit + ", scaler=" + scaler
+                + ", status=" + getStatus() + "]";
+    }
+}
@@ -12,9 +12,14 @@
  */
 package org.openhab.binding.smartmeter.internal.sml;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.smartmeter.connectors.IMeterReaderConnector;
@@ -22,14 +27,7 @@ import org.openhab.binding.smartmeter.internal.MeterDevice;
 import org.openhab.binding.smartmeter.internal.MeterValue;
 import org.openhab.binding.smartmeter.internal.helper.ProtocolMode;
 import org.openhab.core.io.transport.serial.SerialPortManager;
-import org.openmuc.jsml.structures.ASNObject;
-import org.openmuc.jsml.structures.EMessageBody;
-import org.openmuc.jsml.structures.SmlFile;
-import org.openmuc.jsml.structures.SmlList;
-import org.openmuc.jsml.structures.SmlListEntry;
-import org.openmuc.jsml.structures.SmlMessage;
-import org.openmuc.jsml.structures.SmlStatus;
-import org.openmuc.jsml.structures.responses.SmlGetListRes;
+import org.openmuc.jsml.EUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +38,29 @@ import org.slf4j.LoggerFactory;
  * @author Mathias Gilhuber - Also-By
  */
 @NonNullByDefault
-public final class SmlMeterReader extends MeterDevice<SmlFile> {
+public final class SmlMeterReader extends MeterDevice<byte[]> {
 
     protected final Logger logger = LoggerFactory.getLogger(SmlMeterReader.class);
 
+    private final SmlStreamDecoder decoder = new SmlStreamDecoder();
+    /**
+     * The registers of the last SML file, by packed OBIS code
+     */
+    private Map<Long, Register> registers = new HashMap<>();
+
+    /**
+     * The raw reading of an OBIS code and its decoded value
+     */
+    private static class Register {
+        final SmlEntry.Reading reading;
+        final MeterValue<?> value;
+
+        Register(SmlEntry.Reading reading, MeterValue<?> value) {
+            this.reading = reading;
+            this.value = value;
+        }
+    }
+
     /**
      * Static factory method to create a SmlDevice object with a serial connector member.
      *
@@ -81,74 +98,50 @@ public final class SmlMeterReader extends MeterDevice<SmlFile> {
 
     /**
      * Decodes native SML informations from the device and stores them locally until the next read request.
+     * <p>
+     * The SML file is walked once. The last reading of every OBIS code is kept by its packed numeric id, so that the
+     * {@link MeterValue} of a register which did not change since the last file is reused instead of formatted again.
      *
-     * @param smlFile the native SML informations from the device
+     * @param smlFile the SML messages read from the device
      */
     @Override
-    protected void populateValueCache(SmlFile smlFile) {
-        if (logger.isTraceEnabled()) {
-            logger.trace("Read out following SML file: {}", System.lineSeparator());
-            SmlFileDebugOutput.printFile(smlFile, (msg) -> logger.trace(msg));
-        }
-        List<SmlMessage> smlMessages = smlFile.getMessages();
-
-        if (smlMessages != null) {
-            int messageCount = smlMessages.size();
-
-            if (messageCount <= 0) {
-                logger.warn("{}: no valid SML messages list retrieved.", this.toString());
-            }
-
-            for (int i = 0; i < messageCount; i++) {
-                SmlMessage smlMessage = smlMessages.get(i);
-
-                int tag = smlMessage.getMessageBody().getTag().id();
-
-                if (tag != EMessageBody.GET_LIST_RESPONSE.id()) {
-                    continue;
+    protected void populateValueCache(byte[] smlFile) {
+        final Map<Long, Register> previousRegisters = registers;
+        final Map<Long, Register> currentRegisters = new HashMap<>();
+        registers = currentRegisters;
+
+        try {
+            decoder.decode(smlFile, entry -> {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("Read SML entry: {}", entry);
                 }
-
-                SmlGetListRes listResponse = (SmlGetListRes) smlMessage.getMessageBody().getChoice();
-                SmlList smlValueList = listResponse.getValList();
-                SmlListEntry[] smlListEntries = smlValueList.getValListEntry();
-
-                for (SmlListEntry entry : smlListEntries) {
-                    SmlValueExtractor valueExtractor = new SmlValueExtractor(entry);
-                    String obis = valueExtractor.getObisCode();
-
-                    MeterValue<?> smlValue = getMeterValue(obis);
-
-                    if (smlValue == null) {
-                        smlValue = valueExtractor.getSmlValue();
-                    }
-
-                    SmlStatus status = entry.getStatus();
-                    if (status != null) {
-                        String statusValue = readStatus(status, obis);
-                        if (statusValue != null) {
-                            smlValue.setStatus(statusValue);
-                        }
-                    }
-
-                    addObisCache(smlValue);
+                final long obis = entry.getObis();
+                if (currentRegisters.containsKey(obis)) {
+                    // the same OBIS code can be reported more than once, the first reading is used
+                    return;
                 }
-            }
-        } else {
-            logger.warn("{}: no valid SML messages list retrieved.", this.toString());
+                Register register = previousRegisters.get(obis);
+                if (register == null || !entry.hasSameReading(register.reading)) {
+                    register = new Register(entry.toReading(), createMeterValue(entry));
+                }
+                currentRegisters.put(obis, register);
+                addObisCache(register.value);
+            });
+        } catch (IOException e) {
+            logger.warn("{}: no valid SML messages list retrieved: {}", getDeviceId(), e.getMessage());
+        }
+        if (currentRegisters.isEmpty()) {
+            logger.debug("{}: SML file did not contain any values.", getDeviceId());
         }
     }
 
-    private @Nullable String readStatus(SmlStatus status, String obis) {
-        ASNObject choice = status.getChoice();
-        if (choice != null) {
-            String statusValue = choice.toString();
-            return statusValue;
-        }
-        return null;
+    private <Q extends Quantity<Q>> MeterValue<Q> createMeterValue(SmlEntry entry) {
+        final @Nullable Unit<Q> unit = SmlUnitConversion.getUnit(EUnit.from(entry.getUnit()));
+        return new MeterValue<>(entry.getObisCode(), entry.getValue(), unit, entry.getStatus());
     }
 
     @Override
-    protected IMeterReaderConnector<SmlFile> createConnector(Supplier<SerialPortManager> serialPortManagerSupplier,
+    protected IMeterReaderConnector<byte[]> createConnector(Supplier<SerialPortManager> serialPortManagerSupplier,
             String serialPort, int baudrate, int baudrateChangeDelay, ProtocolMode protocolMode) {
         return new SmlSerialConnector(serialPortManagerSupplier, serialPort, baudrate, baudrateChangeDelay);
     }
@@ -18,7 +18,6 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Stack;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -32,8 +31,6 @@ import org.openhab.core.io.transport.serial.SerialPortIdentifier;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 import org.openhab.core.io.transport.serial.UnsupportedCommOperationException;
 import org.openhab.core.util.HexUtils;
-import org.openmuc.jsml.structures.SmlFile;
-import org.openmuc.jsml.transport.Transport;
 
 /**
  * Represents a serial SML device connector.
@@ -42,9 +39,7 @@ import org.openmuc.jsml.transport.Transport;
  * @author Mathias Gilhuber - Also-By
  */
 @NonNullByDefault
-public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
-
-    private static final Transport TRANSPORT = new Transport();
+public final class SmlSerialConnector extends ConnectorBase<byte[]> {
 
     private Supplier<SerialPortManager> serialManagerSupplier;
     @NonNullByDefault({})
@@ -78,7 +73,7 @@ public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
     }
 
     @Override
-    protected SmlFile readNext(byte @Nullable [] initMessage) throws IOException {
+    protected byte[] readNext(byte @Nullable [] initMessage) throws IOException {
         if (initMessage != null) {
             logger.debug("Writing init message: {}", HexUtils.bytesToHex(initMessage, " "));
             if (os != null) {
@@ -87,17 +82,20 @@ public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
             }
         }
 
+        DataInputStream is = this.is;
+        if (is == null) {
+            throw new IOException(getPortName() + " : Connection is not open.");
+        }
         // read out the whole buffer. We are only interested in the most recent SML file.
-        Stack<SmlFile> smlFiles = new Stack<>();
+        byte[] smlFile;
+        int count = 0;
         do {
-            logger.trace("Reading {}. SML message", smlFiles.size() + 1);
-            smlFiles.push(TRANSPORT.getSMLFile(is));
-        } while (is != null && is.available() > 0);
-        if (smlFiles.isEmpty()) {
-            throw new IOException(getPortName() + " : There is no SML file in buffer. Try to increase Refresh rate.");
-        }
-        logger.debug("{} : Read {} SML files from Buffer", this.getPortName(), smlFiles.size());
-        return smlFiles.pop();
+            logger.trace("Reading {}. SML message", count + 1);
+            smlFile = SmlStreamDecoder.readFile(is);
+            count++;
+        } while (is.available() > 0);
+        logger.debug("{} : Read {} SML files from Buffer", this.getPortName(), count);
+        return smlFile;
     }
 
     @Override
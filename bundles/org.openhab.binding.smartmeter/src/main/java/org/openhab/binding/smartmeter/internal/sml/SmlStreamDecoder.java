@@ -0,0 +1,390 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SmlStreamDecoder} reads SML files (SML 1.04) directly from the byte stream.
+ * <p>
+ * Instead of building the object tree of the whole file, the messages are walked once and every list entry of a
+ * GetList response is reported to a {@link EntryVisitor}. Other messages (open and close responses, profiles) are
+ * skipped.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class SmlStreamDecoder {
+
+    /**
+     * Receives the list entries of a SML file.
+     */
+    public interface EntryVisitor {
+        /**
+         * Called for every list entry. The entry is reused for the next entry, it must not be kept.
+         *
+         * @param entry The list entry
+         */
+        void visit(SmlEntry entry);
+    }
+
+    private static final byte ESCAPE = 0x1b;
+    private static final byte[] ESCAPE_SEQUENCE = { ESCAPE, ESCAPE, ESCAPE, ESCAPE };
+    private static final byte[] START_SEQUENCE = { 0x01, 0x01, 0x01, 0x01 };
+    private static final byte END_MARKER = 0x1a;
+
+    private static final int TYPE_OCTET_STRING = 0;
+    private static final int TYPE_BOOLEAN = 4;
+    private static final int TYPE_INTEGER = 5;
+    private static final int TYPE_UNSIGNED = 6;
+    private static final int TYPE_LIST = 7;
+    private static final int END_OF_MESSAGE = 0x00;
+    private static final int OPTIONAL_NOT_SET = 0x01;
+
+    private static final long GET_LIST_RESPONSE = 0x0701;
+
+    private final SmlEntry entry = new SmlEntry();
+
+    private byte[] buffer = new byte[0];
+    private int position;
+    private int limit;
+
+    /* type and length of the element read by readTypeLength() */
+    private int type;
+    private int length;
+
+    /**
+     * Reads the next SML file of the transport stream. Data in front of the start sequence is skipped.
+     *
+     * @param is the stream to read from
+     * @return the SML messages of the file, with transport escaping and padding removed
+     * @throws IOException if reading fails or the checksum of the file does not match
+     */
+    public static byte[] readFile(DataInputStream is) throws IOException {
+        final byte[] block = new byte[4];
+        final ByteArrayOutputStream messages = new ByteArrayOutputStream(512);
+        final Crc16 crc = new Crc16();
+
+        waitForStart(is, block);
+        crc.update(ESCAPE_SEQUENCE);
+        crc.update(START_SEQUENCE);
+        while (true) {
+            is.readFully(block);
+            if (!Arrays.equals(block, ESCAPE_SEQUENCE)) {
+                crc.update(block);
+                messages.write(block);
+                continue;
+            }
+            is.readFully(block);
+            if (Arrays.equals(block, ESCAPE_SEQUENCE)) {
+                // escaped escape sequence within the messages
+                crc.update(ESCAPE_SEQUENCE);
+                crc.update(ESCAPE_SEQUENCE);
+                messages.write(block);
+            } else if (block[0] == END_MARKER) {
+                crc.update(ESCAPE_SEQUENCE);
+                crc.update(block, 0, 2);
+                final int received = (block[2] & 0xFF) | (block[3] & 0xFF) << 8;
+                if (received != crc.getValue()) {
+                    throw new IOException(String.format("SML file checksum mismatch, received %04X, calculated %04X",
+                            received, crc.getValue()));
+                }
+                final int padding = block[1] & 0xFF;
+                final byte[] result = messages.toByteArray();
+                if (padding > 3) {
+                    throw new IOException("Invalid SML file padding: " + padding);
+                }
+                return Arrays.copyOf(result, result.length - padding);
+            } else if (Arrays.equals(block, START_SEQUENCE)) {
+                // a new file starts, the current one is incomplete
+                messages.reset();
+                crc.reset();
+                crc.update(ESCAPE_SEQUENCE);
+                crc.update(START_SEQUENCE);
+            } else {
+                throw new IOException("Invalid SML escape sequence");
+            }
+        }
+    }
+
+    private static void waitForStart(DataInputStream is, byte[] block) throws IOException {
+        // Count the consecutive escape bytes, followed by the 4 bytes of the start sequence
+        int escapes = 0;
+        while (true) {
+            final byte b = is.readByte();
+            if (b == ESCAPE) {
+                escapes++;
+            } else if (escapes >= 4 && b == START_SEQUENCE[0]) {
+                block[0] = b;
+                is.readFully(block, 1, 3);
+                if (Arrays.equals(block, START_SEQUENCE)) {
+                    return;
+                }
+                escapes = 0;
+            } else {
+                escapes = 0;
+            }
+        }
+    }
+
+    /**
+     * Walks the messages of a SML file and reports the list entries of all GetList responses.
+     *
+     * @param messages the messages as returned by {@link #readFile(DataInputStream)}
+     * @param visitor receives the list entries
+     * @throws IOException if the messages are malformed
+     */
+    public void decode(byte[] messages, EntryVisitor visitor) throws IOException {
+        buffer = messages;
+        position = 0;
+        limit = messages.length;
+        try {
+            while (position < limit) {
+                if ((buffer[position] & 0xFF) == END_OF_MESSAGE) {
+                    // end of message or padding
+                    position++;
+                    continue;
+                }
+                readMessage(visitor);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated SML message at position " + position, e);
+        } finally {
+            buffer = new byte[0];
+        }
+    }
+
+    private void readMessage(EntryVisitor visitor) throws IOException {
+        expectList(6);
+        skip(); // transactionId
+        skip(); // groupNo
+        skip(); // abortOnError
+        expectList(2);
+        final long tag = readUnsigned();
+        if (tag == GET_LIST_RESPONSE) {
+            readGetListResponse(visitor);
+        } else {
+            skip();
+        }
+        skip(); // crc16
+        if (position < limit && (buffer[position] & 0xFF) == END_OF_MESSAGE) {
+            position++;
+        }
+    }
+
+    private void readGetListResponse(EntryVisitor visitor) throws IOException {
+        expectList(7);
+        skip(); // clientId
+        skip(); // serverId
+        skip(); // listName
+        skip(); // actSensorTime
+        readTypeLength();
+        if (type != TYPE_LIST) {
+            throw new IOException("SML value list expected at position " + position);
+        }
+        final int entries = length;
+        for (int i = 0; i < entries; i++) {
+            readListEntry(visitor);
+        }
+        skip(); // listSignature
+        skip(); // actGatewayTime
+    }
+
+    private void readListEntry(EntryVisitor visitor) throws IOException {
+        expectList(7);
+        entry.reset();
+
+        // objName
+        readTypeLength();
+        if (type != TYPE_OCTET_STRING || length < 5) {
+            throw new IOException("SML object name expected at position " + position);
+        }
+        long obis = 0;
+        for (int i = 0; i < 6; i++) {
+            obis = (obis << 8) | (i < length ? buffer[position + i] & 0xFF : 0xFF);
+        }
+        position += length;
+        entry.setObis(obis);
+
+        // status
+        if (!skipIfNotSet()) {
+            readTypeLength();
+            entry.setStatus(readNumber(type == TYPE_INTEGER));
+        }
+
+        skip(); // valTime
+
+        // unit
+        if (!skipIfNotSet()) {
+            readTypeLength();
+            entry.setUnit((int) readNumber(false));
+        }
+
+        // scaler
+        if (!skipIfNotSet()) {
+            readTypeLength();
+            entry.setScaler((int) readNumber(true));
+        }
+
+        // value
+        final int valueStart = position;
+        readTypeLength();
+        boolean supported = true;
+        switch (type) {
+            case TYPE_OCTET_STRING:
+                entry.setOctetString(buffer, position, length);
+                position += length;
+                break;
+            case TYPE_BOOLEAN:
+                entry.setNumber(SmlEntry.ValueType.BOOLEAN, readNumber(false));
+                break;
+            case TYPE_INTEGER:
+                entry.setNumber(SmlEntry.ValueType.NUMBER, readNumber(true));
+                break;
+            case TYPE_UNSIGNED:
+                entry.setNumber(SmlEntry.ValueType.UNSIGNED_NUMBER, readNumber(false));
+                break;
+            default:
+                // list values (SML_ListType) are not supported
+                position = valueStart;
+                skip();
+                supported = false;
+                break;
+        }
+
+        skip(); // valueSignature
+
+        if (supported) {
+            visitor.visit(entry);
+        }
+    }
+
+    /**
+     * Reads the type-length field of the next element. For lists the length is the number of elements, for all
+     * other types the number of data bytes following the type-length field.
+     */
+    private void readTypeLength() throws IOException {
+        final int start = position;
+        int tl = buffer[position++] & 0xFF;
+        type = (tl >> 4) & 0x07;
+        int len = tl & 0x0F;
+        while ((tl & 0x80) != 0) {
+            tl = buffer[position++] & 0xFF;
+            len = (len << 4) | (tl & 0x0F);
+        }
+        if (type == TYPE_LIST) {
+            length = len;
+        } else {
+            length = len - (position - start);
+            if (length < 0 || position + length > limit) {
+                throw new IOException("Invalid SML element length at position " + start);
+            }
+        }
+    }
+
+    private void expectList(int elements) throws IOException {
+        final int start = position;
+        readTypeLength();
+        if (type != TYPE_LIST || length != elements) {
+            throw new IOException("SML list of " + elements + " elements expected at position " + start);
+        }
+    }
+
+    /**
+     * Skips an optional element that is not set.
+     *
+     * @return true if the element was not set and has been skipped
+     */
+    private boolean skipIfNotSet() {
+        if ((buffer[position] & 0xFF) == OPTIONAL_NOT_SET) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private long readUnsigned() throws IOException {
+        readTypeLength();
+        return readNumber(false);
+    }
+
+    /**
+     * Reads the big endian number of the current element.
+     */
+    private long readNumber(boolean signed) throws IOException {
+        if (length > 8) {
+            throw new IOException("SML number too long at position " + position);
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (buffer[position + i] & 0xFF);
+        }
+        if (signed && length > 0 && length < 8 && (buffer[position] & 0x80) != 0) {
+            value |= -1L << (8 * length);
+        }
+        position += length;
+        return value;
+    }
+
+    /**
+     * Skips the next element including all elements of lists.
+     */
+    private void skip() throws IOException {
+        if ((buffer[position] & 0xFF) == END_OF_MESSAGE) {
+            position++;
+            return;
+        }
+        readTypeLength();
+        if (type == TYPE_LIST) {
+            final int elements = length;
+            for (int i = 0; i < elements; i++) {
+                skip();
+            }
+        } else {
+            position += length;
+        }
+    }
+
+    /**
+     * CRC-16/X-25 as used by the SML transport protocol.
+     */
+    private static final class Crc16 {
+        private int crc = 0xFFFF;
+
+        void reset() {
+            crc = 0xFFFF;
+        }
+
+        void update(byte[] data) {
+            update(data, 0, data.length);
+        }
+
+        void update(byte[] data, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                crc ^= data[i] & 0xFF;
+                for (int bit = 0; bit < 8; bit++) {
+                    crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+                }
+            }
+        }
+
+        int getValue() {
+            return ~crc & 0xFFFF;
+        }
+    }
+}
@@ -12,11 +12,15 @@
  */
 package org.openhab.binding.smartmeter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -131,6 +135,45 @@ public class TestMeterReading {
         }
     }
 
+    @Test
+    public void testValueChangeDelta() {
+        DeltaMeterDevice meter = new DeltaMeterDevice();
+        List<String> reported = new ArrayList<>();
+        meter.addValueChangeListener(new MeterValueListener() {
+            @Override
+            public void errorOccurred(Throwable e) {
+            }
+
+            @Override
+            public <Q extends @NonNull Quantity<Q>> void valueChanged(MeterValue<Q> value) {
+                reported.add(value.getObisCode() + "=" + value.getValue());
+            }
+
+            @Override
+            public <Q extends @NonNull Quantity<Q>> void valueRemoved(MeterValue<Q> value) {
+            }
+        });
+        meter.setValueChangeDelta(new BigDecimal("0.5"));
+
+        // the first value is always reported
+        meter.read("1.8.0", "10.0");
+        assertEquals(List.of("1.8.0=10.0"), reported);
+
+        // changes up to the delta are suppressed
+        meter.read("1.8.0", "10.3");
+        meter.read("1.8.0", "10.5");
+        meter.read("1.8.0", "9.6");
+        assertEquals(List.of("1.8.0=10.0"), reported);
+
+        // changes are compared to the last reported value, so that small changes add up
+        meter.read("1.8.0", "10.6");
+        assertEquals(List.of("1.8.0=10.0", "1.8.0=10.6"), reported);
+
+        // the first value of another obis code is always reported
+        meter.read("2.8.0", "10.6");
+        assertEquals(List.of("1.8.0=10.0", "1.8.0=10.6", "2.8.0=10.6"), reported);
+    }
+
     MockMeterReaderConnector getMockedConnector(boolean applyRetry, Supplier<Object> readNextSupplier) {
         return new MockMeterReaderConnector("Test port", applyRetry, readNextSupplier);
     }
@@ -151,4 +194,26 @@ public class TestMeterReading {
             }
         };
     }
+
+    private static class DeltaMeterDevice extends MeterDevice<Object> {
+
+        DeltaMeterDevice() {
+            super(() -> mock(SerialPortManager.class), "id", "port", null, 9600, 0, ProtocolMode.SML);
+        }
+
+        @Override
+        protected @NonNull IMeterReaderConnector<Object> createConnector(
+                @NonNull Supplier<@NonNull SerialPortManager> serialPortManagerSupplier, @NonNull String serialPort,
+                int baudrate, int baudrateChangeDelay, @NonNull ProtocolMode protocolMode) {
+            return new MockMeterReaderConnector(serialPort, false, () -> new Object());
+        }
+
+        @Override
+        protected <Q extends @NonNull Quantity<Q>> void populateValueCache(Object smlFile) {
+        }
+
+        void read(String obis, String value) {
+            addObisCache(new MeterValue<>(obis, value, null));
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.smartmeter.internal.ObisCode;
+import org.openhab.binding.smartmeter.internal.sml.SmlEntry;
+import org.openhab.binding.smartmeter.internal.sml.SmlStreamDecoder;
+
+/**
+ * Tests the decoding of SML files and OBIS codes.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class TestSmlDecoding {
+
+    private static final byte[] GET_LIST_RESPONSE = bytes(//
+            "76 05 01 02 03 04 62 00 62 00 72 63 07 01 77 01 03 AA BB 01 01 72" //
+                    // 1-0:1.8.0, status 0x0104, unit Wh (30), scaler -1, value 123456
+                    + " 77 07 01 00 01 08 00 FF 63 01 04 01 62 1E 52 FF 55 00 01 E2 40 01" //
+                    // 1-0:16.7.0, unit W (27), scaler 0, value -200
+                    + " 77 07 01 00 10 07 00 FF 01 01 62 1B 52 00 53 FF 38 01" //
+                    + " 01 01 63 00 00 00");
+
+    private static final byte[] OPEN_RESPONSE = bytes(//
+            "76 05 01 02 03 03 62 00 62 00 72 63 01 01 76 01 01 05 01 02 03 04 03 AA BB 01 01 63 00 00 00");
+
+    /** OPEN_RESPONSE with one byte of padding and its CRC-16/X-25, calculated independently of the binding */
+    private static final byte[] OPEN_RESPONSE_FILE = bytes(//
+            "1B 1B 1B 1B 01 01 01 01" //
+                    + " 76 05 01 02 03 03 62 00 62 00 72 63 01 01 76 01 01 05 01 02 03 04 03 AA BB 01 01 63 00 00 00" //
+                    + " 00 1B 1B 1B 1B 1A 01 AC 37");
+
+    private static final byte[] OCTET_STRING_RESPONSE = bytes(//
+            "76 05 01 02 03 05 62 00 62 00 72 63 07 01 77 01 03 AA BB 01 01 72" //
+                    // 1-0:0.0.9, binary server id
+                    + " 77 07 01 00 00 00 09 FF 01 01 01 01 06 0A 01 45 4D 48 01" //
+                    // 1-0:96.50.1, manufacturer text
+                    + " 77 07 01 00 60 32 01 FF 01 01 01 01 04 45 4D 48 01" //
+                    + " 01 01 63 00 00 00");
+
+    @Test
+    public void testDecodeGetListResponse() throws IOException {
+        List<String> entries = decode(concat(OPEN_RESPONSE, GET_LIST_RESPONSE));
+
+        assertEquals(List.of("1-0:1.8.0=12345.6 unit=30 status=260", "1-0:16.7.0=-200.0 unit=27 status=null"),
+                entries);
+    }
+
+    @Test
+    public void testDecodeTruncatedMessage() {
+        byte[] truncated = new byte[GET_LIST_RESPONSE.length - 10];
+        System.arraycopy(GET_LIST_RESPONSE, 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> decode(truncated));
+    }
+
+    @Test
+    public void testReadFile() throws IOException {
+        byte[] file = frame(GET_LIST_RESPONSE);
+        // garbage and the end of a previous file in front of the start sequence
+        byte[] stream = concat(bytes("00 1A 1B 1B"), file);
+
+        byte[] messages = SmlStreamDecoder.readFile(new DataInputStream(new ByteArrayInputStream(stream)));
+
+        assertArrayEquals(GET_LIST_RESPONSE, messages);
+    }
+
+    @Test
+    public void testReadFileChecksumMismatch() {
+        byte[] file = frame(GET_LIST_RESPONSE);
+        file[file.length - 1] ^= 0x01;
+
+        assertThrows(IOException.class,
+                () -> SmlStreamDecoder.readFile(new DataInputStream(new ByteArrayInputStream(file))));
+    }
+
+    @Test
+    public void testDecodeOctetStrings() throws IOException {
+        List<String> entries = decode(OCTET_STRING_RESPONSE);
+
+        assertEquals(List.of("1-0:0.0.9=0A01454D48 unit=0 status=null", "1-0:96.50.1=EMH unit=0 status=null"),
+                entries);
+    }
+
+    @Test
+    public void testChecksum() throws IOException {
+        byte[] messages = SmlStreamDecoder
+                .readFile(new DataInputStream(new ByteArrayInputStream(OPEN_RESPONSE_FILE)));
+        assertArrayEquals(OPEN_RESPONSE, messages);
+
+        // corrupted message byte
+        byte[] corruptedMessage = OPEN_RESPONSE_FILE.clone();
+        corruptedMessage[12] ^= 0x10;
+        assertThrows(IOException.class,
+                () -> SmlStreamDecoder.readFile(new DataInputStream(new ByteArrayInputStream(corruptedMessage))));
+
+        // corrupted checksum
+        for (int i = 1; i <= 2; i++) {
+            byte[] corruptedCrc = OPEN_RESPONSE_FILE.clone();
+            corruptedCrc[corruptedCrc.length - i] ^= 0x80;
+            assertThrows(IOException.class,
+                    () -> SmlStreamDecoder.readFile(new DataInputStream(new ByteArrayInputStream(corruptedCrc))));
+        }
+    }
+
+    @Test
+    public void testObisCodeParsing() {
+        ObisCode full = ObisCode.from("1-0:1.8.0*255");
+        assertEquals("1-0:1.8.0*255", full.asDecimalString());
+
+        ObisCode minimal = ObisCode.from("1.8.0");
+        assertNull(minimal.getAGroup());
+        assertEquals((byte) 1, minimal.getCGroup());
+        assertEquals((byte) 8, minimal.getDGroup());
+
+        ObisCode embedded = ObisCode.from("value of 1-0:16.7.0 in W");
+        assertEquals((byte) 16, embedded.getCGroup());
+
+        assertThrows(IllegalArgumentException.class, () -> ObisCode.from("no obis"));
+    }
+
+    private static List<String> decode(byte[] messages) throws IOException {
+        List<String> entries = new ArrayList<>();
+        new SmlStreamDecoder().decode(messages, (SmlEntry entry) -> entries.add(entry.getObisCode() + "="
+                + entry.getValue() + " unit=" + entry.getUnit() + " status=" + entry.getStatus()));
+        return entries;
+    }
+
+    private static byte[] frame(byte[] messages) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(bytes("1B 1B 1B 1B 01 01 01 01"));
+        out.writeBytes(messages);
+        int padding = (4 - messages.length % 4) % 4;
+        for (int i = 0; i < padding; i++) {
+            out.write(0);
+        }
+        out.writeBytes(bytes("1B 1B 1B 1B 1A"));
+        out.write(padding);
+        int crc = crc16(out.toByteArray());
+        out.write(crc & 0xFF);
+        out.write(crc >> 8);
+        return out.toByteArray();
+    }
+
+    private static int crc16(byte[] data) {
+        int crc = 0xFFFF;
+        for (byte b : data) {
+            crc ^= b & 0xFF;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+            }
+        }
+        return ~crc & 0xFFFF;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static byte[] bytes(String hex) {
+        String[] parts = hex.trim().split("\\s+");
+        byte[] result = new byte[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = (byte) Integer.parseInt(parts[i], 16);
+        }
+        return result;
+    }
+}
@@ -84,4 +84,19 @@ public interface Homekit {
      * returns how many bridge instances there are
      */
     int getInstanceCount();
+
+    /**
+     * returns how many characteristic change events have been pushed to HomeKit clients for a specific instance.
+     *
+     * @param instance the instance number (1-based)
+     */
+    long getDeliveredEvents(int instance);
+
+    /**
+     * returns how many characteristic change events have been coalesced into a later event, and thus not been pushed
+     * to HomeKit clients, for a specific instance.
+     *
+     * @param instance the instance number (1-based)
+     */
+    long getSuppressedEvents(int instance);
 }
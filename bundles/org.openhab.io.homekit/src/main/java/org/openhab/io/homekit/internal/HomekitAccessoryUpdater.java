@@ -12,10 +12,18 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -31,11 +39,79 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Changes of continuous characteristics (brightness, temperature, levels, ...) are coalesced within a
+ * configurable window, so that only the latest value is pushed to the HomeKit clients. Discrete
+ * characteristics (locks, contact sensors, switches, ...) are always delivered immediately.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
+    /**
+     * characteristics whose values change gradually and for which intermediate values can be dropped
+     */
+    private static final Set<String> COALESCABLE_CHARACTERISTICS = Stream.of(HomekitCharacteristicType.BRIGHTNESS,
+            HomekitCharacteristicType.HUE, HomekitCharacteristicType.SATURATION,
+            HomekitCharacteristicType.COLOR_TEMPERATURE, HomekitCharacteristicType.CURRENT_TEMPERATURE,
+            HomekitCharacteristicType.TARGET_TEMPERATURE, HomekitCharacteristicType.COOLING_THRESHOLD_TEMPERATURE,
+            HomekitCharacteristicType.HEATING_THRESHOLD_TEMPERATURE, HomekitCharacteristicType.RELATIVE_HUMIDITY,
+            HomekitCharacteristicType.LIGHT_LEVEL, HomekitCharacteristicType.CURRENT_POSITION,
+            HomekitCharacteristicType.TARGET_POSITION, HomekitCharacteristicType.CURRENT_HORIZONTAL_TILT_ANGLE,
+            HomekitCharacteristicType.CURRENT_VERTICAL_TILT_ANGLE,
+            HomekitCharacteristicType.TARGET_HORIZONTAL_TILT_ANGLE,
+            HomekitCharacteristicType.TARGET_VERTICAL_TILT_ANGLE, HomekitCharacteristicType.CURRENT_TILT_ANGLE,
+            HomekitCharacteristicType.TARGET_TILT_ANGLE, HomekitCharacteristicType.ROTATION_SPEED,
+            HomekitCharacteristicType.VOLUME, HomekitCharacteristicType.CARBON_MONOXIDE_LEVEL,
+            HomekitCharacteristicType.CARBON_MONOXIDE_PEAK_LEVEL, HomekitCharacteristicType.CARBON_DIOXIDE_LEVEL,
+            HomekitCharacteristicType.CARBON_DIOXIDE_PEAK_LEVEL, HomekitCharacteristicType.OZONE_DENSITY,
+            HomekitCharacteristicType.NITROGEN_DIOXIDE_DENSITY, HomekitCharacteristicType.SULPHUR_DIOXIDE_DENSITY,
+            HomekitCharacteristicType.PM25_DENSITY, HomekitCharacteristicType.PM10_DENSITY,
+            HomekitCharacteristicType.VOC_DENSITY, HomekitCharacteristicType.BATTERY_LEVEL,
+            HomekitCharacteristicType.FILTER_LIFE_LEVEL, HomekitCharacteristicType.REMAINING_DURATION)
+            .map(HomekitCharacteristicType::getTag).collect(Collectors.toUnmodifiableSet());
+
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final @Nullable ScheduledExecutorService scheduler;
+    private volatile int coalescingWindowMs;
+
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong suppressedEvents = new AtomicLong();
+
+    /**
+     * Creates an updater which delivers every change immediately.
+     */
+    public HomekitAccessoryUpdater() {
+        this(null, 0);
+    }
+
+    /**
+     * Creates an updater which coalesces changes of continuous characteristics.
+     *
+     * @param scheduler scheduler used to deliver coalesced changes
+     * @param coalescingWindowMs window in milliseconds within which changes are coalesced; 0 disables coalescing
+     */
+    public HomekitAccessoryUpdater(@Nullable ScheduledExecutorService scheduler, int coalescingWindowMs) {
+        this.scheduler = scheduler;
+        this.coalescingWindowMs = Math.max(0, coalescingWindowMs);
+    }
+
+    public void setCoalescingWindow(int coalescingWindowMs) {
+        this.coalescingWindowMs = Math.max(0, coalescingWindowMs);
+    }
+
+    /**
+     * @return number of change events pushed to HomeKit clients
+     */
+    public long getDeliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    /**
+     * @return number of change events which have been folded into a later event
+     */
+    public long getSuppressedEvents() {
+        return suppressedEvents.get();
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -57,7 +133,9 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = key != null && COALESCABLE_CHARACTERISTICS.contains(key)
+                    ? new CoalescingSubscription(callback)
+                    : (changedItem, oldState, newState) -> deliver(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -74,10 +152,16 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            v.cancel();
             return null;
         });
     }
 
+    private void deliver(HomekitCharacteristicChangeCallback callback) {
+        deliveredEvents.incrementAndGet();
+        callback.changed();
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
@@ -89,6 +173,70 @@ public class HomekitAccessoryUpdater {
         default void stateUpdated(Item item, State state) {
             // Do nothing on non-change update
         }
+
+        default void cancel() {
+            // Nothing pending by default
+        }
+    }
+
+    /**
+     * Subscription which delays the notification by the coalescing window. Further changes within the window are
+     * folded into the pending notification; HAP reads the current item state when the notification is sent, so the
+     * clients always receive the latest value.
+     */
+    @NonNullByDefault
+    private class CoalescingSubscription implements Subscription {
+        private final HomekitCharacteristicChangeCallback callback;
+        private boolean pending;
+        private boolean cancelled;
+        private @Nullable ScheduledFuture<?> future;
+
+        CoalescingSubscription(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            final ScheduledExecutorService localScheduler = scheduler;
+            final int window = coalescingWindowMs;
+            if (localScheduler == null || window == 0) {
+                deliver(callback);
+                return;
+            }
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (pending) {
+                    suppressedEvents.incrementAndGet();
+                } else {
+                    pending = true;
+                    future = localScheduler.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        private void flush() {
+            synchronized (this) {
+                if (cancelled || !pending) {
+                    return;
+                }
+                pending = false;
+                future = null;
+            }
+            deliver(callback);
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            pending = false;
+            final ScheduledFuture<?> localFuture = future;
+            if (localFuture != null) {
+                localFuture.cancel(false);
+                future = null;
+            }
+        }
     }
 
     private static class ItemKey {
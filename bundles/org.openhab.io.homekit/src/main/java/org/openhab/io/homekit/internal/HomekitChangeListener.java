@@ -68,7 +68,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private final MetadataRegistry metadataRegistry;
     private final Storage<Object> storage;
     private final RegistryChangeListener<Metadata> metadataChangeListener;
-    private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+    private HomekitAccessoryUpdater updater;
     private HomekitSettings settings;
     private int lastAccessoryCount;
     private Map<String, String> knownAccessories = new HashMap<>();
@@ -77,6 +77,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
+    /**
+     * Items contributing to a root accessory (the root item itself, plus all nested group members), keyed by the name
+     * of the root accessory, and the reverse index. Used to rebuild only the accessories affected by an item change.
+     */
+    private final Map<String, Set<String>> dependenciesByAccessory = new HashMap<>();
+    private final Map<String, Set<String>> accessoriesByDependency = new HashMap<>();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -97,6 +104,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        this.updater = new HomekitAccessoryUpdater(scheduler, settings.eventCoalescingWindow);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -142,6 +150,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         itemRegistry.addRegistryChangeListener(this);
         metadataRegistry.addRegistryChangeListener(metadataChangeListener);
         initialiseRevision();
+        final long startTime = System.nanoTime();
         boolean changed = false;
         for (var i : itemRegistry.getItems()) {
             String oldValue = knownAccessories.get(i.getName());
@@ -151,6 +160,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 changed = true;
             }
         }
+        logger.debug("Created HomeKit accessories of instance {} in {} ms", instance,
+                (System.nanoTime() - startTime) / 1000000);
         // order of this conditional is important - checkMissingAccessories has side effects that need to always happen
         if (checkMissingAccessories() || changed) {
             makeNewConfigurationRevision();
@@ -228,10 +239,20 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
 
         /*
-         * if metadata of a group item was changed, mark all group member as dirty.
+         * mark all root accessories the item has been part of, e.g. as characteristic of a nested group.
+         */
+        final @Nullable Set<String> dependentAccessories = accessoriesByDependency.get(item.getName());
+        if (dependentAccessories != null) {
+            pendingUpdates.addAll(dependentAccessories);
+        }
+
+        /*
+         * if metadata of a group item was changed, mark the group members as dirty, as they might become (or stop
+         * being) root accessories. Members without HomeKit metadata can never be root accessories, so skip them.
          */
         if (item instanceof GroupItem itemAsGroupItem) {
-            itemAsGroupItem.getMembers().forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
+            itemAsGroupItem.getMembers().stream().filter(this::hasHomeKitMetadata)
+                    .forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
         }
         applyUpdatesDebouncer.call();
     }
@@ -283,6 +304,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private synchronized void applyUpdates() {
         logger.trace("Apply updates");
+        final long startTime = System.nanoTime();
+        final int updateCount = pendingUpdates.size();
 
         HomekitRoot bridge = accessoryRegistry.getBridge();
         if (bridge != null) {
@@ -294,6 +317,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             for (final String name : pendingUpdates) {
                 String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
+                removeDependencies(name);
                 logger.trace(" Add items {}", name);
                 getItemOptional(name).ifPresent(this::createRootAccessories);
                 if (accessoryChanged(name, oldValue)) {
@@ -310,6 +334,46 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 bridge.completeUpdateBatch();
             }
         }
+        logger.debug("Applied {} pending updates in instance {} in {} ms", updateCount, instance,
+                (System.nanoTime() - startTime) / 1000000);
+    }
+
+    /**
+     * Record all items contributing to the given root accessory.
+     *
+     * @param accessoryName name of the root accessory
+     * @param item root item of the accessory
+     */
+    private void addDependencies(String accessoryName, Item item) {
+        final Set<String> dependencies = new HashSet<>();
+        collectDependencies(item, dependencies);
+        dependenciesByAccessory.put(accessoryName, dependencies);
+        for (String dependency : dependencies) {
+            accessoriesByDependency.computeIfAbsent(dependency, k -> new HashSet<>()).add(accessoryName);
+        }
+    }
+
+    private void collectDependencies(Item item, Set<String> dependencies) {
+        // the set doubles as guard against circular group memberships
+        if (dependencies.add(item.getName()) && item instanceof GroupItem groupItem) {
+            groupItem.getMembers().forEach(member -> collectDependencies(member, dependencies));
+        }
+    }
+
+    private void removeDependencies(String accessoryName) {
+        final @Nullable Set<String> dependencies = dependenciesByAccessory.remove(accessoryName);
+        if (dependencies == null) {
+            return;
+        }
+        for (String dependency : dependencies) {
+            final @Nullable Set<String> accessories = accessoriesByDependency.get(dependency);
+            if (accessories != null) {
+                accessories.remove(accessoryName);
+                if (accessories.isEmpty()) {
+                    accessoriesByDependency.remove(dependency);
+                }
+            }
+        }
     }
 
     private boolean accessoryChanged(String name, @Nullable String oldValue) {
@@ -333,6 +397,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        dependenciesByAccessory.clear();
+        accessoriesByDependency.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -343,9 +409,14 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.updater = updater;
     }
 
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
+    }
+
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setCoalescingWindow(settings.eventCoalescingWindow);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -497,6 +568,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     });
             knownAccessories.put(taggedItem.getName(), accessory.toJson());
             accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            addDependencies(taggedItem.getName(), item);
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}", taggedItem);
         }
@@ -410,6 +410,26 @@ public class HomekitImpl implements Homekit, NetworkAddressChangeListener, Ready
         return homekitServers.size();
     }
 
+    @Override
+    public long getDeliveredEvents(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return 0;
+        }
+
+        return changeListeners.get(instance - 1).getUpdater().getDeliveredEvents();
+    }
+
+    @Override
+    public long getSuppressedEvents(int instance) {
+        if (instance < 1 || instance > changeListeners.size()) {
+            logger.warn("Instance {} is out of range 1..{}.", instance, changeListeners.size());
+            return 0;
+        }
+
+        return changeListeners.get(instance - 1).getUpdater().getSuppressedEvents();
+    }
+
     @Override
     public synchronized void onChanged(final List<CidrAddress> added, final List<CidrAddress> removed) {
         logger.trace("HomeKit bridge reacting on network interface changes.");
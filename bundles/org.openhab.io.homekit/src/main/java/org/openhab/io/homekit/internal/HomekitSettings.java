@@ -35,6 +35,7 @@ public class HomekitSettings {
     public boolean useOHmDNS = false;
     public boolean blockUserDeletion = false;
     public String networkInterface;
+    public int eventCoalescingWindow = 250;
 
     @Override
     public int hashCode() {
@@ -45,6 +46,7 @@ public class HomekitSettings {
         result = prime * result + port;
         result = prime * result + (useFahrenheitTemperature ? 1231 : 1237);
         result = prime * result + (useDummyAccessories ? 1249 : 1259);
+        result = prime * result + eventCoalescingWindow;
         return result;
     }
 
@@ -86,6 +88,9 @@ public class HomekitSettings {
         if (useDummyAccessories != other.useDummyAccessories) {
             return false;
         }
+        if (eventCoalescingWindow != other.eventCoalescingWindow) {
+            return false;
+        }
         return true;
     }
 }
@@ -16,6 +16,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -463,8 +465,11 @@ public abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
         serviceBuilder.add("c", characteristics);
 
         if (!service.getLinkedServices().isEmpty()) {
+            // linked services are collected from group members, whose order is not stable across restarts.
+            // sort them, so that the serialized accessory only changes if the accessory itself changes.
             var linkedServices = Json.createArrayBuilder();
-            service.getLinkedServices().forEach(s -> linkedServices.add(serviceToJson(s)));
+            service.getLinkedServices().stream().map(s -> serviceToJson(s).build())
+                    .sorted(Comparator.comparing(JsonObject::toString)).forEach(linkedServices::add);
             serviceBuilder.add("ls", linkedServices);
         }
         return serviceBuilder;
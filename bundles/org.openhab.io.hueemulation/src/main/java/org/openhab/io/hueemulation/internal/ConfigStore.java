@@ -84,6 +84,11 @@ public class ConfigStore {
 
     public HueDataStore ds = new HueDataStore();
 
+    /**
+     * Serialized snapshots of the frequently polled lights, groups and sensors resources
+     */
+    public final SnapshotCache snapshots = new SnapshotCache();
+
     protected @NonNullByDefault({}) ScheduledExecutorService scheduler;
     private @Nullable ScheduledFuture<?> pairingOffFuture;
     private @Nullable ScheduledFuture<?> writeUUIDFuture;
@@ -248,6 +253,8 @@ public class ConfigStore {
         ds.config.netmask = networkPrefixLength < 32 ? NetUtil.networkPrefixLengthToNetmask(networkPrefixLength)
                 : "255.255.255.0";
 
+        snapshots.invalidateAll();
+
         if (eventAdmin != null) {
             eventAdmin.postEvent(new Event(EVENT_ADDRESS_CHANGED, Collections.emptyMap()));
         }
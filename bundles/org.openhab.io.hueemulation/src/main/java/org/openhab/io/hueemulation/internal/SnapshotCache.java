@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Keeps the serialized json of frequently polled resources (lights, groups, sensors), so that
+ * Alexa and Harmony hubs polling those endpoints do not cause a serialization of the data store
+ * on every request.
+ * <p>
+ * Snapshots are kept until the resource is invalidated. Components that change the underlying
+ * data (item registry changes, item state changes, configuration changes) are responsible to call
+ * {@link #invalidate(String)}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotCache {
+    public static final String LIGHTS = "lights";
+    public static final String GROUPS = "groups";
+    public static final String SENSORS = "sensors";
+
+    /**
+     * A serialized resource and its entity tag
+     */
+    public static class Snapshot {
+        public final byte[] content;
+        public final EntityTag etag;
+
+        Snapshot(byte[] content) {
+            this.content = content;
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            this.etag = new EntityTag(Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length));
+        }
+    }
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private long generation = 0;
+
+    /**
+     * Returns the snapshot of the given resource, serializing it if no valid snapshot exists.
+     *
+     * @param resource Any of LIGHTS, GROUPS, SENSORS
+     * @param id The id of a single entry of the resource, or null for the whole resource
+     * @param serializer Creates the json representation
+     * @return The snapshot
+     */
+    public Snapshot get(String resource, @Nullable String id, Supplier<String> serializer) {
+        final String key = id == null ? resource : resource + "/" + id;
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        final long expectedGeneration;
+        synchronized (this) {
+            expectedGeneration = generation;
+        }
+        snapshot = new Snapshot(serializer.get().getBytes(StandardCharsets.UTF_8));
+        synchronized (this) {
+            // Do not store snapshots that have been invalidated while serializing
+            if (expectedGeneration == generation) {
+                snapshots.put(key, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the snapshots of the given resource, including the snapshots of all single entries.
+     *
+     * @param resource Any of LIGHTS, GROUPS, SENSORS
+     */
+    public synchronized void invalidate(String resource) {
+        ++generation;
+        final String prefix = resource + "/";
+        snapshots.keySet().removeIf(key -> key.equals(resource) || key.startsWith(prefix));
+    }
+
+    /**
+     * Drops all snapshots.
+     */
+    public synchronized void invalidateAll() {
+        ++generation;
+        snapshots.clear();
+    }
+
+    /**
+     * Creates a response for the given snapshot. If the client already has the current
+     * representation (If-None-Match), a "304 Not Modified" response without content is returned.
+     *
+     * @param request The request
+     * @param snapshot The snapshot
+     * @return A response with ETag header
+     */
+    public static Response response(Request request, Snapshot snapshot) {
+        ResponseBuilder builder = request.evaluatePreconditions(snapshot.etag);
+        if (builder == null) {
+            builder = Response.ok(snapshot.content);
+        }
+        return builder.tag(snapshot.etag).build();
+    }
+}
@@ -27,6 +27,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -38,13 +39,16 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.StateChangeListener;
 import org.openhab.core.items.events.ItemEventFactory;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
+import org.openhab.io.hueemulation.internal.SnapshotCache;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
 import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
@@ -118,12 +122,33 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    /**
+     * The serialized lights and groups contain the item states. Drop the lights or groups snapshots on every state
+     * change of an exposed item.
+     */
+    private final StateChangeListener stateChangeListener = new StateChangeListener() {
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            if (item instanceof GroupItem && !item.hasTag(EXPOSE_AS_DEVICE_TAG)) {
+                cs.snapshots.invalidate(SnapshotCache.GROUPS);
+            } else {
+                cs.snapshots.invalidate(SnapshotCache.LIGHTS);
+            }
+        }
+
+        @Override
+        public void stateUpdated(Item item, State state) {
+        }
+    };
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      */
     @Activate
     protected void activate() {
         cs.ds.resetGroupsAndLights();
+        cs.snapshots.invalidate(SnapshotCache.LIGHTS);
+        cs.snapshots.invalidate(SnapshotCache.GROUPS);
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -139,6 +164,15 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Deactivate
     protected void deactivate() {
         itemRegistry.removeRegistryChangeListener(this);
+        for (HueLightEntry light : cs.ds.lights.values()) {
+            light.item.removeStateChangeListener(stateChangeListener);
+        }
+        for (HueGroupEntry group : cs.ds.groups.values()) {
+            GroupItem groupItem = group.groupItem;
+            if (groupItem != null) {
+                groupItem.removeStateChangeListener(stateChangeListener);
+            }
+        }
     }
 
     @Override
@@ -158,6 +192,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         }
 
         String hueID = cs.mapItemUIDtoHueID(element);
+        invalidateSnapshots();
 
         if (element instanceof GroupItem && !element.hasTag(EXPOSE_AS_DEVICE_TAG)) {
             GroupItem g = (GroupItem) element;
@@ -178,15 +213,26 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
                 group.lights.add(cs.mapItemUIDtoHueID(item));
             }
 
+            g.addStateChangeListener(stateChangeListener);
             cs.ds.groups.put(hueID, group);
         } else {
             HueLightEntry device = new HueLightEntry(element, cs.getHueUniqueId(hueID), deviceType);
             device.item = element;
+            element.addStateChangeListener(stateChangeListener);
             cs.ds.lights.put(hueID, device);
             updateGroup0();
         }
     }
 
+    /**
+     * Group 0 contains all lights, and groups refer to lights. Any change to the set of lights or groups
+     * therefore invalidates both resources.
+     */
+    private void invalidateSnapshots() {
+        cs.snapshots.invalidate(SnapshotCache.LIGHTS);
+        cs.snapshots.invalidate(SnapshotCache.GROUPS);
+    }
+
     /**
      * The HUE API enforces a Group 0 that contains all lights.
      */
@@ -199,9 +245,19 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     public synchronized void removed(Item element) {
         String hueID = cs.mapItemUIDtoHueID(element);
         logger.debug("Remove item {}", hueID);
-        cs.ds.lights.remove(hueID);
-        cs.ds.groups.remove(hueID);
+        HueLightEntry hueDevice = cs.ds.lights.remove(hueID);
+        if (hueDevice != null) {
+            hueDevice.item.removeStateChangeListener(stateChangeListener);
+        }
+        HueGroupEntry hueGroup = cs.ds.groups.remove(hueID);
+        if (hueGroup != null) {
+            GroupItem groupItem = hueGroup.groupItem;
+            if (groupItem != null) {
+                groupItem.removeStateChangeListener(stateChangeListener);
+            }
+        }
         updateGroup0();
+        invalidateSnapshots();
     }
 
     /**
@@ -216,12 +272,18 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         GenericItem element = (GenericItem) newElement;
 
         String hueID = cs.mapItemUIDtoHueID(element);
+        invalidateSnapshots();
 
         HueGroupEntry hueGroup = cs.ds.groups.get(hueID);
         if (hueGroup != null) {
+            GroupItem oldGroupItem = hueGroup.groupItem;
+            if (oldGroupItem != null) {
+                oldGroupItem.removeStateChangeListener(stateChangeListener);
+            }
             DeviceType t = StateUtils.determineTargetType(cs, element);
             if (t != null && element instanceof GroupItem) {
                 hueGroup.updateItem((GroupItem) element);
+                element.addStateChangeListener(stateChangeListener);
             } else {
                 cs.ds.groups.remove(hueID);
             }
@@ -241,18 +303,21 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             return;
         }
 
+        hueDevice.item.removeStateChangeListener(stateChangeListener);
         hueDevice.updateItem(element);
+        element.addStateChangeListener(stateChangeListener);
     }
 
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.LIGHTS, null, () -> cs.gson.toJson(cs.ds.lights)));
     }
 
     @GET
@@ -282,13 +347,17 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights/{id}")
     @Operation(summary = "Return a light", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getLightApi(@Context UriInfo uri, //
+    public Response getLightApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "light id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        if (!cs.ds.lights.containsKey(id)) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.LIGHTS, id, () -> cs.gson.toJson(cs.ds.lights.get(id))));
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -383,6 +452,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             }
             hueDevice.lastCommand = command;
             hueDevice.lastHueChange = newState;
+            cs.snapshots.invalidate(SnapshotCache.LIGHTS);
         }
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
@@ -418,6 +488,8 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         List<HueResponse> responses = new ArrayList<>();
         Command command = StateUtils.computeCommandByState(responses, "/groups/" + id + "/state/", hueDevice.action,
                 state);
+        // The action has been synchronized with the item state and the requested change
+        cs.snapshots.invalidate(SnapshotCache.GROUPS);
 
         // If a command could be created, post it to the framework now
         if (command != null) {
@@ -438,24 +510,29 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.GROUPS, null, () -> cs.gson.toJson(cs.ds.groups)));
     }
 
     @GET
     @Path("{username}/groups/{id}")
     @Operation(summary = "Return a group", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getGroupApi(@Context UriInfo uri, //
+    public Response getGroupApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "group id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        if (!cs.ds.groups.containsKey(id)) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.GROUPS, id, () -> cs.gson.toJson(cs.ds.groups.get(id))));
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -26,6 +26,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -34,10 +35,13 @@ import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.StateChangeListener;
 import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.types.State;
 import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
+import org.openhab.io.hueemulation.internal.SnapshotCache;
 import org.openhab.io.hueemulation.internal.dto.HueNewLights;
 import org.openhab.io.hueemulation.internal.dto.HueSensorEntry;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueChangeRequest;
@@ -82,6 +86,21 @@ public class Sensors implements RegistryChangeListener<Item> {
     @Reference
     protected @NonNullByDefault({}) ItemRegistry itemRegistry;
 
+    /**
+     * The serialized sensors contain the item states. Drop the sensors snapshots on every state change
+     * of an exposed item.
+     */
+    private final StateChangeListener stateChangeListener = new StateChangeListener() {
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            cs.snapshots.invalidate(SnapshotCache.SENSORS);
+        }
+
+        @Override
+        public void stateUpdated(Item item, State state) {
+        }
+    };
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      * Call {@link #close(ItemRegistry)} when you are done with this object.
@@ -91,6 +110,7 @@ public class Sensors implements RegistryChangeListener<Item> {
     @Activate
     protected void activate() {
         cs.ds.resetSensors();
+        cs.snapshots.invalidate(SnapshotCache.SENSORS);
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -108,6 +128,9 @@ public class Sensors implements RegistryChangeListener<Item> {
     @Deactivate
     protected void deactivate() {
         itemRegistry.removeRegistryChangeListener(this);
+        for (HueSensorEntry sensor : cs.ds.sensors.values()) {
+            sensor.item.removeStateChangeListener(stateChangeListener);
+        }
     }
 
     @Override
@@ -124,14 +147,27 @@ public class Sensors implements RegistryChangeListener<Item> {
         String hueID = cs.mapItemUIDtoHueID(element);
 
         HueSensorEntry sensor = new HueSensorEntry(element);
-        cs.ds.sensors.put(hueID, sensor);
+        element.addStateChangeListener(stateChangeListener);
+        putSensor(hueID, sensor);
     }
 
     @Override
     public synchronized void removed(Item element) {
         String hueID = cs.mapItemUIDtoHueID(element);
         logger.debug("Remove item {}", hueID);
-        cs.ds.sensors.remove(hueID);
+        HueSensorEntry sensor = cs.ds.sensors.remove(hueID);
+        if (sensor != null) {
+            sensor.item.removeStateChangeListener(stateChangeListener);
+        }
+        cs.snapshots.invalidate(SnapshotCache.SENSORS);
+    }
+
+    private void putSensor(String hueID, HueSensorEntry sensor) {
+        HueSensorEntry oldSensor = cs.ds.sensors.put(hueID, sensor);
+        if (oldSensor != null && oldSensor.item != sensor.item) {
+            oldSensor.item.removeStateChangeListener(stateChangeListener);
+        }
+        cs.snapshots.invalidate(SnapshotCache.SENSORS);
     }
 
     @Override
@@ -144,18 +180,20 @@ public class Sensors implements RegistryChangeListener<Item> {
         String hueID = cs.mapItemUIDtoHueID(element);
 
         HueSensorEntry sensor = new HueSensorEntry(element);
-        cs.ds.sensors.put(hueID, sensor);
+        element.addStateChangeListener(stateChangeListener);
+        putSensor(hueID, sensor);
     }
 
     @GET
     @Path("{username}/sensors")
     @Operation(summary = "Return all sensors", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllSensorsApi(@Context UriInfo uri,
+    public Response getAllSensorsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.sensors)).build();
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.SENSORS, null, () -> cs.gson.toJson(cs.ds.sensors)));
     }
 
     @GET
@@ -185,13 +223,17 @@ public class Sensors implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/sensors/{id}")
     @Operation(summary = "Return a sensor", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getSensorApi(@Context UriInfo uri, //
+    public Response getSensorApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "sensor id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.sensors.get(id))).build();
+        if (!cs.ds.sensors.containsKey(id)) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return SnapshotCache.response(request,
+                cs.snapshots.get(SnapshotCache.SENSORS, id, () -> cs.gson.toJson(cs.ds.sensors.get(id))));
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -186,6 +186,12 @@ public class CommonSetup {
         return client.newRequest(basePath + path).method(HttpMethod.GET).send();
     }
 
+    public ContentResponse sendGet(String path, String ifNoneMatch)
+            throws InterruptedException, TimeoutException, ExecutionException {
+        return client.newRequest(basePath + path).method(HttpMethod.GET).header(HttpHeader.IF_NONE_MATCH, ifNoneMatch)
+                .send();
+    }
+
     public ContentResponse sendPost(String content) throws InterruptedException, TimeoutException, ExecutionException {
         return client.newRequest(basePath).method(HttpMethod.POST).header(HttpHeader.CONTENT_TYPE, "application/json")
                 .content(new StringContentProvider(content)).send();
@@ -22,6 +22,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -327,6 +328,77 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsSnapshotWithETag() throws Exception {
+        SwitchItem item = new SwitchItem("switch1");
+        item.setLabel("labelOld");
+        item.addTag("Switchable");
+        itemRegistry.add(item);
+        String hueID = cs.mapItemUIDtoHueID(item);
+
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(etag, notNullValue());
+        assertThat(response.getContentAsString(), containsString("labelOld"));
+
+        // Unchanged lights -> not modified
+        response = commonSetup.sendGet("/testuser/lights", etag);
+        assertEquals(304, response.getStatus());
+
+        // An item update invalidates the snapshot
+        SwitchItem newitem = new SwitchItem("switch1");
+        newitem.setLabel("labelNew");
+        newitem.addTag("Switchable");
+        subject.updated(item, newitem);
+
+        response = commonSetup.sendGet("/testuser/lights", etag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), not(is(etag)));
+        assertThat(response.getContentAsString(), containsString("labelNew"));
+
+        // Single light snapshot
+        response = commonSetup.sendGet("/testuser/lights/" + hueID);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getContentAsString(), containsString("labelNew"));
+        response = commonSetup.sendGet("/testuser/lights/" + hueID, response.getHeaders().get(HttpHeader.ETAG));
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    public void allGroupsSnapshotInvalidatedByGroupState() throws Exception {
+        GroupItem item = new GroupItem("group1", new SwitchItem("switch1"));
+        item.addTag("Switchable");
+        itemRegistry.add(item);
+
+        ContentResponse response = commonSetup.sendGet("/testuser/groups");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        response = commonSetup.sendGet("/testuser/groups", etag);
+        assertEquals(304, response.getStatus());
+
+        // A state change of the group item invalidates the snapshot
+        item.setState(OnOffType.ON);
+        response = commonSetup.sendGet("/testuser/groups", etag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), not(is(etag)));
+    }
+
+    @Test
+    public void allGroupsSnapshotInvalidatedByGroupAction() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/groups");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(response.getContentAsString(), containsString("\"on\":false"));
+
+        response = commonSetup.sendPut("/testuser/groups/10/action", "{'on':true}");
+        assertEquals(200, response.getStatus());
+
+        response = commonSetup.sendGet("/testuser/groups", etag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getContentAsString(), containsString("\"on\":true"));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
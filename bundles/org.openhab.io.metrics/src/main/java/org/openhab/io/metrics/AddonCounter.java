@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link AddonCounter} counts events, e.g. dropped messages.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class AddonCounter extends AddonMeter {
+    private volatile @Nullable Counter counter;
+
+    AddonCounter(String name, Tags tags) {
+        super(name, tags);
+    }
+
+    public void increment() {
+        Counter counter = this.counter;
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    public void increment(double amount) {
+        Counter counter = this.counter;
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+
+    @Override
+    void bind(MeterRegistry registry) {
+        counter = Counter.builder(name).tags(tags).register(registry);
+    }
+
+    @Override
+    void unbind(MeterRegistry registry) {
+        Counter counter = this.counter;
+        this.counter = null;
+        remove(registry, counter);
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link AddonGauge} reports a value that goes up and down, e.g. a queue depth.
+ * <p>
+ * The value is kept by the handle itself and only sampled when the registry is scraped or published, so updating it
+ * is a single atomic write.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class AddonGauge extends AddonMeter {
+    private final AtomicLong value = new AtomicLong();
+    private volatile @Nullable Gauge gauge;
+
+    AddonGauge(String name, Tags tags) {
+        super(name, tags);
+    }
+
+    public void set(long value) {
+        this.value.set(value);
+    }
+
+    public void increment() {
+        value.incrementAndGet();
+    }
+
+    public void decrement() {
+        value.decrementAndGet();
+    }
+
+    public long get() {
+        return value.get();
+    }
+
+    @Override
+    void bind(MeterRegistry registry) {
+        gauge = Gauge.builder(name, value, AtomicLong::get).tags(tags).register(registry);
+    }
+
+    @Override
+    void unbind(MeterRegistry registry) {
+        Gauge gauge = this.gauge;
+        this.gauge = null;
+        remove(registry, gauge);
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link AddonMeter} is the common base of the meter handles handed out by {@link AddonMetrics}.
+ * <p>
+ * A handle exists independently of any {@link MeterRegistry}. As long as no registry is bound, recording is a no-op
+ * apart from reading a volatile field, so handles can be created once and used on hot paths unconditionally.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public abstract class AddonMeter {
+    protected final String name;
+    protected final Tags tags;
+
+    AddonMeter(String name, Tags tags) {
+        this.name = name;
+        this.tags = tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Registers the underlying Micrometer meter with the given registry.
+     *
+     * @param registry the registry to register with
+     */
+    abstract void bind(MeterRegistry registry);
+
+    /**
+     * Removes the underlying Micrometer meter from the given registry and turns this handle into a no-op.
+     *
+     * @param registry the registry to remove the meter from
+     */
+    abstract void unbind(MeterRegistry registry);
+
+    protected static void remove(MeterRegistry registry, @Nullable Meter meter) {
+        if (meter != null) {
+            registry.remove(meter);
+        }
+    }
+}
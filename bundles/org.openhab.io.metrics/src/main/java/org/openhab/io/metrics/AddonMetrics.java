@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link AddonMetrics} class is the entry point for add-ons (persistence services, transports, bindings) that
+ * want to expose their own metrics through the metrics service.
+ * <p>
+ * Meter handles are created once, typically when a service is activated, and can be used on hot paths afterwards:
+ * recording does not allocate and is a no-op as long as the metrics service is not running. When the metrics service
+ * starts, all handles created so far are registered with the openHAB meter registry and thus show up in the
+ * Prometheus endpoint as well as in all enabled exporters.
+ * <p>
+ * Handles are identified by type, name and tags, requesting the same meter twice returns the same handle.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class AddonMetrics {
+    private static final Map<String, AddonMeter> METERS = new ConcurrentHashMap<>();
+    private static @Nullable MeterRegistry registry;
+
+    private AddonMetrics() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns a timer handle.
+     *
+     * @param name the meter name, e.g. "openhab.persistence.store"
+     * @param tags tag keys and values, alternating
+     * @return the timer
+     */
+    public static AddonTimer timer(String name, String... tags) {
+        return (AddonTimer) getOrCreate("timer", name, tags, AddonTimer::new);
+    }
+
+    /**
+     * Returns a counter handle.
+     *
+     * @param name the meter name, e.g. "openhab.persistence.dropped"
+     * @param tags tag keys and values, alternating
+     * @return the counter
+     */
+    public static AddonCounter counter(String name, String... tags) {
+        return (AddonCounter) getOrCreate("counter", name, tags, AddonCounter::new);
+    }
+
+    /**
+     * Returns a gauge handle.
+     *
+     * @param name the meter name, e.g. "openhab.persistence.queue.size"
+     * @param tags tag keys and values, alternating
+     * @return the gauge
+     */
+    public static AddonGauge gauge(String name, String... tags) {
+        return (AddonGauge) getOrCreate("gauge", name, tags, AddonGauge::new);
+    }
+
+    /**
+     * Unregisters and forgets the given meter handle, e.g. when the service owning it is deactivated. The handle
+     * becomes a no-op.
+     *
+     * @param meter the meter to remove
+     */
+    public static synchronized void remove(AddonMeter meter) {
+        if (METERS.values().remove(meter)) {
+            MeterRegistry registry = AddonMetrics.registry;
+            if (registry != null) {
+                meter.unbind(registry);
+            }
+        }
+    }
+
+    private static synchronized AddonMeter getOrCreate(String type, String name, String[] tags,
+            BiFunction<String, Tags, AddonMeter> factory) {
+        Tags meterTags = Tags.of(tags);
+        String key = type + ":" + name + ":" + String.join(",", tags);
+        AddonMeter meter = METERS.get(key);
+        if (meter == null) {
+            meter = factory.apply(name, meterTags);
+            MeterRegistry registry = AddonMetrics.registry;
+            if (registry != null) {
+                meter.bind(registry);
+            }
+            METERS.put(key, meter);
+        }
+        return meter;
+    }
+
+    /**
+     * Registers all existing and future meter handles with the given registry.
+     *
+     * @param registry the openHAB meter registry
+     */
+    static synchronized void bind(MeterRegistry registry) {
+        unbind();
+        AddonMetrics.registry = registry;
+        METERS.values().forEach(meter -> meter.bind(registry));
+    }
+
+    /**
+     * Removes all meter handles from the currently bound registry.
+     */
+    static synchronized void unbind() {
+        MeterRegistry registry = AddonMetrics.registry;
+        if (registry != null) {
+            METERS.values().forEach(meter -> meter.unbind(registry));
+            AddonMetrics.registry = null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link AddonTimer} records latencies, e.g. of store or query operations.
+ * <p>
+ * Usage on a hot path does not allocate:
+ *
+ * <pre>
+ * long start = timer.start();
+ * doWork();
+ * timer.stop(start);
+ * </pre>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class AddonTimer extends AddonMeter {
+    private volatile @Nullable Timer timer;
+
+    AddonTimer(String name, Tags tags) {
+        super(name, tags);
+    }
+
+    /**
+     * Returns a start timestamp to be passed to {@link #stop(long)}.
+     *
+     * @return the current value of the high-resolution time source in nanoseconds
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since the given start timestamp.
+     *
+     * @param start a timestamp obtained from {@link #start()}
+     */
+    public void stop(long start) {
+        Timer timer = this.timer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        Timer timer = this.timer;
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    void bind(MeterRegistry registry) {
+        timer = Timer.builder(name).tags(tags).register(registry);
+    }
+
+    @Override
+    void unbind(MeterRegistry registry) {
+        Timer timer = this.timer;
+        this.timer = null;
+        remove(registry, timer);
+    }
+}
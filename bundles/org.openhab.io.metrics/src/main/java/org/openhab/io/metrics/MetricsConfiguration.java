@@ -22,6 +22,10 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class MetricsConfiguration {
+    public static final int DEFAULT_PROMETHEUS_CACHE_TIME = 1000;
+
+    public int prometheusCacheTimeInMilliseconds = DEFAULT_PROMETHEUS_CACHE_TIME;
+
     public boolean influxMetricsEnabled = false;
     public String influxURL = "http://localhost:8086";
     public String influxDB = "openhab";
@@ -33,7 +37,8 @@ public class MetricsConfiguration {
 
     @Override
     public String toString() {
-        return "MetricsConfiguration{" + "influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
+        return "MetricsConfiguration{" + "prometheusCacheTimeInMilliseconds=" + prometheusCacheTimeInMilliseconds
+                + ", influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
                 + '\'' + ", influxDB='" + influxDB + '\'' + ", influxPassword='" + influxPassword + '\''
                 + ", influxUsername='" + influxUsername + '\'' + ", influxUpdateIntervalInSeconds="
                 + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled + '}';
@@ -13,14 +13,20 @@
 package org.openhab.io.metrics;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +39,7 @@ import org.openhab.io.metrics.exporters.InfluxMetricsExporter;
 import org.openhab.io.metrics.exporters.JmxMetricsExporter;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
@@ -46,6 +53,7 @@ import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -71,16 +79,23 @@ public class MetricsRestController {
     private @Nullable CompositeMeterRegistry meterRegistry;
     private final PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(
             PrometheusConfig.DEFAULT);
+    private final PrometheusScrapeCache scrapeCache = new PrometheusScrapeCache(
+            prometheusMeterRegistry.getPrometheusRegistry(), MetricsConfiguration.DEFAULT_PROMETHEUS_CACHE_TIME);
     private final Set<MetricsExporter> metricsExporters = new HashSet<>();
     private @Nullable MetricsConfiguration config;
 
     @GET
     @Path("/prometheus")
-    @Produces(MediaType.TEXT_PLAIN)
+    @Produces({ MediaType.TEXT_PLAIN, "application/openmetrics-text" })
     @Operation(operationId = "getPrometheusMetrics", summary = "Gets openHAB system and core metrics in a Prometheus compatible format.", responses = {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = String.class))) })
-    public String getPrometheusMetrics() {
-        return prometheusMeterRegistry.scrape();
+    public Response getPrometheusMetrics(@HeaderParam(HttpHeaders.ACCEPT) @Nullable String accept,
+            @QueryParam("match[]") @Parameter(description = "only return metrics whose name starts with one of the given prefixes") @Nullable List<String> matches) {
+        PrometheusScrapeCache.Format format = PrometheusScrapeCache.Format.fromAcceptHeader(accept);
+        List<String> prefixes = matches == null ? List.of()
+                : matches.stream().filter(match -> !match.isBlank()).map(String::trim).toList();
+        StreamingOutput output = out -> scrapeCache.write(out, format, prefixes);
+        return Response.ok(output, format.contentType).build();
     }
 
     @Reference
@@ -92,6 +107,7 @@ public class MetricsRestController {
         meterRegistry = meterRegistryProvider.getOHMeterRegistry();
         meterRegistry.add(prometheusMeterRegistry);
         this.meterRegistry = meterRegistry;
+        AddonMetrics.bind(meterRegistry);
         logger.debug("Core metrics registry retrieved and Prometheus registry added successfully.");
         updateMeterRegistry();
     }
@@ -105,14 +121,21 @@ public class MetricsRestController {
         updateMeterRegistry();
     }
 
+    @Deactivate
+    protected void deactivate() {
+        AddonMetrics.unbind();
+    }
+
     @Modified
     protected synchronized void modified(Map<@Nullable String, @Nullable Object> configuration) {
         updateConfig(configuration);
     }
 
     private void updateConfig(@Nullable Map<@Nullable String, @Nullable Object> configuration) {
-        this.config = new Configuration(configuration).as(MetricsConfiguration.class);
-        logger.debug("Configuration: {}", this.config);
+        MetricsConfiguration config = new Configuration(configuration).as(MetricsConfiguration.class);
+        this.config = config;
+        logger.debug("Configuration: {}", config);
+        scrapeCache.setTtl(config.prometheusCacheTimeInMilliseconds);
         this.metricsExporters.forEach(e -> e.updateExporterState(config));
     }
 
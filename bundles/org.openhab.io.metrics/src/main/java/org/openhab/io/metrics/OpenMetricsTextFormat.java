@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Enumeration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+
+/**
+ * The {@link OpenMetricsTextFormat} writes metric family samples in the OpenMetrics 1.0.0 text format.
+ * <p>
+ * The Prometheus client library shipped with Micrometer only supports the 0.0.4 text format, which differs in the
+ * naming of counter families, HELP escaping, timestamp units and the mandatory EOF marker.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+final class OpenMetricsTextFormat {
+    static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final String TOTAL_SUFFIX = "_total";
+
+    private OpenMetricsTextFormat() {
+        // prevent instantiation
+    }
+
+    static void write(Writer writer, Enumeration<MetricFamilySamples> families) throws IOException {
+        while (families.hasMoreElements()) {
+            MetricFamilySamples family = families.nextElement();
+            String name = family.name;
+            String type = typeOf(family);
+            if ("counter".equals(type)) {
+                if (name.endsWith(TOTAL_SUFFIX)) {
+                    name = name.substring(0, name.length() - TOTAL_SUFFIX.length());
+                } else {
+                    // counter samples must be named <family>_total, which is not the case here
+                    type = "unknown";
+                }
+            }
+
+            writer.write("# TYPE ");
+            writer.write(name);
+            writer.write(' ');
+            writer.write(type);
+            writer.write('\n');
+            if (!family.help.isEmpty()) {
+                writer.write("# HELP ");
+                writer.write(name);
+                writer.write(' ');
+                writeEscaped(writer, family.help);
+                writer.write('\n');
+            }
+
+            for (Sample sample : family.samples) {
+                writer.write(sample.name);
+                if (!sample.labelNames.isEmpty()) {
+                    writer.write('{');
+                    for (int i = 0; i < sample.labelNames.size(); i++) {
+                        if (i > 0) {
+                            writer.write(',');
+                        }
+                        writer.write(sample.labelNames.get(i));
+                        writer.write("=\"");
+                        writeEscaped(writer, sample.labelValues.get(i));
+                        writer.write('"');
+                    }
+                    writer.write('}');
+                }
+                writer.write(' ');
+                writer.write(Collector.doubleToGoString(sample.value));
+                Long timestampMs = sample.timestampMs;
+                if (timestampMs != null) {
+                    // OpenMetrics timestamps are in seconds
+                    writer.write(' ');
+                    writer.write(Long.toString(timestampMs / 1000));
+                    writer.write('.');
+                    String millis = Long.toString(timestampMs % 1000);
+                    writer.write("000", 0, 3 - millis.length());
+                    writer.write(millis);
+                }
+                writer.write('\n');
+            }
+        }
+        writer.write("# EOF\n");
+    }
+
+    private static String typeOf(MetricFamilySamples family) {
+        return switch (family.type) {
+            case COUNTER -> "counter";
+            case GAUGE -> "gauge";
+            case SUMMARY -> "summary";
+            case HISTOGRAM -> "histogram";
+            default -> "unknown";
+        };
+    }
+
+    private static void writeEscaped(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link PersistenceMeters} class bundles the predefined meters of a persistence service, so that all services
+ * report under the same names and can be compared on a single dashboard.
+ * All meters are tagged with the id of the persistence service.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public final class PersistenceMeters {
+    public static final String METRIC_STORE = "openhab.persistence.store";
+    public static final String METRIC_QUERY = "openhab.persistence.query";
+    public static final String METRIC_QUEUE_SIZE = "openhab.persistence.queue.size";
+    public static final String METRIC_DROPPED = "openhab.persistence.dropped";
+    public static final String TAG_SERVICE = "service";
+
+    /** Latency of writing values to the database */
+    public final AddonTimer store;
+    /** Latency of queries */
+    public final AddonTimer query;
+    /** Number of values waiting to be written */
+    public final AddonGauge queueSize;
+    /** Number of values that could not be written */
+    public final AddonCounter dropped;
+
+    private PersistenceMeters(String serviceId) {
+        store = AddonMetrics.timer(METRIC_STORE, TAG_SERVICE, serviceId);
+        query = AddonMetrics.timer(METRIC_QUERY, TAG_SERVICE, serviceId);
+        queueSize = AddonMetrics.gauge(METRIC_QUEUE_SIZE, TAG_SERVICE, serviceId);
+        dropped = AddonMetrics.counter(METRIC_DROPPED, TAG_SERVICE, serviceId);
+    }
+
+    /**
+     * Returns the meters of the given persistence service.
+     *
+     * @param serviceId the id of the persistence service, e.g. "influxdb"
+     * @return the meters
+     */
+    public static PersistenceMeters forService(String serviceId) {
+        return new PersistenceMeters(serviceId);
+    }
+
+    /**
+     * Unregisters the meters, e.g. when the persistence service is deactivated.
+     */
+    public void remove() {
+        List.of(store, query, queueSize, dropped).forEach(AddonMetrics::remove);
+    }
+}
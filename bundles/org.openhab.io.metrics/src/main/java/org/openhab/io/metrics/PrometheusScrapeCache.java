@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * The {@link PrometheusScrapeCache} renders the Prometheus registry in the requested exposition format.
+ * <p>
+ * Unfiltered scrapes are kept for a short time and shared by concurrent requests, so that several scrapers (e.g. a
+ * Prometheus HA pair) do not render all meters each. Filtered scrapes are streamed directly to the response.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class PrometheusScrapeCache {
+
+    /**
+     * The supported exposition formats
+     */
+    enum Format {
+        TEXT_004(TextFormat.CONTENT_TYPE_004),
+        OPENMETRICS_100(OpenMetricsTextFormat.CONTENT_TYPE);
+
+        final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        void write(Writer writer, Enumeration<MetricFamilySamples> families) throws IOException {
+            if (this == OPENMETRICS_100) {
+                OpenMetricsTextFormat.write(writer, families);
+            } else {
+                TextFormat.write004(writer, families);
+            }
+        }
+
+        /**
+         * Selects the format from the Accept header of the request. OpenMetrics is only used if explicitly accepted.
+         */
+        static Format fromAcceptHeader(@Nullable String accept) {
+            return accept != null && accept.contains("application/openmetrics-text") ? OPENMETRICS_100 : TEXT_004;
+        }
+    }
+
+    private static class Entry {
+        private byte @Nullable [] content;
+        private long created;
+    }
+
+    private final CollectorRegistry registry;
+    private final Entry[] entries = new Entry[Format.values().length];
+    private volatile long ttlNanos;
+
+    PrometheusScrapeCache(CollectorRegistry registry, int ttlMillis) {
+        this.registry = registry;
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry();
+        }
+        setTtl(ttlMillis);
+    }
+
+    void setTtl(int ttlMillis) {
+        ttlNanos = Math.max(0, ttlMillis) * 1_000_000L;
+    }
+
+    /**
+     * Writes the metrics to the given stream.
+     *
+     * @param out the response stream
+     * @param format the exposition format
+     * @param prefixes if not empty, only metric families whose name starts with one of the prefixes are written
+     */
+    void write(OutputStream out, Format format, List<String> prefixes) throws IOException {
+        if (prefixes.isEmpty() && ttlNanos > 0) {
+            out.write(getCached(format));
+        } else {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            format.write(writer, families(prefixes));
+            writer.flush();
+        }
+    }
+
+    private byte[] getCached(Format format) throws IOException {
+        Entry entry = entries[format.ordinal()];
+        // concurrent requests wait for a single rendering and share its result
+        synchronized (entry) {
+            long now = System.nanoTime();
+            byte[] content = entry.content;
+            if (content == null || now - entry.created > ttlNanos) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(content == null ? 8192 : content.length);
+                Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+                format.write(writer, registry.metricFamilySamples());
+                writer.flush();
+                content = buffer.toByteArray();
+                entry.content = content;
+                entry.created = now;
+            }
+            return content;
+        }
+    }
+
+    private Enumeration<MetricFamilySamples> families(List<String> prefixes) {
+        Enumeration<MetricFamilySamples> all = registry.metricFamilySamples();
+        if (prefixes.isEmpty()) {
+            return all;
+        }
+        return new Enumeration<>() {
+            private @Nullable MetricFamilySamples next = advance();
+
+            private @Nullable MetricFamilySamples advance() {
+                while (all.hasMoreElements()) {
+                    MetricFamilySamples family = all.nextElement();
+                    for (String prefix : prefixes) {
+                        if (family.name.startsWith(prefix)) {
+                            return family;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasMoreElements() {
+                return next != null;
+            }
+
+            @Override
+            public MetricFamilySamples nextElement() {
+                MetricFamilySamples family = next;
+                if (family == null) {
+                    throw new NoSuchElementException();
+                }
+                next = advance();
+                return family;
+            }
+        };
+    }
+}
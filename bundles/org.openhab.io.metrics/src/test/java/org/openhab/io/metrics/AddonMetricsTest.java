@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the registration of {@link AddonMeter} handles by {@link AddonMetrics} when the metrics service binds and
+ * unbinds its registry.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class AddonMetricsTest {
+    private static final String TIMER = "test.store";
+    private static final String COUNTER = "test.dropped";
+    private static final String GAUGE = "test.queue.size";
+
+    private final List<AddonMeter> meters = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        // the handles are kept statically, do not leak them into other tests
+        AddonMetrics.unbind();
+        meters.forEach(AddonMetrics::remove);
+    }
+
+    @Test
+    public void testHandlesCreatedBeforeBindAreRegistered() {
+        AddonTimer timer = timer("service", "before");
+        AddonCounter counter = counter("service", "before");
+        AddonGauge gauge = gauge("service", "before");
+        timer.record(1_000_000);
+        counter.increment();
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AddonMetrics.bind(registry);
+        timer.record(2_000_000);
+        counter.increment(2);
+        gauge.set(5);
+
+        // values recorded without a registry are lost
+        assertEquals(1, findTimer(registry, "before").count());
+        assertEquals(2.0, findCounter(registry, "before").count());
+        assertEquals(5.0, findGauge(registry, "before").value());
+    }
+
+    @Test
+    public void testHandlesCreatedAfterBindAreRegistered() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AddonMetrics.bind(registry);
+
+        AddonTimer timer = timer("service", "after");
+        AddonCounter counter = counter("service", "after");
+        AddonGauge gauge = gauge("service", "after");
+        timer.stop(timer.start());
+        counter.increment();
+        gauge.set(3);
+
+        assertEquals(1, findTimer(registry, "after").count());
+        assertEquals(1.0, findCounter(registry, "after").count());
+        assertEquals(3.0, findGauge(registry, "after").value());
+    }
+
+    @Test
+    public void testSameHandleIsReturned() {
+        assertSame(timer("service", "same"), timer("service", "same"));
+        assertNotSame(timer("service", "same"), timer("service", "other"));
+        assertSame(counter("service", "same"), counter("service", "same"));
+        assertSame(gauge("service", "same"), gauge("service", "same"));
+    }
+
+    @Test
+    public void testUnbindRemovesMeters() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AddonMetrics.bind(registry);
+        AddonTimer timer = timer("service", "unbind");
+        AddonCounter counter = counter("service", "unbind");
+
+        AddonMetrics.unbind();
+        // the handles are no-ops now
+        timer.record(1_000_000);
+        counter.increment();
+
+        assertNull(registry.find(TIMER).timer());
+        assertNull(registry.find(COUNTER).counter());
+    }
+
+    @Test
+    public void testRebindRegistersWithNewRegistry() {
+        MeterRegistry oldRegistry = new SimpleMeterRegistry();
+        AddonMetrics.bind(oldRegistry);
+        AddonTimer timer = timer("service", "rebind");
+        AddonGauge gauge = gauge("service", "rebind");
+        gauge.set(7);
+
+        // the metrics service is restarted, e.g. after a configuration change
+        MeterRegistry newRegistry = new SimpleMeterRegistry();
+        AddonMetrics.bind(newRegistry);
+        timer.record(1_000_000);
+
+        assertNull(oldRegistry.find(TIMER).timer());
+        assertNull(oldRegistry.find(GAUGE).gauge());
+        assertEquals(1, findTimer(newRegistry, "rebind").count());
+        assertEquals(7.0, findGauge(newRegistry, "rebind").value());
+    }
+
+    @Test
+    public void testBindAgainAfterUnbind() {
+        AddonCounter counter = counter("service", "again");
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AddonMetrics.bind(registry);
+        AddonMetrics.unbind();
+
+        AddonMetrics.bind(registry);
+        counter.increment();
+
+        assertEquals(1.0, findCounter(registry, "again").count());
+    }
+
+    @Test
+    public void testRemoveUnregistersMeter() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AddonMetrics.bind(registry);
+        AddonTimer removed = timer("service", "removed");
+        timer("service", "kept");
+
+        AddonMetrics.remove(removed);
+        removed.record(1_000_000);
+
+        assertNull(registry.find(TIMER).tag("service", "removed").timer());
+        assertNotNull(registry.find(TIMER).tag("service", "kept").timer());
+        // a removed handle is not registered again, a new one is created instead
+        AddonTimer recreated = timer("service", "removed");
+        assertNotSame(removed, recreated);
+        assertNotNull(registry.find(TIMER).tag("service", "removed").timer());
+    }
+
+    private AddonTimer timer(String... tags) {
+        return add(AddonMetrics.timer(TIMER, tags));
+    }
+
+    private AddonCounter counter(String... tags) {
+        return add(AddonMetrics.counter(COUNTER, tags));
+    }
+
+    private AddonGauge gauge(String... tags) {
+        return add(AddonMetrics.gauge(GAUGE, tags));
+    }
+
+    private <T extends AddonMeter> T add(T meter) {
+        meters.add(meter);
+        return meter;
+    }
+
+    private static Timer findTimer(MeterRegistry registry, String service) {
+        return notNull(registry.find(TIMER).tag("service", service).timer());
+    }
+
+    private static Counter findCounter(MeterRegistry registry, String service) {
+        return notNull(registry.find(COUNTER).tag("service", service).counter());
+    }
+
+    private static Gauge findGauge(MeterRegistry registry, String service) {
+        return notNull(registry.find(GAUGE).tag("service", service).gauge());
+    }
+
+    private static <T> T notNull(@Nullable T value) {
+        assertNotNull(value);
+        return Objects.requireNonNull(value);
+    }
+}
@@ -53,6 +53,7 @@ import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.openhab.persistence.influxdb.internal.InfluxDBMetrics;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
@@ -112,6 +113,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     // storage
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxDBMetrics metrics = InfluxDBMetrics.create(SERVICE_NAME);
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -157,7 +159,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
         if (!pointsQueue.isEmpty()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+            metrics.dropped(pointsQueue.size());
         }
+        metrics.dispose();
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -214,7 +218,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Queued {} for item {}", point, item);
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
+                metrics.dropped(1);
             }
+            metrics.queueSize(pointsQueue.size());
         });
     }
 
@@ -244,8 +250,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 return List.of();
             }
 
+            long start = metrics.start();
             List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
                     configuration.getRetentionPolicy());
+            metrics.queried(start);
             return results.stream().map(this::mapRowToHistoricItem).collect(Collectors.toList());
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
@@ -283,13 +291,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (!pointsQueue.isEmpty() && checkConnection()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
+            long start = metrics.start();
             if (!influxDBRepository.write(points)) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
                 pointsQueue.addAll(points);
                 influxDBRepository.disconnect();
             } else {
+                metrics.stored(start);
                 logger.trace("Wrote {} elements to database", points.size());
             }
+            metrics.queueSize(pointsQueue.size());
         }
     }
 
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports store/query latency, queue depth and dropped points of the persistence service.
+ * <p>
+ * This class does not depend on the metrics service, which is an optional import. If it is not installed, all
+ * methods are no-ops. Otherwise {@link #create(String)} returns an {@link InfluxDBMeters} instance.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBMetrics {
+
+    /**
+     * Creates the metrics for the given persistence service.
+     *
+     * @param serviceId the id of the persistence service
+     * @return metered instance if the metrics service is available, a no-op instance otherwise
+     */
+    public static InfluxDBMetrics create(String serviceId) {
+        try {
+            return new InfluxDBMeters(serviceId);
+        } catch (LinkageError e) {
+            Logger logger = LoggerFactory.getLogger(InfluxDBMetrics.class);
+            logger.debug("Metrics service not available, InfluxDB metrics disabled.");
+            return new InfluxDBMetrics();
+        }
+    }
+
+    public long start() {
+        return 0;
+    }
+
+    public void stored(long start) {
+    }
+
+    public void queried(long start) {
+    }
+
+    public void queueSize(int size) {
+    }
+
+    public void dropped(int count) {
+    }
+
+    public void dispose() {
+    }
+}
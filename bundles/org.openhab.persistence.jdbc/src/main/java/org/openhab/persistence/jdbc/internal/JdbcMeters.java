@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.PersistenceMeters;
+
+/**
+ * {@link JdbcMetrics} backed by the predefined {@link PersistenceMeters} of the metrics service.
+ * <p>
+ * Must only be instantiated through {@link JdbcMetrics#create(String)}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class JdbcMeters extends JdbcMetrics {
+    private final PersistenceMeters meters;
+
+    JdbcMeters(String serviceId) {
+        meters = PersistenceMeters.forService(serviceId);
+    }
+
+    @Override
+    public long start() {
+        return meters.store.start();
+    }
+
+    @Override
+    public void stored(long start) {
+        meters.store.stop(start);
+    }
+
+    @Override
+    public void queried(long start) {
+        meters.query.stop(start);
+    }
+
+    @Override
+    public void dropped(int count) {
+        meters.dropped.increment(count);
+    }
+
+    @Override
+    public void dispose() {
+        meters.remove();
+    }
+}
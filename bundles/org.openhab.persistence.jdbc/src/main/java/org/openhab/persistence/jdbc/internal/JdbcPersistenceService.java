@@ -76,6 +76,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
+    private final JdbcMetrics metrics = JdbcMetrics.create(JdbcPersistenceServiceConstants.SERVICE_ID);
 
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -122,6 +123,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
         initialized = false;
+        metrics.dispose();
     }
 
     @Override
@@ -167,17 +169,21 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
                     state, item, errCnt, conf.getErrReconnectThreshold());
+            metrics.dropped(1);
             return;
         }
         try {
             long timerStart = System.currentTimeMillis();
+            long start = metrics.start();
             storeItemValue(item, state, date);
+            metrics.stored(start);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
             }
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
+            metrics.dropped(1);
         }
     }
 
@@ -239,7 +245,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         try {
             long timerStart = System.currentTimeMillis();
+            long start = metrics.start();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            metrics.queried(start);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
                         System.currentTimeMillis() - timerStart);
@@ -75,6 +75,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final MapDbMetrics metrics = MapDbMetrics.create(SERVICE_ID);
 
     /**
      * holds the local instance of the MapDB database
@@ -148,6 +149,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         if (db != null) {
             db.close();
         }
+        metrics.dispose();
     }
 
     @Override
@@ -187,20 +189,25 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setState(state);
         mItem.setTimestamp(new Date());
         threadPool.submit(() -> {
+            long start = metrics.start();
             String json = serialize(mItem);
             map.put(localAlias, json);
             db.commit();
+            metrics.stored(start);
             logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
         });
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = metrics.start();
         String json = map.get(filter.getItemName());
         if (json == null) {
+            metrics.queried(start);
             return List.of();
         }
         Optional<MapDbItem> item = deserialize(json);
+        metrics.queried(start);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
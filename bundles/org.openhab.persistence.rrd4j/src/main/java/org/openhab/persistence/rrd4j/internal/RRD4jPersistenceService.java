@@ -149,6 +149,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private final ScheduledFuture<?> storeJob;
+    private final RRD4jMetrics metrics = RRD4jMetrics.create(SERVICE_ID);
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
@@ -273,6 +274,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        metrics.dispose();
     }
 
     @Override
@@ -335,6 +337,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             logger.debug(
                     "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
                     oldValue, name, now, value);
+            metrics.dropped(1);
         }
     }
 
@@ -346,14 +349,26 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
                 Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                long start = metrics.start();
+                if (writePointToDatabase(key.name, value, key.timestamp)) {
+                    metrics.stored(start);
+                } else {
+                    metrics.dropped(1);
+                }
             } else {
-                return;
+                break;
             }
         }
+        // size() is not a constant-time operation, it is only sampled once per store cycle
+        metrics.queueSize(storageMap.size());
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    /**
+     * Writes a value to the database of the given item.
+     *
+     * @return <code>true</code> if the value has been stored
+     */
+    private synchronized boolean writePointToDatabase(String name, double value, long timestamp) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -361,7 +376,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
         }
         if (db == null) {
-            return;
+            return false;
         }
 
         ConsolFun function = getConsolidationFunction(db);
@@ -386,6 +401,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 logger.debug("Error storing last value (again) for {}: {}", e.getMessage(), name);
             }
         }
+        boolean stored = false;
         try {
             Sample sample = db.createSample();
             sample.setTime(timestamp);
@@ -397,6 +413,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
+            stored = true;
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
@@ -405,6 +422,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (IOException e) {
             logger.debug("Error closing rrd4j database: {}", e.getMessage());
         }
+        return stored;
     }
 
     @Override
@@ -414,6 +432,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = metrics.start();
+        try {
+            return internalQuery(filter);
+        } finally {
+            metrics.queried(start);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         ZonedDateTime filterBeginDate = filter.getBeginDate();
         ZonedDateTime filterEndDate = filter.getEndDate();
         if (filterBeginDate != null && filterEndDate != null && filterBeginDate.isAfter(filterEndDate)) {
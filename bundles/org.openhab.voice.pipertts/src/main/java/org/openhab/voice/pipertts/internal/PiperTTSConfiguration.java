@@ -22,7 +22,20 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class PiperTTSConfiguration {
     /**
-     * Keep last voice model used loaded in memory.
+     * Keep the voice models used loaded in memory.
      */
     boolean preloadModel;
+    /**
+     * Memory in MB available to keep voice models loaded, the least recently used models are unloaded when exceeded.
+     * The last used model is always kept.
+     */
+    int modelMemoryLimit;
+    /**
+     * Comma separated list of voice UIDs to load on startup.
+     */
+    String preloadVoices = "";
+    /**
+     * Synthesize the text sentence by sentence and stream the audio while it is generated.
+     */
+    boolean streamAudio;
 }
@@ -24,12 +24,17 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -99,7 +104,10 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private PiperTTSConfiguration config = new PiperTTSConfiguration();
     private Map<String, List<Voice>> cachedVoicesByModel = new HashMap<>();
     private boolean ready = false;
-    private @Nullable VoiceModel preloadedModel;
+    /**
+     * Voice models kept loaded, by voice UID, in least recently used order. Guarded by {@link #modelLock}.
+     */
+    private final LinkedHashMap<String, VoiceModel> loadedModels = new LinkedHashMap<>(16, 0.75f, true);
     private @Nullable PiperJNI piper;
     private @Nullable Future<?> activateTask;
     static {
@@ -121,6 +129,7 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 piper.initialize(true, false);
                 logger.debug("Using Piper version {}", piper.getPiperVersion());
                 ready = true;
+                preloadVoices();
             } catch (IOException e) {
                 logger.warn("Piper registration failed, the add-on will not work: {}", e.getMessage());
             }
@@ -204,7 +213,7 @@ public class PiperTTSService extends AbstractCachedTTSService {
     @Deactivate
     protected void deactivate(Map<String, Object> config) {
         try {
-            unloadModel();
+            unloadModels();
             getPiper().close();
             piper = null;
         } catch (IOException e) {
@@ -216,10 +225,35 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private void configChange(Map<String, Object> config) {
         this.config = new Configuration(config).as(PiperTTSConfiguration.class);
         try {
-            unloadModel();
+            unloadModels();
         } catch (IOException e) {
             logger.warn("IOException unloading model: {}", e.getMessage());
         }
+        if (ready) {
+            executor.execute(this::preloadVoices);
+        }
+    }
+
+    /**
+     * Loads the voice models configured to be preloaded, so the first synthesis with them does not wait for the model
+     * to be read from disk.
+     */
+    private void preloadVoices() {
+        if (!config.preloadModel || config.preloadVoices.isBlank()) {
+            return;
+        }
+        Set<String> voiceUIDs = Arrays.stream(config.preloadVoices.split(",")).map(String::trim)
+                .filter(uid -> !uid.isEmpty()).collect(Collectors.toSet());
+        for (Voice voice : getAvailableVoices()) {
+            if (voice instanceof PiperTTSVoice ttsVoice && voiceUIDs.contains(ttsVoice.getUID())) {
+                try {
+                    releaseModel(acquireModel(ttsVoice));
+                    logger.debug("Voice model preloaded: {}", ttsVoice.getUID());
+                } catch (TTSException e) {
+                    logger.warn("Unable to preload voice {}: {}", ttsVoice.getUID(), e.getMessage());
+                }
+            }
+        }
     }
 
     private PiperJNI getPiper() throws LibraryNotLoaded {
@@ -339,100 +373,233 @@ public class PiperTTSService extends AbstractCachedTTSService {
         if (!(voice instanceof PiperTTSVoice ttsVoice)) {
             throw new TTSException("No piper voice provided");
         }
-        VoiceModel voiceModel = null;
-        boolean usingPreloadedModel = false;
+        if (config.streamAudio) {
+            List<String> sentences = splitSentences(text, ttsVoice.getLocale());
+            if (sentences.size() > 1) {
+                return synthesizeStream(sentences, ttsVoice, audioFormat);
+            }
+        }
+        VoiceModel voiceModel = acquireModel(ttsVoice);
         short[] buffer;
-        final VoiceModel preloadedModel = this.preloadedModel;
         try {
+            buffer = textToAudio(voiceModel, text);
+        } finally {
+            releaseModel(voiceModel);
+        }
+        try {
+            logger.debug("Return re-encoded audio stream");
+            return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+        } catch (IOException e) {
+            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Synthesizes the text sentence by sentence. The first sentence is synthesized before returning, so errors are
+     * reported to the caller, the remaining sentences are synthesized in the background while the audio of the
+     * previous ones is consumed.
+     */
+    private AudioStream synthesizeStream(List<String> sentences, PiperTTSVoice ttsVoice, AudioFormat audioFormat)
+            throws TTSException {
+        long startTime = System.nanoTime();
+        VoiceModel voiceModel = acquireModel(ttsVoice);
+        PiperTTSStreamingAudioStream stream = new PiperTTSStreamingAudioStream(audioFormat);
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(audioFormat);
+        try {
+            short[] samples = textToAudio(voiceModel, sentences.get(0));
+            stream.write(getStreamingRIFFHeader(jTargetFormat));
+            stream.write(convertSamples(samples, voiceModel.sampleRate, jTargetFormat));
+        } catch (TTSException | IOException | RuntimeException e) {
+            releaseModel(voiceModel);
+            if (e instanceof TTSException ttsException) {
+                throw ttsException;
+            }
+            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+        }
+        logger.debug("Time to first audio: {} ms, remaining sentences: {}",
+                (System.nanoTime() - startTime) / 1000000, sentences.size() - 1);
+        executor.execute(() -> {
             try {
-                if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
-                    logger.debug("Using preloaded voice model");
-                    preloadedModel.consumers.incrementAndGet();
-                    voiceModel = preloadedModel;
-                    usingPreloadedModel = true;
-                } else {
-                    unloadModel();
-                    logger.debug("Loading voice model...");
-                    voiceModel = loadModel(ttsVoice);
-                    synchronized (modelLock) {
-                        usingPreloadedModel = voiceModel.equals(this.preloadedModel);
+                for (String sentence : sentences.subList(1, sentences.size())) {
+                    if (stream.isClosed()) {
+                        logger.debug("Audio stream closed, skipping remaining sentences");
+                        break;
                     }
+                    stream.write(convertSamples(textToAudio(voiceModel, sentence), voiceModel.sampleRate,
+                            jTargetFormat));
                 }
-            } catch (IOException e) {
-                throw new TTSException("Unable to load voice model: " + e.getMessage());
+            } catch (TTSException | IOException | RuntimeException e) {
+                logger.warn("Audio generation stopped: {}", e.getMessage());
+            } finally {
+                stream.finish();
+                releaseModel(voiceModel);
+                logger.debug("Total synthesis time: {} ms", (System.nanoTime() - startTime) / 1000000);
             }
-            try {
-                logger.debug("Generating audio for: '{}'", text);
-                buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
-                logger.debug("Generated {} samples of audio", buffer.length);
-            } catch (IOException e) {
-                throw new TTSException("Voice generation failed: " + e.getMessage());
+        });
+        return stream;
+    }
+
+    private VoiceModel acquireModel(PiperTTSVoice ttsVoice) throws TTSException {
+        try {
+            synchronized (modelLock) {
+                VoiceModel voiceModel = loadedModels.get(ttsVoice.getUID());
+                if (voiceModel != null) {
+                    logger.debug("Using preloaded voice model");
+                    voiceModel.consumers.incrementAndGet();
+                    return voiceModel;
+                }
             }
+            logger.debug("Loading voice model...");
+            return loadModel(ttsVoice);
+        } catch (IOException e) {
+            throw new TTSException("Unable to load voice model: " + e.getMessage());
         } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
             throw new TTSException("Piper not initialized, try restarting the add-on.");
         } catch (RuntimeException e) {
-            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            logger.warn("RuntimeException loading voice model: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
-        } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
-                }
+        }
+    }
+
+    private void releaseModel(VoiceModel voiceModel) {
+        synchronized (modelLock) {
+            if (voiceModel.consumers.decrementAndGet() == 0 && !loadedModels.containsValue(voiceModel)) {
+                logger.debug("Unloading voice model");
+                voiceModel.close();
+            } else {
+                logger.debug("Skipping voice model unload");
             }
         }
+    }
+
+    private short[] textToAudio(VoiceModel voiceModel, String text) throws TTSException {
         try {
-            logger.debug("Return re-encoded audio stream");
-            return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+            logger.debug("Generating audio for: '{}'", text);
+            short[] buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
+            logger.debug("Generated {} samples of audio", buffer.length);
+            return buffer;
         } catch (IOException e) {
-            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+            throw new TTSException("Voice generation failed: " + e.getMessage());
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            throw new TTSException("There was an error running Piper");
         }
     }
 
+    /**
+     * Splits the text into sentences, so they can be synthesized one by one.
+     */
+    static List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+
     private VoiceModel loadModel(PiperTTSVoice voice) throws IOException, PiperJNI.NotInitialized, LibraryNotLoaded {
         if (!Files.exists(voice.voiceModelPath()) || !Files.exists(voice.voiceModelConfigPath())) {
             throw new IOException("Missing voice files");
         }
+        long modelSize = Files.size(voice.voiceModelPath());
+        if (config.preloadModel) {
+            synchronized (modelLock) {
+                // Release memory before loading the new model
+                evictModels(modelSize);
+            }
+        }
         PiperJNI piper = getPiper();
         PiperVoice piperVoice;
         VoiceModel voiceModel;
         piperVoice = piper.loadVoice(voice.voiceModelPath(), voice.voiceModelConfigPath(), voice.speakerId.orElse(-1L));
-        voiceModel = new VoiceModel(voice, piperVoice, piperVoice.getSampleRate(), new AtomicInteger(1), logger);
+        voiceModel = new VoiceModel(voice, piperVoice, piperVoice.getSampleRate(), modelSize, new AtomicInteger(1),
+                logger);
         if (config.preloadModel) {
             synchronized (modelLock) {
-                if (preloadedModel == null) {
-                    logger.debug("Voice model will be kept preloaded");
-                    preloadedModel = voiceModel;
-                } else {
-                    logger.debug("Another voice model already preloaded");
+                VoiceModel loadedModel = loadedModels.get(voice.getUID());
+                if (loadedModel != null) {
+                    logger.debug("Voice model loaded concurrently, using it");
+                    loadedModel.consumers.incrementAndGet();
+                    voiceModel.close();
+                    return loadedModel;
                 }
+                evictModels(modelSize);
+                logger.debug("Voice model will be kept preloaded");
+                loadedModels.put(voice.getUID(), voiceModel);
             }
         }
         return voiceModel;
     }
 
-    private void unloadModel() throws IOException {
-        var model = preloadedModel;
-        if (model != null) {
-            synchronized (modelLock) {
-                preloadedModel = null;
-                if (model.consumers.get() == 0) {
-                    // Do not release the model memory if it's been used, it should be released by the consumer
-                    // when there is no other consumers and is not a ref of the preloaded model object.
-                    logger.debug("Unloading preloaded model");
-                    model.close();
-                } else {
-                    logger.debug("Preloaded model in use, skip memory release");
-                }
+    /**
+     * Removes the least recently used models until a model of the given size fits in the configured memory limit.
+     * The model size is estimated from the size of the model file. Must be called holding {@link #modelLock}.
+     */
+    private void evictModels(long requiredSize) {
+        long memoryLimit = config.modelMemoryLimit * 1024L * 1024L;
+        long usedMemory = loadedModels.values().stream().mapToLong(VoiceModel::size).sum();
+        Iterator<VoiceModel> iterator = loadedModels.values().iterator();
+        while (iterator.hasNext() && usedMemory + requiredSize > memoryLimit) {
+            VoiceModel model = iterator.next();
+            iterator.remove();
+            usedMemory -= model.size();
+            releaseEvictedModel(model);
+        }
+    }
+
+    private void unloadModels() throws IOException {
+        synchronized (modelLock) {
+            Iterator<VoiceModel> iterator = loadedModels.values().iterator();
+            while (iterator.hasNext()) {
+                VoiceModel model = iterator.next();
+                iterator.remove();
+                releaseEvictedModel(model);
             }
         }
     }
 
+    private void releaseEvictedModel(VoiceModel model) {
+        if (model.consumers.get() == 0) {
+            // Do not release the model memory if it's been used, it should be released by the last consumer
+            // as it is no longer referenced by the loaded models.
+            logger.debug("Unloading preloaded model {}", model.ttsVoice.getUID());
+            model.close();
+        } else {
+            logger.debug("Preloaded model {} in use, skip memory release", model.ttsVoice.getUID());
+        }
+    }
+
     private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
             throws IOException {
+        javax.sound.sampled.AudioFormat jTargetFormat = getJavaAudioFormat(targetFormat);
+        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
+        // implementations.
+        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
+        // the length property.
+        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
+        // prepend
+        // the wav header bytes,
+        // and finally initializes an OpenHAB audio stream.
+        return getAudioStreamWithRIFFHeader(convertSamples(samples, sampleRate, jTargetFormat), jTargetFormat,
+                targetFormat);
+    }
+
+    private javax.sound.sampled.AudioFormat getJavaAudioFormat(AudioFormat targetFormat) {
+        return new javax.sound.sampled.AudioFormat(Objects.requireNonNull(targetFormat.getFrequency()),
+                Objects.requireNonNull(targetFormat.getBitDepth()), Objects.requireNonNull(targetFormat.getChannels()),
+                true, false);
+    }
+
+    private byte[] convertSamples(short[] samples, long sampleRate, javax.sound.sampled.AudioFormat jTargetFormat)
+            throws IOException {
         // Convert the i16 samples returned by piper to a byte buffer
         ByteBuffer byteBuffer;
         int numSamples = samples.length;
@@ -449,19 +616,25 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 audioLength);
         // Move the audio data to another Java audio stream in the target format so the Java AudioSystem encoded it as
         // needed.
-        javax.sound.sampled.AudioFormat jTargetFormat = new javax.sound.sampled.AudioFormat(
-                Objects.requireNonNull(targetFormat.getFrequency()), Objects.requireNonNull(targetFormat.getBitDepth()),
-                Objects.requireNonNull(targetFormat.getChannels()), true, false);
         AudioInputStream convertedInputStream = AudioSystem.getAudioInputStream(jTargetFormat, audioInputStreamTemp);
-        // It's required to add the wav header to the byte array stream returned for it to work with all the sink
-        // implementations.
-        // It can not be done with the AudioInputStream returned by AudioSystem::getAudioInputStream because it missed
-        // the length property.
-        // Therefore, the following method creates another AudioInputStream instance and uses the Java AudioSystem to
-        // prepend
-        // the wav header bytes,
-        // and finally initializes an OpenHAB audio stream.
-        return getAudioStreamWithRIFFHeader(convertedInputStream.readAllBytes(), jTargetFormat, targetFormat);
+        return convertedInputStream.readAllBytes();
+    }
+
+    /**
+     * Creates a wav header for a stream of unknown length, the chunk sizes are set to the maximum value.
+     */
+    private byte[] getStreamingRIFFHeader(javax.sound.sampled.AudioFormat jAudioFormat) {
+        int channels = jAudioFormat.getChannels();
+        int sampleRate = (int) jAudioFormat.getSampleRate();
+        int bitDepth = jAudioFormat.getSampleSizeInBits();
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(-1);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16).putShort((short) 1)
+                .putShort((short) channels).putInt(sampleRate).putInt(sampleRate * channels * bitDepth / 8)
+                .putShort((short) (channels * bitDepth / 8)).putShort((short) bitDepth);
+        header.put("data".getBytes(StandardCharsets.US_ASCII)).putInt(-1);
+        return header.array();
     }
 
     private String capitalize(String text) {
@@ -502,8 +675,8 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
     }
 
-    private record VoiceModel(PiperTTSVoice ttsVoice, PiperVoice piperVoice, int sampleRate, AtomicInteger consumers,
-            Logger logger) implements AutoCloseable {
+    private record VoiceModel(PiperTTSVoice ttsVoice, PiperVoice piperVoice, int sampleRate, long size,
+            AtomicInteger consumers, Logger logger) implements AutoCloseable {
 
         @Override
         public void close() {
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link PiperTTSStreamingAudioStream} class is an audio stream that grows while the audio is generated.
+ * Reads block until more audio is written or the stream is finished.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class PiperTTSStreamingAudioStream extends AudioStream {
+    private final AudioFormat format;
+    private final Deque<byte[]> chunks = new ArrayDeque<>();
+    private byte @Nullable [] currentChunk;
+    private int position;
+    private boolean finished;
+    private boolean closed;
+
+    PiperTTSStreamingAudioStream(AudioFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Appends audio data to the stream.
+     *
+     * @param data audio data, must not be modified afterwards
+     */
+    synchronized void write(byte[] data) {
+        if (data.length > 0 && !finished && !closed) {
+            chunks.add(data);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Marks the end of the audio data, readers will get the end of stream after the remaining data.
+     */
+    synchronized void finish() {
+        finished = true;
+        notifyAll();
+    }
+
+    /**
+     * @return true if the consumer closed the stream, so there is no need to generate more audio
+     */
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public synchronized int read(byte @Nullable [] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        byte[] chunk = nextChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public synchronized int available() {
+        byte[] chunk = currentChunk;
+        int available = chunk != null ? chunk.length - position : 0;
+        for (byte[] queued : chunks) {
+            available += queued.length;
+        }
+        return available;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        chunks.clear();
+        currentChunk = null;
+        notifyAll();
+    }
+
+    private byte @Nullable [] nextChunk() throws IOException {
+        byte[] chunk = currentChunk;
+        while (chunk == null || position >= chunk.length) {
+            chunk = chunks.poll();
+            position = 0;
+            if (chunk == null) {
+                if (finished || closed) {
+                    currentChunk = null;
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for audio");
+                }
+            }
+        }
+        currentChunk = chunk;
+        return chunk;
+    }
+}
@@ -93,4 +93,8 @@ public class RustpotterKSConfiguration {
      * High cutoff for the band-pass filter.
      */
     public float highCutoff = 400f;
+    /**
+     * Process the audio of all the running instances in a single processing loop.
+     */
+    public boolean multiStream = false;
 }
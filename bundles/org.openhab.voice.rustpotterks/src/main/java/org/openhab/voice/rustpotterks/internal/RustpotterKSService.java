@@ -71,6 +71,7 @@ public class RustpotterKSService implements KSService {
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-rustpotterks");
     private RustpotterKSConfiguration config = new RustpotterKSConfiguration();
     private final List<RustpotterMutex> runningInstances = new ArrayList<>();
+    private final RustpotterStreamScheduler streamScheduler = new RustpotterStreamScheduler(executor);
 
     @Activate
     protected void activate(Map<String, Object> config) {
@@ -157,8 +158,16 @@ public class RustpotterKSService implements KSService {
         synchronized (this.runningInstances) {
             this.runningInstances.add(rustpotterMutex);
         }
-        executor.submit(
-                () -> processAudioStream(rustpotterMutex, bufferSize, bytesPerMs, ksListener, audioStream, aborted));
+        RustpotterStreamScheduler.Stream stream = null;
+        if (config.multiStream) {
+            long frameNanos = bufferSize * 1000000000L / (frequency * channels * (bitDepth / 8));
+            stream = streamScheduler.register(keyword + "@" + Integer.toHexString(audioStream.hashCode()), bufferSize,
+                    frameNanos, frame -> processFrame(rustpotterMutex, frame, ksListener),
+                    () -> stopInstance(rustpotterMutex));
+        }
+        RustpotterStreamScheduler.Stream schedulerStream = stream;
+        executor.submit(() -> processAudioStream(rustpotterMutex, bufferSize, bytesPerMs, ksListener, audioStream,
+                aborted, schedulerStream));
         return () -> {
             logger.debug("Stopping service");
             aborted.set(true);
@@ -204,7 +213,7 @@ public class RustpotterKSService implements KSService {
     }
 
     private void processAudioStream(RustpotterMutex rustpotter, int bufferSize, long bytesPerMs, KSListener ksListener,
-            AudioStream audioStream, AtomicBoolean aborted) {
+            AudioStream audioStream, AtomicBoolean aborted, RustpotterStreamScheduler.@Nullable Stream stream) {
         int numBytesRead;
         byte[] audioBuffer = new byte[bufferSize];
         int remaining = bufferSize;
@@ -229,24 +238,12 @@ public class RustpotterKSService implements KSService {
                     continue;
                 }
                 remaining = bufferSize;
-                var result = rustpotter.processBytes(audioBuffer);
-                hasFailed = false;
-                if (result.isPresent()) {
-                    var detection = result.get();
-                    if (logger.isDebugEnabled()) {
-                        ArrayList<String> scores = new ArrayList<>();
-                        var scoreNames = detection.getScoreNames().split("\\|\\|");
-                        var scoreValues = detection.getScores();
-                        for (var i = 0; i < Integer.min(scoreNames.length, scoreValues.length); i++) {
-                            scores.add("'" + scoreNames[i] + "': " + scoreValues[i]);
-                        }
-                        logger.debug("Detected '{}' with: Score: {}, AvgScore: {}, Count: {}, Gain: {}, Scores: {}",
-                                detection.getName(), detection.getScore(), detection.getAvgScore(),
-                                detection.getCounter(), detection.getGain(), String.join(", ", scores));
-                    }
-                    detection.delete();
-                    ksListener.ksEventReceived(new KSpottedEvent());
+                if (stream != null) {
+                    stream.submit(audioBuffer);
+                } else {
+                    processFrame(rustpotter, audioBuffer, ksListener);
                 }
+                hasFailed = false;
             } catch (IOException e) {
                 String errorMessage = e.getMessage();
                 ksListener.ksEventReceived(new KSErrorEvent(errorMessage != null ? errorMessage : "Unexpected error"));
@@ -257,6 +254,35 @@ public class RustpotterKSService implements KSService {
                 hasFailed = true;
             }
         }
+        if (stream != null) {
+            // the instance is released by the scheduler once the submitted frames have been processed
+            stream.close();
+        } else {
+            stopInstance(rustpotter);
+        }
+    }
+
+    private void processFrame(RustpotterMutex rustpotter, byte[] audioBuffer, KSListener ksListener) {
+        var result = rustpotter.processBytes(audioBuffer);
+        if (result.isPresent()) {
+            var detection = result.get();
+            if (logger.isDebugEnabled()) {
+                ArrayList<String> scores = new ArrayList<>();
+                var scoreNames = detection.getScoreNames().split("\\|\\|");
+                var scoreValues = detection.getScores();
+                for (var i = 0; i < Integer.min(scoreNames.length, scoreValues.length); i++) {
+                    scores.add("'" + scoreNames[i] + "': " + scoreValues[i]);
+                }
+                logger.debug("Detected '{}' with: Score: {}, AvgScore: {}, Count: {}, Gain: {}, Scores: {}",
+                        detection.getName(), detection.getScore(), detection.getAvgScore(), detection.getCounter(),
+                        detection.getGain(), String.join(", ", scores));
+            }
+            detection.delete();
+            ksListener.ksEventReceived(new KSpottedEvent());
+        }
+    }
+
+    private void stopInstance(RustpotterMutex rustpotter) {
         synchronized (this.runningInstances) {
             this.runningInstances.remove(rustpotter);
         }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.rustpotterks.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RustpotterStreamScheduler} processes the audio frames of several streams in a single processing loop.
+ * The streams keep reading their audio in their own tasks and only hand complete frames over, so the cpu intensive
+ * detection does not run in parallel once per stream.
+ * <p>
+ * Each stream keeps its own detector, its frames are processed in order and it is closed by the processing loop once
+ * its pending frames have been processed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class RustpotterStreamScheduler {
+    /**
+     * Max frames waiting to be processed per stream, newer frames are dropped when exceeded.
+     */
+    private static final int MAX_PENDING_FRAMES = 100;
+    private static final long METRICS_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private final Logger logger = LoggerFactory.getLogger(RustpotterStreamScheduler.class);
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ExecutorService executor;
+    private final BlockingQueue<Frame> frames = new LinkedBlockingQueue<>();
+    private final Set<Stream> streams = new CopyOnWriteArraySet<>();
+    private boolean running;
+
+    RustpotterStreamScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a stream.
+     *
+     * @param name name used on the logs
+     * @param frameSize size in bytes of the frames
+     * @param frameNanos audio duration of a frame
+     * @param processor processes a frame, always called from the processing loop
+     * @param onClose called from the processing loop after the last frame of the stream has been processed
+     * @return the stream to submit the frames to
+     */
+    Stream register(String name, int frameSize, long frameNanos, Consumer<byte[]> processor, Runnable onClose) {
+        Stream stream = new Stream(name, frameSize, frameNanos, processor, onClose);
+        streams.add(stream);
+        synchronized (this) {
+            if (!running) {
+                running = true;
+                executor.submit(this::processFrames);
+            }
+        }
+        logger.debug("Stream {} registered, {} streams running", name, streams.size());
+        return stream;
+    }
+
+    private void processFrames() {
+        logger.debug("Processing loop started");
+        List<Frame> batch = new ArrayList<>();
+        long nextMetricsTime = System.nanoTime() + METRICS_INTERVAL_NANOS;
+        try {
+            while (true) {
+                Frame first = frames.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    synchronized (this) {
+                        if (streams.isEmpty() && frames.isEmpty()) {
+                            running = false;
+                            break;
+                        }
+                    }
+                    continue;
+                }
+                batch.add(first);
+                frames.drainTo(batch);
+                for (Frame frame : batch) {
+                    frame.stream.process(frame.data);
+                }
+                batch.clear();
+                if (logger.isDebugEnabled() && System.nanoTime() - nextMetricsTime > 0) {
+                    nextMetricsTime = System.nanoTime() + METRICS_INTERVAL_NANOS;
+                    streams.forEach(Stream::logMetrics);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Processing loop interrupted");
+            synchronized (this) {
+                running = false;
+            }
+            Thread.currentThread().interrupt();
+        }
+        logger.debug("Processing loop stopped");
+    }
+
+    private long getThreadTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime()
+                : System.nanoTime();
+    }
+
+    private record Frame(Stream stream, byte @Nullable [] data) {
+    }
+
+    /**
+     * An audio stream handled by the scheduler.
+     */
+    class Stream {
+        private final String name;
+        private final int frameSize;
+        private final long frameNanos;
+        private final Consumer<byte[]> processor;
+        private final Runnable onClose;
+        private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingFrames = new AtomicInteger();
+        // metrics, only accessed from the processing loop except droppedFrames
+        private final AtomicInteger droppedFrames = new AtomicInteger();
+        private long processedFrames;
+        private long processingNanos;
+
+        private Stream(String name, int frameSize, long frameNanos, Consumer<byte[]> processor, Runnable onClose) {
+            this.name = name;
+            this.frameSize = frameSize;
+            this.frameNanos = frameNanos;
+            this.processor = processor;
+            this.onClose = onClose;
+        }
+
+        /**
+         * Queues a copy of the frame to be processed.
+         */
+        void submit(byte[] frame) {
+            if (pendingFrames.incrementAndGet() > MAX_PENDING_FRAMES) {
+                pendingFrames.decrementAndGet();
+                if (droppedFrames.getAndIncrement() == 0) {
+                    logger.warn("Stream {} is not processed fast enough, dropping audio", name);
+                }
+                return;
+            }
+            byte[] data = freeBuffers.poll();
+            if (data == null) {
+                data = new byte[frameSize];
+            }
+            System.arraycopy(frame, 0, data, 0, frameSize);
+            frames.add(new Frame(this, data));
+        }
+
+        /**
+         * Stops the stream, the frames already submitted are still processed.
+         */
+        void close() {
+            frames.add(new Frame(this, null));
+        }
+
+        private void process(byte @Nullable [] data) {
+            if (data == null) {
+                streams.remove(this);
+                logMetrics();
+                onClose.run();
+                return;
+            }
+            long startTime = getThreadTime();
+            try {
+                processor.accept(data);
+            } catch (RuntimeException e) {
+                logger.warn("Error processing stream {}: {}", name, e.getMessage());
+            }
+            processingNanos += getThreadTime() - startTime;
+            processedFrames++;
+            pendingFrames.decrementAndGet();
+            freeBuffers.add(data);
+        }
+
+        private void logMetrics() {
+            if (processedFrames == 0) {
+                return;
+            }
+            logger.debug("Stream {}: {} frames processed, {} dropped, {} us per frame, {}% of the audio time", name,
+                    processedFrames, droppedFrames.get(), processingNanos / processedFrames / 1000,
+                    String.format("%.2f", 100.0 * processingNanos / (processedFrames * frameNanos)));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.voskstt.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vosk.Model;
+import org.vosk.Recognizer;
+
+/**
+ * The {@link VoskRecognizerPool} class keeps the recognizers of a model once a recognition has finished, so the next
+ * recognition with the same sample rate and grammar does not need to create a new one.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class VoskRecognizerPool implements AutoCloseable {
+    private static final int MAX_IDLE_RECOGNIZERS = 2;
+    private static final int MAX_POOLED_CONFIGURATIONS = 4;
+    private final Logger logger = LoggerFactory.getLogger(VoskRecognizerPool.class);
+    private final Model model;
+    /**
+     * Idle recognizers by configuration, in least recently used order.
+     */
+    private final Map<RecognizerKey, Deque<Recognizer>> idleRecognizers = new LinkedHashMap<>(8, 0.75f, true);
+    private boolean closed;
+
+    VoskRecognizerPool(Model model) {
+        this.model = model;
+    }
+
+    Model getModel() {
+        return model;
+    }
+
+    /**
+     * Returns an idle recognizer for the given configuration or creates a new one.
+     *
+     * @param sampleRate the audio sample rate
+     * @param grammar json array of the phrases to recognize, or null to use the full model vocabulary
+     * @return a recognizer, to be returned with {@link #release(Recognizer, float, String)}
+     * @throws IOException if the recognizer can not be created
+     */
+    Recognizer acquire(float sampleRate, @Nullable String grammar) throws IOException {
+        RecognizerKey key = new RecognizerKey(sampleRate, grammar);
+        synchronized (this) {
+            Deque<Recognizer> idle = idleRecognizers.get(key);
+            Recognizer recognizer = idle != null ? idle.poll() : null;
+            if (recognizer != null) {
+                logger.debug("Reusing recognizer");
+                return recognizer;
+            }
+        }
+        logger.debug("Creating recognizer");
+        return grammar == null ? new Recognizer(model, sampleRate) : new Recognizer(model, sampleRate, grammar);
+    }
+
+    /**
+     * Resets the recognizer and keeps it for the next recognition, or closes it if enough recognizers are idle.
+     */
+    void release(Recognizer recognizer, float sampleRate, @Nullable String grammar) {
+        recognizer.reset();
+        synchronized (this) {
+            if (!closed) {
+                Deque<Recognizer> idle = idleRecognizers.computeIfAbsent(new RecognizerKey(sampleRate, grammar),
+                        k -> new ArrayDeque<>());
+                if (idle.size() < MAX_IDLE_RECOGNIZERS) {
+                    idle.add(recognizer);
+                    evictConfigurations();
+                    return;
+                }
+            }
+        }
+        recognizer.close();
+    }
+
+    private void evictConfigurations() {
+        Iterator<Deque<Recognizer>> iterator = idleRecognizers.values().iterator();
+        while (idleRecognizers.size() > MAX_POOLED_CONFIGURATIONS && iterator.hasNext()) {
+            iterator.next().forEach(Recognizer::close);
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Closes the idle recognizers, recognizers in use are closed when released.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        idleRecognizers.values().forEach(idle -> idle.forEach(Recognizer::close));
+        idleRecognizers.clear();
+    }
+
+    private record RecognizerKey(float sampleRate, @Nullable String grammar) {
+    }
+}
@@ -46,4 +46,12 @@ public class VoskSTTConfiguration {
      * Keep language model loaded
      */
     public boolean preloadModel = true;
+    /**
+     * Restrict the recognition to the item labels and the grammar phrases.
+     */
+    public boolean grammarMode = false;
+    /**
+     * Comma separated phrases added to the item labels in grammar mode.
+     */
+    public String grammarPhrases = "";
 }
@@ -18,9 +18,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,6 +38,8 @@ import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.LocaleService;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.voice.RecognitionStartEvent;
 import org.openhab.core.voice.RecognitionStopEvent;
 import org.openhab.core.voice.STTException;
@@ -43,6 +48,8 @@ import org.openhab.core.voice.STTService;
 import org.openhab.core.voice.STTServiceHandle;
 import org.openhab.core.voice.SpeechRecognitionErrorEvent;
 import org.openhab.core.voice.SpeechRecognitionEvent;
+import org.openhab.core.voice.SpeechStartEvent;
+import org.openhab.core.voice.SpeechStopEvent;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -82,13 +89,16 @@ public class VoskSTTService implements STTService {
     }
     private final Logger logger = LoggerFactory.getLogger(VoskSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-voskstt");
+    private final ObjectMapper mapper = new ObjectMapper();
     private final LocaleService localeService;
+    private final ItemRegistry itemRegistry;
     private VoskSTTConfiguration config = new VoskSTTConfiguration();
-    private @Nullable Model model;
+    private @Nullable VoskRecognizerPool recognizerPool;
 
     @Activate
-    public VoskSTTService(@Reference LocaleService localeService) {
+    public VoskSTTService(@Reference LocaleService localeService, @Reference ItemRegistry itemRegistry) {
         this.localeService = localeService;
+        this.itemRegistry = itemRegistry;
     }
 
     @Activate
@@ -177,7 +187,7 @@ public class VoskSTTService implements STTService {
             if (AudioFormat.CONTAINER_WAVE.equals(format.getContainer())) {
                 AudioWaveUtils.removeFMT(audioStream);
             }
-            backgroundRecognize(sttListener, audioStream, frequency, aborted);
+            backgroundRecognize(sttListener, audioStream, frequency, getGrammar(set, locale), aborted);
         } catch (IOException e) {
             throw new STTException(e);
         }
@@ -186,50 +196,94 @@ public class VoskSTTService implements STTService {
         };
     }
 
-    private Model getModel() throws IOException, UnsatisfiedLinkError {
-        var model = this.model;
-        if (model != null) {
-            return model;
+    /**
+     * Builds the json grammar of the recognizer when the grammar mode is enabled. The phrases requested by the caller
+     * are used if any, otherwise the item labels and the configured grammar phrases.
+     */
+    private @Nullable String getGrammar(Set<String> grammars, Locale locale) throws IOException {
+        if (!config.grammarMode) {
+            return null;
+        }
+        // Sorted so the same phrases result in the same grammar and the pooled recognizers can be reused
+        Set<String> phrases = new TreeSet<>();
+        if (!grammars.isEmpty()) {
+            grammars.forEach(phrase -> addPhrase(phrases, phrase, locale));
+        } else {
+            for (Item item : itemRegistry.getItems()) {
+                String label = item.getLabel();
+                if (label != null) {
+                    addPhrase(phrases, label, locale);
+                }
+            }
+            for (String phrase : config.grammarPhrases.split(",")) {
+                addPhrase(phrases, phrase, locale);
+            }
+        }
+        if (phrases.isEmpty()) {
+            return null;
+        }
+        List<String> grammar = new ArrayList<>(phrases);
+        grammar.add("[unk]");
+        return mapper.writeValueAsString(grammar);
+    }
+
+    private void addPhrase(Set<String> phrases, String phrase, Locale locale) {
+        String normalized = phrase.trim().toLowerCase(locale);
+        if (!normalized.isEmpty()) {
+            phrases.add(normalized);
+        }
+    }
+
+    private VoskRecognizerPool getRecognizerPool() throws IOException, UnsatisfiedLinkError {
+        var recognizerPool = this.recognizerPool;
+        if (recognizerPool != null) {
+            return recognizerPool;
         }
         return loadModel();
     }
 
-    private Model loadModel() throws IOException, UnsatisfiedLinkError {
+    private VoskRecognizerPool loadModel() throws IOException, UnsatisfiedLinkError {
         unloadModel();
         var modelFile = new File(MODEL_PATH);
         if (!modelFile.exists() || !modelFile.isDirectory()) {
             throw new IOException("missing model dir: " + MODEL_PATH);
         }
         logger.debug("loading model");
-        var model = new Model(MODEL_PATH);
+        var recognizerPool = new VoskRecognizerPool(new Model(MODEL_PATH));
         if (config.preloadModel) {
-            this.model = model;
+            this.recognizerPool = recognizerPool;
         }
-        return model;
+        return recognizerPool;
     }
 
     private void unloadModel() throws IOException {
-        var model = this.model;
-        if (model != null) {
+        var recognizerPool = this.recognizerPool;
+        if (recognizerPool != null) {
             logger.debug("unloading model");
-            model.close();
-            this.model = null;
+            this.recognizerPool = null;
+            recognizerPool.close();
+            recognizerPool.getModel().close();
         }
     }
 
     private Future<?> backgroundRecognize(STTListener sttListener, InputStream audioStream, long frequency,
-            AtomicBoolean aborted) {
+            @Nullable String grammar, AtomicBoolean aborted) {
         StringBuilder transcriptBuilder = new StringBuilder();
         long maxTranscriptionMillis = (config.maxTranscriptionSeconds * 1000L);
         long maxSilenceMillis = (config.maxSilenceSeconds * 1000L);
         long startTime = System.currentTimeMillis();
         return executor.submit(() -> {
             Recognizer recognizer = null;
-            Model model = null;
+            VoskRecognizerPool recognizerPool = null;
+            boolean preloaded = false;
             try {
-                model = getModel();
-                recognizer = new Recognizer(model, frequency);
+                recognizerPool = getRecognizerPool();
+                preloaded = recognizerPool == this.recognizerPool;
+                recognizer = recognizerPool.acquire(frequency, grammar);
                 long lastInputTime = System.currentTimeMillis();
+                String lastPartial = "";
+                boolean speechStarted = false;
+                boolean pendingAudio = false;
                 int nbytes;
                 byte[] b = new byte[4096];
                 sttListener.sttEventReceived(new RecognitionStartEvent());
@@ -250,24 +304,49 @@ public class VoskSTTService implements STTService {
                         trySleep(100);
                         continue;
                     }
+                    if (nbytes < 0) {
+                        logger.debug("Stops listening, end of audio stream");
+                        break;
+                    }
                     if (recognizer.acceptWaveForm(b, nbytes)) {
                         lastInputTime = System.currentTimeMillis();
+                        lastPartial = "";
+                        pendingAudio = false;
                         var result = recognizer.getResult();
                         logger.debug("Result: {}", result);
-                        ObjectMapper mapper = new ObjectMapper();
-                        var json = mapper.readTree(result);
-                        transcriptBuilder.append(json.get("text").asText()).append(" ");
+                        transcriptBuilder.append(mapper.readTree(result).path("text").asText()).append(" ");
                         if (config.singleUtteranceMode) {
                             break;
                         }
                     } else {
-                        logger.debug("Partial: {}", recognizer.getPartialResult());
+                        pendingAudio = true;
+                        String partial = mapper.readTree(recognizer.getPartialResult()).path("partial").asText();
+                        if (!partial.equals(lastPartial)) {
+                            // The transcription is progressing, so the speaker is not silent
+                            lastInputTime = System.currentTimeMillis();
+                            lastPartial = partial;
+                            logger.debug("Partial: {}", partial);
+                            if (!speechStarted && !partial.isBlank()) {
+                                speechStarted = true;
+                                logger.debug("Speech detected after {} ms", lastInputTime - startTime);
+                                sttListener.sttEventReceived(new SpeechStartEvent());
+                            }
+                        }
                     }
                 }
                 if (!aborted.get()) {
+                    if (pendingAudio) {
+                        // Flush the audio accepted since the last result
+                        var result = recognizer.getFinalResult();
+                        logger.debug("Result: {}", result);
+                        transcriptBuilder.append(mapper.readTree(result).path("text").asText()).append(" ");
+                    }
+                    if (speechStarted) {
+                        sttListener.sttEventReceived(new SpeechStopEvent());
+                    }
                     sttListener.sttEventReceived(new RecognitionStopEvent());
                     var transcript = transcriptBuilder.toString().trim();
-                    logger.debug("Final: {}", transcript);
+                    logger.debug("Final: {} ({} ms)", transcript, System.currentTimeMillis() - startTime);
                     if (!transcript.isBlank()) {
                         sttListener.sttEventReceived(new SpeechRecognitionEvent(transcript, 1F));
                     } else {
@@ -293,11 +372,14 @@ public class VoskSTTService implements STTService {
                     sttListener.sttEventReceived(new SpeechRecognitionErrorEvent(config.errorMessage));
                 }
             } finally {
-                if (recognizer != null) {
-                    recognizer.close();
-                }
-                if (!config.preloadModel && model != null) {
-                    model.close();
+                if (recognizerPool != null) {
+                    if (recognizer != null) {
+                        recognizerPool.release(recognizer, frequency, grammar);
+                    }
+                    if (!preloaded) {
+                        recognizerPool.close();
+                        recognizerPool.getModel().close();
+                    }
                 }
             }
             try {